@@ -0,0 +1,44 @@
+package com.example.controller;
+
+import com.example.dto.UserCreateRequest;
+import com.example.dto.UserResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import java.util.List;
+
+/**
+ * AppCDS 학습 실행용 샘플 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/users")
+public class UserController {
+
+    @GetMapping("/{id}")
+    public ResponseEntity<UserResponse> getUser(@PathVariable Long id) {
+        return ResponseEntity.ok(null);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<UserResponse>> getUsers(@RequestParam(required = false) String name,
+                                                       @RequestHeader("Authorization") String token) {
+        return ResponseEntity.ok(List.of());
+    }
+
+    @PostMapping
+    public ResponseEntity<UserResponse> createUser(@Valid @RequestBody UserCreateRequest request) {
+        return ResponseEntity.ok(null);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<UserResponse> updateUser(@PathVariable Long id,
+                                                   @Valid @RequestBody UserCreateRequest request) throws IllegalStateException {
+        return ResponseEntity.ok(null);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * AppCDS 학습 실행용 샘플 요청 DTO
+ */
+public class UserCreateRequest {
+
+    @NotBlank(message = "이름은 필수입니다")
+    @Size(max = 20)
+    private String name;
+
+    /** 이메일 주소 */
+    @Email
+    private String email;
+
+    private Integer age;
+
+    private java.util.List<String> roles;
+}
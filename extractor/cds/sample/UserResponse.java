@@ -0,0 +1,21 @@
+package com.example.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * AppCDS 학습 실행용 샘플 응답 DTO
+ */
+public class UserResponse {
+
+    @Schema(description = "사용자 ID")
+    private Long id;
+
+    private String name;
+
+    private Map<String, Object> attributes;
+
+    private LocalDateTime createdAt;
+}
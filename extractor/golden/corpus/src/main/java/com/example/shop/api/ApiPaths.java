@@ -0,0 +1,18 @@
+package com.example.shop.api;
+
+public final class ApiPaths {
+    public static final String API = "/api";
+    public static final String V1 = API + "/v1";
+    public static final String PRODUCTS = V1 + "/products";
+    public static final String ORDERS = V1 + "/orders";
+    public static final String STORES = "/stores";
+    public static final String[] STORE_SEARCH = {STORES + "/search", "/search/stores"};
+
+    public static final class Admin {
+        public static final String BASE = API + "/admin";
+        public static final String USERS = BASE + "/users";
+    }
+
+    private ApiPaths() {
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.shop.api;
+
+import com.example.shop.dto.ReviewDto;
+import java.util.List;
+import org.springframework.web.bind.annotation.*;
+
+@RequestMapping(ApiPaths.V1 + "/reviews")
+public interface ReviewApi {
+
+    @GetMapping("/{reviewId}")
+    ReviewDto get(@PathVariable Long reviewId);
+
+    @PostMapping
+    ReviewDto create(@RequestBody ReviewDto review);
+
+    @GetMapping
+    List<ReviewDto> list(@RequestParam(defaultValue = "0") int page);
+}
@@ -0,0 +1,10 @@
+package com.example.shop.common;
+
+import java.util.List;
+
+public class PageResponse<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private long totalElements;
+}
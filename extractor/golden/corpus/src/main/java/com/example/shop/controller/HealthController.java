@@ -0,0 +1,29 @@
+package com.example.shop.controller;
+
+import java.util.Map;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping({"", "/internal"})
+public class HealthController {
+
+    @GetMapping("/health")
+    public Map<String, Object> health() {
+        return Map.of("status", "UP");
+    }
+
+    @GetMapping("/banner")
+    public String banner() {
+        return """
+            shop \
+            service \
+            v1""";
+    }
+
+    @GetMapping("/ping")
+    public String ping() {
+        return "pong";
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.shop.controller;
+
+import com.example.shop.dto.v1.UserDto;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+@Controller
+@RequestMapping(value = "/legacy/users")
+public class LegacyUserController {
+
+    @ResponseBody
+    @RequestMapping(value = "/{id}", method = RequestMethod.GET)
+    public UserDto find(@PathVariable Long id) {
+        return null;
+    }
+
+    @ResponseBody
+    @PostMapping("/{id}")
+    public UserDto update(@PathVariable Long id, @RequestBody UserDto user) {
+        return null;
+    }
+
+    @GetMapping("/{id}")
+    public String view(@PathVariable Long id) {
+        return "user/view";
+    }
+
+    @ResponseBody
+    @RequestMapping(value = "/{id}", method = RequestMethod.DELETE)
+    public void remove(@PathVariable Long id) {
+    }
+
+    @ResponseBody
+    @RequestMapping(value = "/{id:\\d+}/profile", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public UserDto profile(@PathVariable Long id) {
+        return null;
+    }
+
+    @ResponseBody
+    @GetMapping("/{login:[a-z]+}/profile")
+    public UserDto profileByLogin(@PathVariable String login) {
+        return null;
+    }
+
+    @ResponseBody
+    @PutMapping("/{login:[a-z]+}/profile")
+    public UserDto updateProfileByLogin(@PathVariable String login, @RequestBody UserDto user) {
+        return null;
+    }
+}
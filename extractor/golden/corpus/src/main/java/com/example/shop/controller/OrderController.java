@@ -0,0 +1,56 @@
+package com.example.shop.controller;
+
+import static com.example.shop.api.ApiPaths.ORDERS;
+
+import com.example.shop.dto.OrderResponse;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping(ORDERS)
+public class OrderController {
+
+    @PostMapping
+    public ResponseEntity<OrderResponse> place(@RequestBody OrderCreateRequest request,
+                                               @RequestHeader("X-Request-Id") String requestId) {
+        return null;
+    }
+
+    @GetMapping("/{orderId}")
+    public OrderResponse get(@PathVariable("orderId") Long id) {
+        return null;
+    }
+
+    @GetMapping({"/mine", "/me"})
+    public List<OrderResponse> mine(@RequestParam(name = "status", required = false) OrderResponse.Status status) {
+        return null;
+    }
+
+    @PostMapping("/{orderId}/cancel")
+    public ResponseEntity<OrderResponse> cancel(@PathVariable Long orderId, @RequestBody CancelRequest request) {
+        return null;
+    }
+
+    public static class CancelRequest {
+        @NotNull
+        private String reason;
+    }
+}
+
+class OrderCreateRequest {
+    @NotNull
+    private List<OrderLineRequest> lines;
+
+    private String couponCode;
+}
+
+class OrderLineRequest {
+    @NotNull
+    private Long productId;
+
+    @Min(1)
+    private int quantity;
+}
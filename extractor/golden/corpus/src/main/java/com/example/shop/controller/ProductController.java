@@ -0,0 +1,57 @@
+package com.example.shop.controller;
+
+import com.example.shop.api.ApiPaths;
+import com.example.shop.common.PageResponse;
+import com.example.shop.dto.ProductCreateRequest;
+import com.example.shop.dto.ProductResponse;
+import com.example.shop.exception.ProductNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Product", description = "상품 API")
+@RestController
+@RequestMapping(ApiPaths.PRODUCTS)
+public class ProductController {
+    private static final String BY_ID = "/{productId}";
+
+    @Operation(summary = "상품 목록 조회", description = "페이지 단위로 상품 목록을 조회합니다")
+    @GetMapping
+    public ResponseEntity<PageResponse<ProductResponse>> list(
+            @Parameter(description = "페이지 번호") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+        return null;
+    }
+
+    @GetMapping(BY_ID)
+    public ResponseEntity<ProductResponse> get(@PathVariable Long productId) throws ProductNotFoundException {
+        return null;
+    }
+
+    @GetMapping(value = BY_ID + "/related")
+    public ResponseEntity<Map<String, List<ProductResponse>>> related(@PathVariable Long productId,
+                                                                      @RequestParam(required = false) String category) {
+        return null;
+    }
+
+    @PostMapping
+    public ResponseEntity<ProductResponse> create(@Valid @RequestBody ProductCreateRequest request) {
+        return null;
+    }
+
+    @PutMapping(path = BY_ID)
+    public ResponseEntity<ProductResponse> update(@PathVariable Long productId,
+                                                  @Valid @RequestBody ProductCreateRequest request) {
+        return null;
+    }
+
+    @DeleteMapping(BY_ID)
+    public ResponseEntity<Void> delete(@PathVariable Long productId) {
+        return null;
+    }
+}
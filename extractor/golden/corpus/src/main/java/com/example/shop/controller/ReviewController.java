@@ -0,0 +1,43 @@
+package com.example.shop.controller;
+
+import com.example.shop.api.ReviewApi;
+import com.example.shop.controller.support.CrudController;
+import com.example.shop.dto.ReviewDto;
+import java.util.List;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+public class ReviewController extends CrudController<ReviewDto> implements ReviewApi {
+
+    @Override
+    public ReviewDto get(Long reviewId) {
+        return null;
+    }
+
+    @Override
+    public ReviewDto create(ReviewDto review) {
+        return null;
+    }
+
+    @Override
+    @GetMapping("/page")
+    public List<ReviewDto> list(@RequestParam(defaultValue = "1") int page) {
+        return null;
+    }
+
+    @Override
+    @DeleteMapping("/{id}/hide")
+    public void delete(@PathVariable Long id) {
+    }
+
+    @GetMapping("/by-title")
+    public List<ReviewDto> find(@RequestParam String title) {
+        return null;
+    }
+
+    @Override
+    @PostMapping("/drafts")
+    public ReviewDto save(@RequestBody ReviewDto body) {
+        return null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.shop.controller;
+
+import com.example.shop.api.ApiPaths;
+import com.example.shop.api.ShopEndpoint;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@ShopEndpoint
+public class StoreController {
+
+    @GetMapping(ApiPaths.STORES)
+    public List<String> stores() {
+        return null;
+    }
+
+    @GetMapping(ApiPaths.STORE_SEARCH)
+    public List<String> search(@RequestParam String keyword) {
+        return null;
+    }
+
+    @GetMapping("/stores/{storeId}")
+    public String store(@PathVariable String storeId) {
+        return null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.shop.controller.admin;
+
+import com.example.shop.api.ApiPaths;
+import com.example.shop.dto.v2.UserDto;
+import io.swagger.v3.oas.annotations.Hidden;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping(ApiPaths.Admin.USERS)
+public class AdminUserController {
+
+    @GetMapping
+    public ResponseEntity<List<UserDto>> list() {
+        return null;
+    }
+
+    @GetMapping("/{userId}")
+    public UserDto get(@PathVariable Long userId) {
+        return null;
+    }
+
+    @Hidden
+    @DeleteMapping("/{userId}")
+    public void delete(@PathVariable Long userId) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.shop.controller.support;
+
+import java.util.List;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+public abstract class CrudController<T> {
+
+    @GetMapping("/count")
+    public long count() {
+        return 0;
+    }
+
+    @DeleteMapping("/{id}")
+    public void delete(@PathVariable Long id) {
+    }
+
+    @GetMapping("/by-author")
+    public List<T> find(@RequestParam Long authorId) {
+        return null;
+    }
+
+    @PostMapping("/import")
+    public T save(@RequestBody T body) {
+        return null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.shop.dto;
+
+public class OrderItemResponse {
+    private Long productId;
+    private int quantity;
+    private ProductResponse product;
+}
@@ -0,0 +1,10 @@
+package com.example.shop.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record OrderResponse(Long id, Status status, List<OrderItemResponse> items, LocalDateTime orderedAt) {
+    public enum Status {
+        PENDING, PAID, SHIPPED, CANCELLED
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.shop.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.util.List;
+
+public class ProductCreateRequest {
+    @NotBlank
+    @Size(max = 100)
+    private String name;
+
+    @NotNull
+    @Positive
+    private BigDecimal price;
+
+    private List<TagDto> tags;
+}
@@ -0,0 +1,13 @@
+package com.example.shop.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+public class ProductResponse {
+    private Long id;
+    private String name;
+    private BigDecimal price;
+    private List<TagDto> tags;
+    private Map<String, List<String>> attributes;
+}
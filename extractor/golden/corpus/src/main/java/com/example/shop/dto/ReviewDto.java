@@ -0,0 +1,15 @@
+package com.example.shop.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "상품 리뷰")
+public class ReviewDto {
+    @Schema(description = "리뷰 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "별점", example = "5")
+    private int rating;
+
+    @Schema(description = "내용")
+    private String content;
+}
@@ -0,0 +1,12 @@
+package com.example.shop.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "상품 태그")
+public class TagDto {
+    @Schema(description = "태그 이름", example = "sale")
+    private String name;
+
+    @Schema(description = "태그 색상", example = "#ff0000")
+    private String color;
+}
@@ -0,0 +1,6 @@
+package com.example.shop.dto.v1;
+
+public class UserDto {
+    private Long id;
+    private String name;
+}
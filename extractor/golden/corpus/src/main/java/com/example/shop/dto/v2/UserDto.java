@@ -0,0 +1,11 @@
+package com.example.shop.dto.v2;
+
+import jakarta.validation.constraints.Email;
+
+public class UserDto {
+    private Long id;
+    private String displayName;
+
+    @Email
+    private String email;
+}
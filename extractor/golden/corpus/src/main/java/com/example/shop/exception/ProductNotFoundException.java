@@ -0,0 +1,7 @@
+package com.example.shop.exception;
+
+public class ProductNotFoundException extends RuntimeException {
+    public ProductNotFoundException(Long id) {
+        super("Product not found: " + id);
+    }
+}
@@ -0,0 +1,448 @@
+package io.swaggeragent.extractor;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.javaparser.JavaParser;
+import io.swaggeragent.extractor.model.BatchProject;
+import io.swaggeragent.extractor.model.BatchProjectResult;
+import io.swaggeragent.extractor.model.ControllerInfo;
+import io.swaggeragent.extractor.model.DtoInfo;
+import io.swaggeragent.extractor.model.EndpointsInfo;
+import io.swaggeragent.extractor.model.FileExtractionResult;
+import io.swaggeragent.extractor.model.SkippedFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 골든 코퍼스 동등성 검사 (gradle goldenCheck) / 성능 회귀 검사 (gradle goldenPerfCheck)
+ *
+ * golden/corpus의 컨트롤러/DTO 소스(중첩 제네릭, 상수 경로, 같은 이름의 DTO, 컨트롤러+DTO 혼합 파일 포함)를
+ * 모든 실행 방식으로 추출하여 golden/expected의 기대 결과와 비교
+ * - 실행 방식: 순차 전체 스캔, --files, 샤드 분할 후 병합, --stdin(메모리 소스), batch,
+ *   추출기 재사용, EndpointExtractor 발행(한 파일씩 요청, 동시 구독), 정규화 형식(--layout=normalized) 쓰기 후 읽기,
+ *   시간 예산(--budget)으로 만든 부분 결과에 남은 파일(pendingFiles)을 이어서 추출하여 병합(complete),
+ *   선언부 스캐너 엔진(--engine=scanner, 상수 참조가 있는 파일만 AST로 다시 처리)
+ * - extractedAt은 제거하고, 코퍼스 절대 경로는 코퍼스 기준 상대 경로로 바꾸어 비교
+ * - --perf: 순차 전체 스캔의 실행 시간(최솟값)/할당량(중앙값)이 golden/baseline.json보다 허용 배율 이상 늘면 실패
+ *   (실행 시간은 다른 프로세스의 간섭을 덜 받도록 최솟값 사용, 기준값이 측정한 장비에 묶이므로 check와 분리)
+ *
+ * 사용법: GoldenCorpusCheck <golden 디렉토리> [--report=<파일>] [--perf] [--update]
+ *   --update: 현재 결과로 기대 결과를 다시 생성 (--perf와 함께 쓰면 성능 기준값을 다시 생성)
+ *   -Dgolden.maxTimeRatio (기본 2.0), -Dgolden.maxAllocRatio (기본 1.25): 허용 배율
+ */
+public class GoldenCorpusCheck {
+    // JIT 컴파일이 끝날 때까지 충분히 반복한 뒤 측정
+    private static final int WARMUP_ROUNDS = 40;
+    private static final int MEASURE_ROUNDS = 20;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Path goldenDir;
+    private final Path corpusRoot;
+    private final Path sourceDir;
+    private final List<Path> controllerSources;
+
+    private GoldenCorpusCheck(Path goldenDir) throws IOException {
+        this.goldenDir = goldenDir;
+        this.corpusRoot = goldenDir.resolve("corpus");
+        this.sourceDir = corpusRoot.resolve("src/main/java");
+        try (Stream<Path> files = Files.walk(sourceDir)) {
+            this.controllerSources = files.filter(ControllerExtractor::isControllerSource).sorted().collect(Collectors.toList());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("사용법: GoldenCorpusCheck <golden 디렉토리> [--report=<파일>] [--perf] [--update]");
+            System.exit(1);
+        }
+        Path reportFile = null;
+        boolean update = false;
+        boolean perf = false;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].startsWith("--report=")) {
+                reportFile = Paths.get(args[i].substring(9));
+            } else if (args[i].equals("--update")) {
+                update = true;
+            } else if (args[i].equals("--perf")) {
+                perf = true;
+            }
+        }
+
+        GoldenCorpusCheck check = new GoldenCorpusCheck(Paths.get(args[0]).toAbsolutePath().normalize());
+        List<String> failures = perf
+            ? (update ? check.updateBaseline() : check.verifyPerformance())
+            : (update ? check.update() : check.verify());
+        if (reportFile != null) {
+            Files.createDirectories(reportFile.toAbsolutePath().getParent());
+            Files.writeString(reportFile, failures.isEmpty() ? "OK\n" : String.join("\n", failures) + "\n");
+        }
+        if (!failures.isEmpty()) {
+            System.err.println("❌ 골든 코퍼스 검사 실패 " + failures.size() + "건");
+            failures.forEach(failure -> System.err.println("   - " + failure));
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 모든 실행 방식의 결과를 기대 결과와 비교
+     *
+     * @return 실패 내용 (비어 있으면 통과)
+     */
+    private List<String> verify() throws Exception {
+        List<String> failures = new ArrayList<>();
+        JsonNode expected = MAPPER.readTree(goldenDir.resolve("expected/endpoints.json").toFile());
+        for (Map.Entry<String, Mode> mode : modes().entrySet()) {
+            String difference = firstDifference(expected, normalize(mode.getValue().run()), "");
+            System.out.println((difference == null ? "✅ " : "❌ ") + mode.getKey());
+            if (difference != null) {
+                failures.add(mode.getKey() + " 결과가 기대 결과와 다릅니다: " + difference);
+            }
+        }
+
+        JsonNode expectedOpenApi = MAPPER.readTree(goldenDir.resolve("expected/openapi.json").toFile());
+        String difference = firstDifference(expectedOpenApi, openApi(sequential()), "");
+        System.out.println((difference == null ? "✅ " : "❌ ") + "openapi");
+        if (difference != null) {
+            failures.add("OpenAPI 문서가 기대 결과와 다릅니다: " + difference);
+        }
+        return failures;
+    }
+
+    /**
+     * 순차 전체 스캔의 실행 시간/할당량을 golden/baseline.json과 비교
+     *
+     * @return 실패 내용 (비어 있으면 통과)
+     */
+    private List<String> verifyPerformance() throws Exception {
+        List<String> failures = new ArrayList<>();
+        JsonNode baseline = MAPPER.readTree(goldenDir.resolve("baseline.json").toFile());
+        Measurement measured = measure();
+        double maxTimeRatio = Double.parseDouble(System.getProperty("golden.maxTimeRatio", "2.0"));
+        double maxAllocRatio = Double.parseDouble(System.getProperty("golden.maxAllocRatio", "1.25"));
+        double timeRatio = (double) measured.wallMicros / baseline.get("wallMicros").asLong();
+        double allocRatio = (double) measured.allocatedBytes / baseline.get("allocatedBytes").asLong();
+        System.out.printf("⏱️  순차 전체 스캔: %dus (기준 대비 %.2f배), 할당 %d bytes (기준 대비 %.2f배)%n",
+            measured.wallMicros, timeRatio, measured.allocatedBytes, allocRatio);
+        if (timeRatio > maxTimeRatio) {
+            failures.add(String.format("실행 시간이 기준값의 %.2f배로 허용 배율 %.2f를 넘었습니다", timeRatio, maxTimeRatio));
+        }
+        if (allocRatio > maxAllocRatio) {
+            failures.add(String.format("할당량이 기준값의 %.2f배로 허용 배율 %.2f를 넘었습니다", allocRatio, maxAllocRatio));
+        }
+        return failures;
+    }
+
+    /**
+     * 순차 전체 스캔 결과로 기대 결과를 다시 생성 (다른 실행 방식이 다르면 생성하지 않음)
+     */
+    private List<String> update() throws Exception {
+        JsonNode expected = normalize(json(sequential()));
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<String, Mode> mode : modes().entrySet()) {
+            String difference = firstDifference(expected, normalize(mode.getValue().run()), "");
+            if (difference != null) {
+                failures.add(mode.getKey() + " 결과가 순차 전체 스캔과 다릅니다: " + difference);
+            }
+        }
+        if (!failures.isEmpty()) {
+            return failures;
+        }
+
+        Files.createDirectories(goldenDir.resolve("expected"));
+        MAPPER.writeValue(goldenDir.resolve("expected/endpoints.json").toFile(), expected);
+        MAPPER.writeValue(goldenDir.resolve("expected/openapi.json").toFile(), openApi(sequential()));
+        System.out.println("📝 기대 결과를 갱신했습니다");
+        return failures;
+    }
+
+    /**
+     * 현재 장비에서 측정한 순차 전체 스캔의 실행 시간/할당량으로 성능 기준값을 다시 생성
+     */
+    private List<String> updateBaseline() throws Exception {
+        Measurement measured = measure();
+        ObjectNode baseline = MAPPER.createObjectNode();
+        baseline.put("files", controllerSources.size());
+        baseline.put("wallMicros", measured.wallMicros);
+        baseline.put("allocatedBytes", measured.allocatedBytes);
+        baseline.put("javaVersion", System.getProperty("java.version"));
+        MAPPER.writeValue(goldenDir.resolve("baseline.json").toFile(), baseline);
+        System.out.printf("📝 성능 기준값을 갱신했습니다 (%dus, %d bytes)%n", measured.wallMicros, measured.allocatedBytes);
+        return Collections.emptyList();
+    }
+
+    /**
+     * 비교할 실행 방식 (모두 순차 전체 스캔과 같은 결과를 내야 함)
+     */
+    private Map<String, Mode> modes() {
+        Map<String, Mode> modes = new LinkedHashMap<>();
+        modes.put("sequential", () -> json(sequential()));
+        modes.put("files", () -> json(newExtractor().extractFromFiles(
+            controllerSources.stream().map(Path::toString).collect(Collectors.toList()))));
+        modes.put("shard-merge", () -> {
+            List<EndpointsInfo> parts = new ArrayList<>();
+            for (int shard = 0; shard < 3; shard++) {
+                ControllerExtractor extractor = newExtractor();
+                extractor.setShard(shard, 3);
+                parts.add(extractor.extract(sourceDir.toString()));
+            }
+            return json(EndpointsInfo.merge(parts));
+        });
+        modes.put("stdin", () -> {
+            ControllerExtractor extractor = newExtractor();
+            List<EndpointsInfo> parts = new ArrayList<>();
+            for (Path source : controllerSources) {
+                parts.add(extractor.extractFromSource(source.toString(), Files.readString(source)));
+            }
+            return json(EndpointsInfo.merge(parts));
+        });
+        modes.put("batch", () -> {
+            Path outputDir = Files.createTempDirectory("golden-batch");
+            Path output = outputDir.resolve("endpoints.json");
+            try {
+                List<BatchProjectResult> results = new BatchExtractor(1, ControllerExtractor.DEFAULT_MAX_FILE_BYTES,
+                    ControllerExtractor.DEFAULT_FILE_TIMEOUT_MILLIS).run(List.of(BatchProject.builder()
+                    .projectRoot(corpusRoot.toString())
+                    .sourcePath(sourceDir.toString())
+                    .output(output.toString())
+                    .build()));
+                if (results.get(0).getError() != null) {
+                    throw new IllegalStateException(results.get(0).getError());
+                }
+                return MAPPER.readTree(output.toFile());
+            } finally {
+                try (Stream<Path> files = Files.walk(outputDir)) {
+                    for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+        });
+        modes.put("reuse", () -> {
+            // 같은 추출기로 두 번 추출해도 앞선 결과가 섞이지 않아야 함
+            ControllerExtractor extractor = newExtractor();
+            extractor.extract(sourceDir.toString());
+            return json(extractor.extract(sourceDir.toString()));
+        });
+        modes.put("budget-complete", () -> {
+            ControllerExtractor extractor = newExtractor();
+            extractor.setBudget(1);
+            EndpointsInfo partial = extractor.extract(sourceDir.toString());
+            EndpointsInfo rest = newExtractor().extractFromFiles(partial.getPendingFiles());
+            partial.setPendingFiles(List.of());
+            return json(EndpointsInfo.merge(List.of(partial, rest)));
+        });
+        modes.put("scanner", () -> {
+            ControllerExtractor extractor = newExtractor();
+            extractor.setEngine(ControllerExtractor.ENGINE_SCANNER);
+            EndpointsInfo result = extractor.extract(sourceDir.toString());
+            if (extractor.getScannedFileCount() == 0) {
+                throw new IllegalStateException("scanner 엔진이 처리한 파일이 없습니다 (AST로 다시 처리한 파일: "
+                    + extractor.getFallbackFileCount() + "개)");
+            }
+            return json(result);
+        });
+        modes.put("normalized", () -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            NormalizedLayout.write(sequential(), out, MAPPER);
+            try (JsonParser parser = MAPPER.getFactory().createParser(out.toByteArray())) {
+                parser.nextToken();
+                parser.nextToken();
+                return json(NormalizedLayout.read(MAPPER, parser));
+            }
+        });
+        modes.put("publisher", () -> {
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                EndpointExtractor library = new EndpointExtractor(corpusRoot, null, ControllerExtractor.DEFAULT_MAX_FILE_BYTES,
+                    ControllerExtractor.DEFAULT_FILE_TIMEOUT_MILLIS, executor);
+                // 한 파일씩 요청하는 구독과 한 번에 모두 요청하는 구독을 동시에 실행하여 둘 다 같은 결과인지 확인
+                CompletableFuture<EndpointsInfo> oneByOne = new CompletableFuture<>();
+                library.publish(sourceDir.toString()).subscribe(new OneByOneSubscriber(oneByOne));
+                JsonNode all = json(library.extract(sourceDir.toString()));
+                JsonNode single = json(oneByOne.get(1, TimeUnit.MINUTES));
+                String difference = firstDifference(normalize(all.deepCopy()), normalize(single.deepCopy()), "");
+                if (difference != null) {
+                    throw new IllegalStateException("한 파일씩 요청한 구독과 모두 요청한 구독의 결과가 다릅니다: " + difference);
+                }
+                return single;
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+        return modes;
+    }
+
+    /**
+     * request(1)로 한 파일씩 받아 모은 뒤 하나의 결과로 정리하는 구독자
+     */
+    private static class OneByOneSubscriber implements Flow.Subscriber<FileExtractionResult> {
+        private final CompletableFuture<EndpointsInfo> result;
+        private final List<ControllerInfo> controllers = new ArrayList<>();
+        private final List<DtoInfo> dtoClasses = new ArrayList<>();
+        private final List<SkippedFile> skippedFiles = new ArrayList<>();
+        private Flow.Subscription subscription;
+
+        private OneByOneSubscriber(CompletableFuture<EndpointsInfo> result) {
+            this.result = result;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(FileExtractionResult file) {
+            controllers.addAll(file.getControllers());
+            dtoClasses.addAll(file.getDtoClasses());
+            if (file.getSkippedFile() != null) {
+                skippedFiles.add(file.getSkippedFile());
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            result.completeExceptionally(error);
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(EndpointsInfo.canonical(controllers, dtoClasses, skippedFiles));
+        }
+    }
+
+    private EndpointsInfo sequential() throws IOException {
+        return newExtractor().extract(sourceDir.toString());
+    }
+
+    private ControllerExtractor newExtractor() {
+        ControllerExtractor extractor = new ControllerExtractor(new JavaParser(), new ArrayList<>(), new HashSet<>());
+        extractor.setProjectRoot(corpusRoot);
+        return extractor;
+    }
+
+    /**
+     * 순차 전체 스캔의 실행 시간 최솟값/할당량 중앙값 (워밍업 후 측정, 할당량은 현재 스레드 기준)
+     */
+    private Measurement measure() throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sequential();
+        }
+        long[] wallMicros = new long[MEASURE_ROUNDS];
+        long[] allocatedBytes = new long[MEASURE_ROUNDS];
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            sequential();
+            wallMicros[i] = (System.nanoTime() - start) / 1_000;
+            allocatedBytes[i] = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        }
+        return new Measurement(Arrays.stream(wallMicros).min().orElse(0), median(allocatedBytes));
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private JsonNode openApi(EndpointsInfo data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OpenApiWriter.write(data, out, false, "golden");
+        return normalize(MAPPER.readTree(out.toByteArray()));
+    }
+
+    /**
+     * 파일로 저장했다가 읽은 것과 같은 JSON 트리로 변환 (숫자 타입 등을 파일 비교와 맞춤)
+     */
+    private static JsonNode json(EndpointsInfo data) throws IOException {
+        return MAPPER.readTree(MAPPER.writeValueAsBytes(data));
+    }
+
+    /**
+     * 실행마다 달라지는 값 정리: extractedAt 제거, 코퍼스 절대 경로를 상대 경로('/' 구분)로 변환
+     */
+    private JsonNode normalize(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode object = (ObjectNode) node;
+            object.remove("extractedAt");
+            for (Iterator<Map.Entry<String, JsonNode>> it = object.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = it.next();
+                field.setValue(normalize(field.getValue()));
+            }
+        } else if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                ((ArrayNode) node).set(i, normalize(node.get(i)));
+            }
+        } else if (node.isTextual()) {
+            String prefix = corpusRoot.toString() + File.separator;
+            if (node.asText().startsWith(prefix)) {
+                return TextNode.valueOf(node.asText().substring(prefix.length()).replace('\\', '/'));
+            }
+        }
+        return node;
+    }
+
+    /**
+     * 두 JSON 트리의 첫 번째 차이 (같으면 null)
+     */
+    private static String firstDifference(JsonNode expected, JsonNode actual, String path) {
+        if (expected.equals(actual)) {
+            return null;
+        }
+        if (expected.isObject() && actual.isObject()) {
+            Set<String> names = new TreeSet<>();
+            expected.fieldNames().forEachRemaining(names::add);
+            actual.fieldNames().forEachRemaining(names::add);
+            for (String name : names) {
+                if (!expected.has(name) || !actual.has(name)) {
+                    return path + "/" + name + (expected.has(name) ? " 누락" : " 추가됨");
+                }
+                String difference = firstDifference(expected.get(name), actual.get(name), path + "/" + name);
+                if (difference != null) return difference;
+            }
+        }
+        if (expected.isArray() && actual.isArray()) {
+            for (int i = 0; i < Math.min(expected.size(), actual.size()); i++) {
+                String difference = firstDifference(expected.get(i), actual.get(i), path + "/" + i);
+                if (difference != null) return difference;
+            }
+            return path + " 길이 " + expected.size() + " -> " + actual.size();
+        }
+        return (path.isEmpty() ? "/" : path) + ": " + expected + " -> " + actual;
+    }
+
+    @FunctionalInterface
+    private interface Mode {
+        JsonNode run() throws Exception;
+    }
+
+    private static class Measurement {
+        private final long wallMicros;
+        private final long allocatedBytes;
+
+        private Measurement(long wallMicros, long allocatedBytes) {
+            this.wallMicros = wallMicros;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
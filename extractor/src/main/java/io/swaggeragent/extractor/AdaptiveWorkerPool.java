@@ -0,0 +1,263 @@
+package io.swaggeragent.extractor;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 컨테이너 한도에 맞춰 시작하고 실행 중에 동시 실행 수를 조정하는 작업 풀 (batch, apply)
+ *
+ * CPU 쿼터가 작은 CI 컨테이너에서는 고정 스레드 수가 과다 구독이 되고, 코어가 많은 서버에서는 남으므로
+ * - 시작 수준: 컨테이너 기준 CPU 수(availableProcessors, cgroup 쿼터 반영)와 최대 힙 / 작업당 힙 추정치 중 작은 값
+ * - 상한: CPU 수의 2배와 힙 한도 중 작은 값 (파일 쓰기 대기로 CPU가 남는 경우 대비)
+ * - 표본 구간마다 GC 시간 비율/GC 후 힙 사용률이 높으면 한 단계 줄이고,
+ *   그렇지 않으면 처리량(완료 작업/초)을 직전 구간과 비교하여 늘리거나 줄이는 방향을 정함 (대기 작업이 없으면 늘리지 않음)
+ * - 스레드는 상한만큼 만들되 동시에 작업을 실행하는 수를 현재 수준으로 제한
+ * - 스레드 수를 직접 지정하면 그 수로 고정
+ */
+public class AdaptiveWorkerPool {
+    // 작업 하나(파서 + 한 파일/프로젝트의 AST와 결과)가 쓰는 힙 추정치
+    static final long WORKER_HEAP_BYTES = 64L * 1024 * 1024;
+
+    // 조정 판단 주기와 기준
+    private static final long SAMPLE_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final double GC_PRESSURE_RATIO = 0.2;
+    private static final double HEAP_PRESSURE_RATIO = 0.85;
+    private static final double THROUGHPUT_TOLERANCE = 0.05;
+
+    private final int initialLevel;
+    private final int limit;
+    private final boolean adaptive;
+
+    // 현재 수준과 실행 중인 작업 수 (this로 동기화)
+    private int level;
+    private int active;
+
+    // 보고용 최저/최고 수준과 조정 횟수
+    private int minLevel;
+    private int maxLevel;
+    private int adjustments;
+
+    // 표본 구간 시작 시점의 시각/완료 수/GC 누적 시간과 직전 구간 처리량, 직전 조정 방향
+    private long windowStart;
+    private int windowCompleted;
+    private long windowGcMillis;
+    private double previousThroughput = -1;
+    private int direction = 1;
+
+    private AdaptiveWorkerPool(int initialLevel, int limit, boolean adaptive) {
+        this.initialLevel = initialLevel;
+        this.limit = limit;
+        this.adaptive = adaptive;
+        this.level = initialLevel;
+        this.minLevel = initialLevel;
+        this.maxLevel = initialLevel;
+    }
+
+    /**
+     * 작업 풀 생성
+     *
+     * @param threads 0 이하이면 컨테이너 CPU/힙 한도로 시작하여 조정, 그 외에는 지정한 수로 고정
+     */
+    public static AdaptiveWorkerPool create(int threads) {
+        if (threads > 0) {
+            return new AdaptiveWorkerPool(threads, threads, false);
+        }
+        int cpus = Runtime.getRuntime().availableProcessors();
+        int heapLimit = (int) Math.max(1, Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / WORKER_HEAP_BYTES));
+        return new AdaptiveWorkerPool(Math.min(cpus, heapLimit), Math.max(1, Math.min(cpus * 2, heapLimit)), true);
+    }
+
+    /**
+     * 작업들을 실행하고 모두 끝날 때까지 대기 (ExecutorService.invokeAll과 같이 입력 순서의 완료된 Future 반환)
+     */
+    public <T> List<Future<T>> invokeAll(List<? extends Callable<T>> tasks) throws InterruptedException {
+        List<FutureTask<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(new FutureTask<>(task));
+        }
+        if (futures.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        int threads = Math.min(limit, futures.size());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            synchronized (this) {
+                startWindow(System.nanoTime());
+            }
+            List<Future<?>> workers = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    work(futures, next);
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    // 작업의 예외는 FutureTask에 담기므로 여기까지 오지 않음
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+            return new ArrayList<>(futures);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 작업 스레드: 허용 수준 안에서 다음 작업을 가져와 실행
+     */
+    private <T> void work(List<FutureTask<T>> futures, AtomicInteger next) throws InterruptedException {
+        while (true) {
+            acquire();
+            int index = next.getAndIncrement();
+            if (index >= futures.size()) {
+                release(0, false);
+                return;
+            }
+            try {
+                futures.get(index).run();
+            } finally {
+                release(Math.max(0, futures.size() - next.get()), true);
+            }
+        }
+    }
+
+    private synchronized void acquire() throws InterruptedException {
+        while (active >= level) {
+            wait();
+        }
+        active++;
+    }
+
+    /**
+     * @param queued 아직 시작하지 않은 작업 수
+     */
+    private synchronized void release(int queued, boolean completed) {
+        active--;
+        if (completed) {
+            windowCompleted++;
+            if (adaptive) {
+                adjust(queued);
+            }
+        }
+        notifyAll();
+    }
+
+    /**
+     * 표본 구간이 지났으면 GC 압력/처리량/대기 작업 수로 수준 조정
+     */
+    private void adjust(int queued) {
+        long now = System.nanoTime();
+        long elapsed = now - windowStart;
+        if (elapsed < SAMPLE_NANOS) {
+            return;
+        }
+        double throughput = windowCompleted * 1e9 / elapsed;
+        double gcRatio = (gcMillis() - windowGcMillis) / (elapsed / 1e6);
+        boolean memoryPressure = gcRatio > GC_PRESSURE_RATIO || oldGenerationRatio() > HEAP_PRESSURE_RATIO;
+
+        int target = level;
+        if (memoryPressure) {
+            target = level - 1;
+            direction = -1;
+        } else if (queued > 0) {
+            // 처리량이 떨어졌으면 방향을 바꾸고, 오르거나 처음이면 같은 방향으로 계속, 비슷하면 유지
+            // (대기 작업이 없으면 늘려도 쓸 일이 없으므로 그대로 둠)
+            if (previousThroughput >= 0 && throughput < previousThroughput * (1 - THROUGHPUT_TOLERANCE)) {
+                direction = -direction;
+                target = level + direction;
+            } else if (previousThroughput < 0 || throughput > previousThroughput * (1 + THROUGHPUT_TOLERANCE)) {
+                target = level + direction;
+            }
+        }
+        target = Math.max(1, Math.min(limit, target));
+        if (target != level) {
+            level = target;
+            adjustments++;
+            minLevel = Math.min(minLevel, level);
+            maxLevel = Math.max(maxLevel, level);
+        }
+        previousThroughput = throughput;
+        startWindow(now);
+    }
+
+    private void startWindow(long now) {
+        windowStart = now;
+        windowCompleted = 0;
+        windowGcMillis = gcMillis();
+    }
+
+    /**
+     * 마지막 GC 직후 오래된 세대(사용량 임계값을 지원하는 힙 영역)의 사용률 (GC 전의 일시적인 사용량은 제외)
+     */
+    private static double oldGenerationRatio() {
+        double ratio = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage afterGc = pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported()
+                ? pool.getCollectionUsage() : null;
+            if (afterGc != null && afterGc.getMax() > 0) {
+                ratio = Math.max(ratio, (double) afterGc.getUsed() / afterGc.getMax());
+            }
+        }
+        return ratio;
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    public int getInitialLevel() {
+        return initialLevel;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public synchronized int getLevel() {
+        return level;
+    }
+
+    public synchronized int getMinLevel() {
+        return minLevel;
+    }
+
+    public synchronized int getMaxLevel() {
+        return maxLevel;
+    }
+
+    public synchronized int getAdjustments() {
+        return adjustments;
+    }
+
+    /**
+     * 실행 요약용 수준 설명
+     */
+    public synchronized String describe() {
+        if (!adaptive) {
+            return "동시 실행 " + level + "개 (고정)";
+        }
+        return "동시 실행 시작 " + initialLevel + "개 (CPU " + Runtime.getRuntime().availableProcessors()
+            + ", 힙 " + Runtime.getRuntime().maxMemory() / (1024 * 1024) + "MB, 상한 " + limit + "), 범위 "
+            + minLevel + "~" + maxLevel + ", 최종 " + level + " (조정 " + adjustments + "회)";
+    }
+}
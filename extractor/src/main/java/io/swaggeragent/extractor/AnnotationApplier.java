@@ -0,0 +1,358 @@
+package io.swaggeragent.extractor;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.nodeTypes.NodeWithAnnotations;
+import com.github.javaparser.printer.lexicalpreservation.LexicalPreservingPrinter;
+import io.swaggeragent.extractor.model.*;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 어노테이션 계획(JSON)을 소스 파일에 일괄 반영
+ *
+ * 계획에 포함된 클래스를 파일 단위로 묶어 병렬로 처리하고,
+ * LexicalPreservingPrinter로 변경된 노드만 다시 출력하여 기존 포맷/주석을 유지
+ * - 같은 이름의 어노테이션이 이미 있으면 계획의 값으로 교체, 없으면 추가
+ * - 사용된 OpenAPI 어노테이션/열거형의 import 자동 추가
+ * - 내용이 바뀐 파일만 임시 파일에 쓴 뒤 원자적으로 교체
+ * - 소스는 SourceLoader로 읽고(BOM, MS949, ISO-8859-1 감지) 읽은 인코딩과 BOM 그대로 다시 씀
+ * - 동시에 처리하는 파일 수는 AdaptiveWorkerPool이 컨테이너 한도와 처리량/GC 압력에 맞춰 정함
+ */
+public class AnnotationApplier {
+    // 단순명 -> import 할 정규화된 이름
+    private static final Map<String, String> OPENAPI_TYPES = Map.ofEntries(
+        Map.entry("Operation", "io.swagger.v3.oas.annotations.Operation"),
+        Map.entry("Parameter", "io.swagger.v3.oas.annotations.Parameter"),
+        Map.entry("Parameters", "io.swagger.v3.oas.annotations.Parameters"),
+        Map.entry("Hidden", "io.swagger.v3.oas.annotations.Hidden"),
+        Map.entry("ApiResponse", "io.swagger.v3.oas.annotations.responses.ApiResponse"),
+        Map.entry("ApiResponses", "io.swagger.v3.oas.annotations.responses.ApiResponses"),
+        Map.entry("Schema", "io.swagger.v3.oas.annotations.media.Schema"),
+        Map.entry("ArraySchema", "io.swagger.v3.oas.annotations.media.ArraySchema"),
+        Map.entry("Content", "io.swagger.v3.oas.annotations.media.Content"),
+        Map.entry("ExampleObject", "io.swagger.v3.oas.annotations.media.ExampleObject"),
+        Map.entry("Tag", "io.swagger.v3.oas.annotations.tags.Tag"),
+        Map.entry("Tags", "io.swagger.v3.oas.annotations.tags.Tags"),
+        Map.entry("SecurityRequirement", "io.swagger.v3.oas.annotations.security.SecurityRequirement"),
+        Map.entry("ParameterIn", "io.swagger.v3.oas.annotations.enums.ParameterIn")
+    );
+
+    private final SymbolIndex symbolIndex;
+
+    private final Path projectRoot;
+
+    private final AdaptiveWorkerPool pool;
+
+    // JavaParser 인스턴스는 스레드 안전하지 않으므로 작업 스레드별로 생성
+    private final ThreadLocal<JavaParser> parsers = ThreadLocal.withInitial(JavaParser::new);
+
+    // SourceLoader도 버퍼를 재사용하므로 작업 스레드별로 생성
+    private final ThreadLocal<SourceLoader> sourceLoaders = ThreadLocal.withInitial(
+        () -> new SourceLoader(parsers.get().getParserConfiguration().getCharacterEncoding()));
+
+    /**
+     * @param threads 동시에 처리할 파일 수 (0 이하이면 컨테이너 CPU/힙 한도로 시작하여 실행 중 조정)
+     */
+    public AnnotationApplier(SymbolIndex symbolIndex, Path projectRoot, int threads) {
+        this.symbolIndex = symbolIndex;
+        this.projectRoot = projectRoot;
+        this.pool = AdaptiveWorkerPool.create(threads);
+    }
+
+    /**
+     * 계획을 소스에 적용
+     *
+     * @param dryRun true면 파일을 쓰지 않고 변경될 파일만 집계
+     */
+    public ApplyResult apply(AnnotationPlan plan, boolean dryRun) throws InterruptedException {
+        long start = System.nanoTime();
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        List<String> changed = Collections.synchronizedList(new ArrayList<>());
+
+        // 심볼 인덱스 조회는 단일 스레드에서 먼저 끝내고 파일 단위로 묶음
+        Map<Path, List<ClassAnnotationPlan>> byFile = new LinkedHashMap<>();
+        List<ClassAnnotationPlan> classes = new ArrayList<>();
+        if (plan.getControllers() != null) classes.addAll(plan.getControllers());
+        if (plan.getDtoClasses() != null) classes.addAll(plan.getDtoClasses());
+        for (ClassAnnotationPlan classPlan : classes) {
+            Path file = resolveFile(classPlan);
+            if (file == null) {
+                errors.add(classPlan.getClassName() + ": 소스 파일을 찾을 수 없습니다");
+                continue;
+            }
+            byFile.computeIfAbsent(file, k -> new ArrayList<>()).add(classPlan);
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>(byFile.size());
+        for (Map.Entry<Path, List<ClassAnnotationPlan>> entry : byFile.entrySet()) {
+            tasks.add(() -> {
+                try {
+                    if (applyFile(entry.getKey(), entry.getValue(), errors, dryRun)) {
+                        changed.add(entry.getKey().toString());
+                    }
+                } catch (IOException | RuntimeException e) {
+                    errors.add(entry.getKey() + ": " + e.getMessage());
+                }
+                return null;
+            });
+        }
+        for (Future<Void> future : pool.invokeAll(tasks)) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                errors.add(e.getCause().toString());
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Collections.sort(changed);
+        return new ApplyResult(byFile.size(), changed, byFile.size() - changed.size(), errors, elapsedMillis);
+    }
+
+    /**
+     * 동시 실행 수준 (실행 요약 출력용)
+     */
+    public AdaptiveWorkerPool getPool() {
+        return pool;
+    }
+
+    private Path resolveFile(ClassAnnotationPlan classPlan) {
+        String filePath = classPlan.getFilePath();
+        if (filePath == null || filePath.isEmpty()) {
+            filePath = symbolIndex.findFile(classPlan.getClassName());
+            if (filePath == null) return null;
+        }
+        Path path = projectRoot.resolve(filePath).normalize();
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    /**
+     * 한 파일에 속한 클래스 계획들을 적용
+     *
+     * @return 파일 내용이 바뀌었으면 true
+     */
+    private boolean applyFile(Path file, List<ClassAnnotationPlan> classPlans, List<String> errors,
+                              boolean dryRun) throws IOException {
+        SourceLoader sourceLoader = sourceLoaders.get();
+        String original = sourceLoader.load(file, 0).toString();
+        Charset charset = sourceLoader.detectedCharset();
+        boolean bom = sourceLoader.detectedBom();
+        JavaParser parser = parsers.get();
+        ParseResult<CompilationUnit> parsed = parser.parse(original);
+        CompilationUnit cu = parsed.getResult().orElse(null);
+        if (!parsed.isSuccessful() || cu == null) {
+            errors.add(file + ": 파일을 파싱할 수 없습니다 " + parsed.getProblems());
+            return false;
+        }
+
+        // 변경 사항을 먼저 모은 뒤, 실제로 바꿀 내용이 있을 때만 LexicalPreservingPrinter 적용
+        List<PendingEdit> edits = new ArrayList<>();
+        Set<String> imports = new TreeSet<>();
+        for (ClassAnnotationPlan classPlan : classPlans) {
+            ClassOrInterfaceDeclaration type = cu.findFirst(ClassOrInterfaceDeclaration.class,
+                c -> c.getNameAsString().equals(classPlan.getClassName())).orElse(null);
+            if (type == null) {
+                errors.add(file + ": 클래스를 찾을 수 없습니다 " + classPlan.getClassName());
+                continue;
+            }
+            annotate(parser, type, classPlan.getAnnotations(), edits, imports, file, errors);
+
+            if (classPlan.getMethods() != null) {
+                for (MethodAnnotationPlan methodPlan : classPlan.getMethods()) {
+                    MethodDeclaration method = findMethod(type, methodPlan);
+                    if (method == null) {
+                        errors.add(file + ": 메서드를 찾을 수 없습니다 " + classPlan.getClassName()
+                            + "#" + methodPlan.getMethodName());
+                        continue;
+                    }
+                    annotate(parser, method, methodPlan.getAnnotations(), edits, imports, file, errors);
+                    if (methodPlan.getParameters() == null) continue;
+                    for (MemberAnnotationPlan parameterPlan : methodPlan.getParameters()) {
+                        method.getParameterByName(parameterPlan.getName()).ifPresentOrElse(
+                            p -> annotate(parser, p, parameterPlan.getAnnotations(), edits, imports, file, errors),
+                            () -> errors.add(file + ": 파라미터를 찾을 수 없습니다 " + methodPlan.getMethodName()
+                                + "(" + parameterPlan.getName() + ")"));
+                    }
+                }
+            }
+
+            if (classPlan.getFields() != null) {
+                for (MemberAnnotationPlan fieldPlan : classPlan.getFields()) {
+                    type.getFieldByName(fieldPlan.getName()).ifPresentOrElse(
+                        f -> annotate(parser, f, fieldPlan.getAnnotations(), edits, imports, file, errors),
+                        () -> errors.add(file + ": 필드를 찾을 수 없습니다 " + classPlan.getClassName()
+                            + "." + fieldPlan.getName()));
+                }
+            }
+        }
+        imports.removeIf(qualifiedName -> isImported(cu, qualifiedName));
+        if (edits.isEmpty() && imports.isEmpty()) {
+            return false;
+        }
+
+        // 노드를 수정할 때마다 원본 텍스트와의 차이를 계산하므로 변경 없는 파일에는 설정하지 않음
+        LexicalPreservingPrinter.setup(cu);
+        for (PendingEdit edit : edits) {
+            if (edit.existing == null) {
+                edit.node.addAnnotation(edit.annotation);
+            } else {
+                edit.existing.replace(edit.annotation);
+            }
+        }
+        for (String qualifiedName : imports) {
+            cu.addImport(qualifiedName);
+        }
+
+        String updated = LexicalPreservingPrinter.print(cu);
+        if (updated.equals(original)) {
+            return false;
+        }
+        if (!charset.newEncoder().canEncode(updated)) {
+            // 예: ISO-8859-1 파일에 한글 설명 추가 (쓰면 ?로 깨지므로 파일을 그대로 둠)
+            errors.add(file + ": 추가할 어노테이션에 " + charset + " 인코딩으로 쓸 수 없는 문자가 있어 적용하지 않았습니다");
+            return false;
+        }
+        if (!dryRun) {
+            writeAtomically(file, bom ? '\uFEFF' + updated : updated, charset);
+        }
+        return true;
+    }
+
+    /**
+     * 메서드 이름으로 찾고, 오버로드가 있으면 lineNumber가 같은(없으면 가장 가까운) 메서드 선택
+     */
+    private MethodDeclaration findMethod(ClassOrInterfaceDeclaration type, MethodAnnotationPlan methodPlan) {
+        List<MethodDeclaration> candidates = type.getMethodsByName(methodPlan.getMethodName());
+        if (candidates.size() <= 1 || methodPlan.getLineNumber() <= 0) {
+            return candidates.isEmpty() ? null : candidates.get(0);
+        }
+        MethodDeclaration nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (MethodDeclaration candidate : candidates) {
+            int line = candidate.getBegin().map(pos -> pos.line).orElse(0);
+            int distance = Math.abs(line - methodPlan.getLineNumber());
+            if (distance < nearestDistance) {
+                nearest = candidate;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * 어노테이션 추가 또는 같은 이름의 기존 어노테이션 교체
+     * - 이미 같은 내용이면 건드리지 않아 불필요한 diff가 생기지 않음
+     */
+    private void annotate(JavaParser parser, NodeWithAnnotations<?> node, List<String> annotations,
+                          List<PendingEdit> edits, Set<String> imports, Path file, List<String> errors) {
+        if (annotations == null) return;
+        for (String source : annotations) {
+            ParseResult<AnnotationExpr> parsed = parser.parseAnnotation(source.trim());
+            AnnotationExpr annotation = parsed.getResult().orElse(null);
+            if (!parsed.isSuccessful() || annotation == null) {
+                errors.add(file + ": 어노테이션을 해석할 수 없습니다 " + source);
+                continue;
+            }
+            collectImports(annotation, imports);
+
+            String name = annotation.getName().getIdentifier();
+            AnnotationExpr existing = null;
+            for (AnnotationExpr candidate : node.getAnnotations()) {
+                if (candidate.getName().getIdentifier().equals(name)) {
+                    existing = candidate;
+                    break;
+                }
+            }
+            if (existing == null || !existing.equals(annotation)) {
+                edits.add(new PendingEdit(node, existing, annotation));
+            }
+        }
+    }
+
+    /**
+     * 어노테이션과 속성값에서 사용된 OpenAPI 타입의 import 수집
+     * - 정규화된 이름으로 쓴 어노테이션은 import 불필요
+     */
+    private void collectImports(AnnotationExpr annotation, Set<String> imports) {
+        for (AnnotationExpr nested : annotation.findAll(AnnotationExpr.class)) {
+            if (nested.getName().getQualifier().isPresent()) continue;
+            String qualifiedName = OPENAPI_TYPES.get(nested.getNameAsString());
+            if (qualifiedName != null) imports.add(qualifiedName);
+        }
+        for (NameExpr name : annotation.findAll(NameExpr.class)) {
+            String qualifiedName = OPENAPI_TYPES.get(name.getNameAsString());
+            if (qualifiedName != null) imports.add(qualifiedName);
+        }
+    }
+
+    /**
+     * 같은 import, 같은 패키지의 와일드카드 import, 같은 단순명의 다른 import가 있으면 추가하지 않음
+     */
+    private boolean isImported(CompilationUnit cu, String qualifiedName) {
+        int lastDot = qualifiedName.lastIndexOf('.');
+        String packageName = qualifiedName.substring(0, lastDot);
+        String simpleName = qualifiedName.substring(lastDot);
+        for (ImportDeclaration declaration : cu.getImports()) {
+            if (declaration.isStatic()) continue;
+            String name = declaration.getNameAsString();
+            if (declaration.isAsterisk() ? name.equals(packageName) : name.endsWith(simpleName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 같은 디렉토리의 임시 파일에 쓴 뒤 원자적으로 교체 (중간 상태의 파일이 남지 않음)
+     *
+     * @param charset 원본 파일을 읽은 인코딩 (content가 BOM 문자로 시작하면 그 인코딩의 BOM으로 쓰임)
+     */
+    private void writeAtomically(Path file, String content, Charset charset) throws IOException {
+        Path temp = Files.createTempFile(file.getParent(), "." + file.getFileName(), ".tmp");
+        try {
+            Files.writeString(temp, content, charset);
+            try {
+                // 임시 파일은 소유자 전용 권한으로 생성되므로 원본 권한 유지
+                Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(file));
+            } catch (UnsupportedOperationException e) {
+                // POSIX 권한을 지원하지 않는 파일 시스템
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 적용 대기 중인 어노테이션 추가/교체
+     */
+    private static final class PendingEdit {
+        private final NodeWithAnnotations<?> node;
+        private final AnnotationExpr existing;
+        private final AnnotationExpr annotation;
+
+        private PendingEdit(NodeWithAnnotations<?> node, AnnotationExpr existing, AnnotationExpr annotation) {
+            this.node = node;
+            this.existing = existing;
+            this.annotation = annotation;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.swaggeragent.extractor;
+
+import com.github.javaparser.JavaParser;
+import io.swaggeragent.extractor.model.BatchProject;
+import io.swaggeragent.extractor.model.BatchProjectResult;
+import io.swaggeragent.extractor.model.EndpointsInfo;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 여러 프로젝트를 한 JVM에서 추출
+ *
+ * 프로젝트마다 JVM을 새로 띄우면 시작/JIT 워밍업 비용이 매번 반복되므로,
+ * 작업 스레드별 JavaParser를 프로젝트 간에 재사용하면서 프로젝트를 병렬로 처리
+ * - 프로젝트마다 별도의 ControllerExtractor(결과 목록, 프로젝트 루트, 심볼 인덱스, 문자열 풀)를 만들어 결과를 격리
+ * - 한 프로젝트가 실패해도 나머지는 계속 처리하고 결과에 오류로 기록
+ * - 동시에 처리하는 프로젝트 수는 AdaptiveWorkerPool이 컨테이너 한도와 처리량/GC 압력에 맞춰 정함
+ */
+public class BatchExtractor {
+    private final AdaptiveWorkerPool pool;
+
+    private final long maxFileBytes;
+
+    private final long fileTimeoutMillis;
+
+    // JavaParser 인스턴스는 스레드 안전하지 않으므로 작업 스레드별로 생성하여 프로젝트 간에 재사용
+    private final ThreadLocal<JavaParser> parsers = ThreadLocal.withInitial(JavaParser::new);
+
+    /**
+     * @param threads 동시에 처리할 프로젝트 수 (0 이하이면 컨테이너 CPU/힙 한도로 시작하여 실행 중 조정)
+     */
+    public BatchExtractor(int threads, long maxFileBytes, long fileTimeoutMillis) {
+        this.pool = AdaptiveWorkerPool.create(threads);
+        this.maxFileBytes = maxFileBytes;
+        this.fileTimeoutMillis = fileTimeoutMillis;
+    }
+
+    /**
+     * 프로젝트들을 추출하여 각각의 출력 파일에 저장
+     *
+     * @param projects 경로가 절대 경로로 정리된 프로젝트 목록
+     * @return 매니페스트 순서의 프로젝트별 결과
+     */
+    public List<BatchProjectResult> run(List<BatchProject> projects) throws InterruptedException {
+        List<Callable<BatchProjectResult>> tasks = new ArrayList<>(projects.size());
+        for (BatchProject project : projects) {
+            tasks.add(() -> runProject(project));
+        }
+        List<Future<BatchProjectResult>> futures = pool.invokeAll(tasks);
+        List<BatchProjectResult> results = new ArrayList<>(projects.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (ExecutionException e) {
+                BatchProject project = projects.get(i);
+                results.add(new BatchProjectResult(project.getProjectRoot(), project.getOutput(),
+                    0, 0, 0, 0, 0, e.getCause().toString()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 동시 실행 수준 (실행 요약 출력용)
+     */
+    public AdaptiveWorkerPool getPool() {
+        return pool;
+    }
+
+    private BatchProjectResult runProject(BatchProject project) {
+        long start = System.nanoTime();
+        try {
+            Path projectRoot = Path.of(project.getProjectRoot());
+            File outputFile = new File(project.getOutput());
+
+            ControllerExtractor extractor = new ControllerExtractor(parsers.get(), new ArrayList<>(), new HashSet<>());
+            extractor.setProjectRoot(projectRoot);
+            extractor.setSymbolIndexFile(new File(outputFile.getParentFile(), "symbols.idx").toPath());
+            extractor.setMaxFileBytes(maxFileBytes);
+            extractor.setFileTimeoutMillis(fileTimeoutMillis);
+
+            EndpointsInfo data = extractor.extract(project.getSourcePath());
+            if (project.isOnlyUndocumented()) {
+                data = data.onlyUndocumented();
+            }
+            outputFile.getParentFile().mkdirs();
+            Main.writeOutput(data, outputFile.getPath(), project.getOpenapi(), projectRoot.getFileName().toString());
+
+            return new BatchProjectResult(project.getProjectRoot(), project.getOutput(),
+                data.getControllers().size(), data.getTotalMethods(), data.getTotalDtoClasses(),
+                data.getSkippedFiles().size(), elapsedMillis(start), null);
+        } catch (Exception e) {
+            return new BatchProjectResult(project.getProjectRoot(), project.getOutput(),
+                0, 0, 0, 0, elapsedMillis(start), e.toString());
+        }
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,345 @@
+package io.swaggeragent.extractor;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseStart;
+import com.github.javaparser.Providers;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import io.swaggeragent.extractor.model.SymbolInfo;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * 어노테이션 값에 쓰인 문자열 상수를 실제 값으로 계산
+ *
+ * @RequestMapping(ApiPaths.USERS), @GetMapping(value = BASE + "/{id}") 처럼 상수를 참조하는 매핑 경로를 위해
+ * static final 필드의 초기값을 따라가 문자열로 계산
+ * - 지원: 문자열/숫자/문자 리터럴, 괄호, + 연결, 같은 클래스/바깥 클래스/상위 타입의 필드,
+ *   static import, 다른 클래스의 상수(ApiPaths.USERS, ApiPaths.Users.BASE, com.example.ApiPaths.USERS)
+ * - 다른 파일의 상수 클래스는 심볼 인덱스로 찾아 추출마다 파일당 한 번만 파싱하고, 계산한 값은 필드마다 캐시 (clear()로 비움)
+ *   (다른 패키지의 같은 단순명 클래스를 잘못 쓰지 않도록 참조하는 파일의 import/패키지로 FQN을 확인)
+ * - 배열(@GetMapping({"/a", BASE + "/b"}), 배열 상수)은 resolveAll()로 항목마다 계산 (resolve()는 첫 번째 값)
+ * - 계산할 수 없는 식(메서드 호출, 순환 참조, 찾을 수 없는 클래스 등)은 null
+ * - 추출기가 현재 파일을 읽는 로더와 다른 SourceLoader를 받아야 함 (방문 중에 읽어도 현재 파일 버퍼를 덮어쓰지 않도록)
+ * - 추출기 하나에 속하며 스레드 간에 공유하면 안 됨
+ */
+public class ConstantResolver {
+    // 다른 클래스의 상위 타입을 따라갈 최대 깊이
+    private static final int MAX_SUPERTYPE_DEPTH = 8;
+
+    private final JavaParser javaParser;
+
+    private final SourceLoader sourceLoader;
+
+    private final SymbolIndex symbolIndex;
+
+    // 파일 경로 -> 파싱된 상수 클래스 파일 (파싱 실패는 빈 값으로 기록하여 다시 시도하지 않음)
+    private final Map<String, Optional<CompilationUnit>> parsedFiles = new HashMap<>();
+
+    // 필드 -> 계산된 값 (계산 중인 필드는 IN_PROGRESS로 표시하여 순환 참조 차단)
+    private final Map<VariableDeclarator, String> resolvedFields = new IdentityHashMap<>();
+
+    private static final String IN_PROGRESS = new String("<in-progress>");
+
+    private static final String UNRESOLVED = new String("<unresolved>");
+
+    ConstantResolver(JavaParser javaParser, SourceLoader sourceLoader, SymbolIndex symbolIndex) {
+        this.javaParser = javaParser;
+        this.sourceLoader = sourceLoader;
+        this.symbolIndex = symbolIndex;
+    }
+
+    /**
+     * 식을 문자열 값으로 계산 (계산할 수 없으면 null)
+     *
+     * @param expression 소스 트리에 속한 식 (이름은 식이 놓인 클래스/파일 기준으로 찾음)
+     */
+    public String resolve(Expression expression) {
+        if (expression.isStringLiteralExpr()) {
+            // 소스 표현이 아닌 실제 값 ("/{id:\\d+}" -> /{id:\d+})
+            return expression.asStringLiteralExpr().asString();
+        }
+        if (expression.isIntegerLiteralExpr() || expression.isLongLiteralExpr()) {
+            return expression.asLiteralStringValueExpr().getValue();
+        }
+        if (expression.isCharLiteralExpr()) {
+            return expression.asCharLiteralExpr().getValue();
+        }
+        if (expression.isEnclosedExpr()) {
+            return resolve(expression.asEnclosedExpr().getInner());
+        }
+        if (expression.isBinaryExpr() && expression.asBinaryExpr().getOperator() == BinaryExpr.Operator.PLUS) {
+            String left = resolve(expression.asBinaryExpr().getLeft());
+            String right = left != null ? resolve(expression.asBinaryExpr().getRight()) : null;
+            return right != null ? left + right : null;
+        }
+        if (expression.isArrayInitializerExpr()) {
+            // 단일 값이 필요한 곳에서는 첫 번째 값 (매핑 경로의 모든 값은 resolveAll())
+            return expression.asArrayInitializerExpr().getValues().isEmpty()
+                ? null : resolve(expression.asArrayInitializerExpr().getValues().get(0));
+        }
+        if (expression.isNameExpr()) {
+            return resolveName(expression.asNameExpr());
+        }
+        if (expression.isFieldAccessExpr()) {
+            return resolveFieldAccess(expression.asFieldAccessExpr());
+        }
+        return null;
+    }
+
+    /**
+     * 여러 값을 가질 수 있는 식(매핑 경로)을 값 목록으로 계산
+     * - 배열은 항목마다, 배열로 초기화한 상수(static final String[] PATHS = {...})는 초기값의 항목마다 계산
+     * - 계산할 수 없는 항목은 소스 표현 그대로, 빈 배열은 빈 목록
+     */
+    public List<String> resolveAll(Expression expression) {
+        VariableDeclarator field = expression.isNameExpr() ? findNamedField(expression.asNameExpr())
+            : expression.isFieldAccessExpr() ? findAccessedField(expression.asFieldAccessExpr()) : null;
+        Expression initializer = field != null ? field.getInitializer().orElse(null) : null;
+        if (initializer != null && initializer.isArrayInitializerExpr()) {
+            expression = initializer;
+        }
+        if (!expression.isArrayInitializerExpr()) {
+            String value = resolve(expression);
+            return Collections.singletonList(value != null ? value : expression.toString());
+        }
+        NodeList<Expression> items = expression.asArrayInitializerExpr().getValues();
+        List<String> values = new ArrayList<>(items.size());
+        for (Expression item : items) {
+            String value = resolve(item);
+            values.add(value != null ? value : item.toString());
+        }
+        return values;
+    }
+
+    /**
+     * 단순 이름(BASE): 바깥쪽으로 둘러싼 클래스와 그 상위 타입, static import 순서로 찾음
+     */
+    private String resolveName(NameExpr name) {
+        VariableDeclarator field = findNamedField(name);
+        return field != null ? valueOf(field) : null;
+    }
+
+    private VariableDeclarator findNamedField(NameExpr name) {
+        String fieldName = name.getNameAsString();
+        Optional<Node> parent = name.getParentNode();
+        while (parent.isPresent()) {
+            Node node = parent.get();
+            if (node instanceof TypeDeclaration) {
+                VariableDeclarator field = findField((TypeDeclaration<?>) node, fieldName, 0);
+                if (field != null) return field;
+            }
+            parent = node.getParentNode();
+        }
+
+        CompilationUnit cu = name.findCompilationUnit().orElse(null);
+        if (cu == null) return null;
+        for (ImportDeclaration imported : cu.getImports()) {
+            if (!imported.isStatic()) continue;
+            String importName = imported.getNameAsString();
+            if (imported.isAsterisk()) {
+                TypeDeclaration<?> type = findQualifiedType(cu, importName);
+                VariableDeclarator field = type != null ? findField(type, fieldName, 0) : null;
+                if (field != null) return field;
+            } else if (importName.endsWith("." + fieldName)) {
+                TypeDeclaration<?> type = findQualifiedType(cu, importName.substring(0, importName.length() - fieldName.length() - 1));
+                VariableDeclarator field = type != null ? findField(type, fieldName, 0) : null;
+                if (field != null) return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 한정된 이름(ApiPaths.USERS, ApiPaths.Users.BASE, com.example.ApiPaths.USERS)
+     */
+    private String resolveFieldAccess(FieldAccessExpr access) {
+        VariableDeclarator field = findAccessedField(access);
+        return field != null ? valueOf(field) : null;
+    }
+
+    private VariableDeclarator findAccessedField(FieldAccessExpr access) {
+        CompilationUnit cu = access.findCompilationUnit().orElse(null);
+        if (cu == null) return null;
+        TypeDeclaration<?> type = findQualifiedType(cu, access.getScope().toString());
+        return type != null ? findField(type, access.getNameAsString(), 0) : null;
+    }
+
+    /**
+     * 필드 초기값을 필드가 선언된 위치 기준으로 계산 (필드마다 한 번만)
+     */
+    private String valueOf(VariableDeclarator field) {
+        String cached = resolvedFields.get(field);
+        if (cached == IN_PROGRESS) return null;
+        if (cached != null) return cached == UNRESOLVED ? null : cached;
+
+        resolvedFields.put(field, IN_PROGRESS);
+        String value = field.getInitializer().map(this::resolve).orElse(null);
+        resolvedFields.put(field, value != null ? value : UNRESOLVED);
+        return value;
+    }
+
+    /**
+     * 클래스(및 상위 타입)에서 초기값이 있는 static/인터페이스 필드 찾기
+     */
+    private VariableDeclarator findField(TypeDeclaration<?> type, String fieldName, int depth) {
+        boolean isInterface = type instanceof ClassOrInterfaceDeclaration && ((ClassOrInterfaceDeclaration) type).isInterface();
+        for (BodyDeclaration<?> member : type.getMembers()) {
+            if (!member.isFieldDeclaration()) continue;
+            FieldDeclaration field = member.asFieldDeclaration();
+            if (!isInterface && !field.isStatic()) continue;
+            for (VariableDeclarator variable : field.getVariables()) {
+                if (variable.getNameAsString().equals(fieldName) && variable.getInitializer().isPresent()) {
+                    return variable;
+                }
+            }
+        }
+        if (depth >= MAX_SUPERTYPE_DEPTH || !(type instanceof ClassOrInterfaceDeclaration)) {
+            return null;
+        }
+        ClassOrInterfaceDeclaration declaration = (ClassOrInterfaceDeclaration) type;
+        CompilationUnit cu = type.findCompilationUnit().orElse(null);
+        if (cu == null) return null;
+        List<ClassOrInterfaceType> supertypes = new ArrayList<>(declaration.getExtendedTypes());
+        supertypes.addAll(declaration.getImplementedTypes());
+        for (ClassOrInterfaceType supertype : supertypes) {
+            TypeDeclaration<?> superDeclaration = findQualifiedType(cu, supertype.getNameWithScope());
+            VariableDeclarator field = superDeclaration != null ? findField(superDeclaration, fieldName, depth + 1) : null;
+            if (field != null) return field;
+        }
+        return null;
+    }
+
+    /**
+     * 점으로 구분된 이름에서 클래스 찾기 (패키지 부분은 첫 클래스의 FQN 확인에 쓰고, 첫 클래스부터 중첩 타입을 따라감)
+     */
+    private TypeDeclaration<?> findQualifiedType(CompilationUnit context, String qualifiedName) {
+        String[] names = qualifiedName.split("\\.");
+        for (int start = 0; start < names.length; start++) {
+            if (names[start].isEmpty() || !Character.isUpperCase(names[start].charAt(0))) continue;
+            String packageName = start > 0 ? String.join(".", Arrays.asList(names).subList(0, start)) : null;
+            TypeDeclaration<?> type = findType(context, names[start], packageName);
+            for (int i = start + 1; type != null && i < names.length; i++) {
+                type = memberType(type, names[i]);
+            }
+            return type;
+        }
+        return null;
+    }
+
+    /**
+     * 단순명으로 클래스 찾기: 같은 파일의 타입을 먼저 보고, 없으면 심볼 인덱스로 찾은 파일을 파싱
+     * - 인덱스의 FQN이 packageName(패키지로 한정된 이름)과 같거나, 한정되지 않았으면 참조하는 파일의
+     *   import/패키지로 가리킬 수 있는 클래스만 사용
+     * - 인덱스는 단순명마다 파일 하나만 기록하므로, 다른 패키지의 같은 단순명 클래스가 기록되어 있으면
+     *   가리키는 FQN의 파일을 인덱스 파일과 같은 소스 루트에서 찾음 (없으면 null)
+     */
+    private TypeDeclaration<?> findType(CompilationUnit context, String simpleName, String packageName) {
+        TypeHierarchy.FileImports imports = TypeHierarchy.FileImports.of(context);
+        if (packageName == null || packageName.equals(imports.packageName)) {
+            for (TypeDeclaration<?> type : context.findAll(TypeDeclaration.class)) {
+                if (type.getNameAsString().equals(simpleName)) return type;
+            }
+        }
+        SymbolInfo symbol = symbolIndex.find(simpleName).orElse(null);
+        if (symbol == null) return null;
+        String symbolName = symbol.getQualifiedName();
+        boolean referenced = packageName != null
+            ? symbolName.equals(packageName + "." + simpleName) || symbolName.equals(simpleName)
+            : imports.refersTo(simpleName, symbolName);
+        String filePath = symbol.getFilePath();
+        if (!referenced) {
+            String qualifiedName = packageName != null ? packageName + "." + simpleName : qualify(imports, simpleName);
+            filePath = qualifiedName != null ? siblingSource(symbol, qualifiedName) : null;
+            if (filePath == null) return null;
+        }
+        CompilationUnit cu = compilationUnit(filePath).orElse(null);
+        if (cu == null) return null;
+        for (TypeDeclaration<?> type : cu.getTypes()) {
+            if (type.getNameAsString().equals(simpleName)) return type;
+        }
+        return null;
+    }
+
+    /**
+     * 파일에서 단순명이 가리키는 FQN (단일 import, 없으면 같은 패키지)
+     */
+    private static String qualify(TypeHierarchy.FileImports imports, String simpleName) {
+        for (String name : imports.names) {
+            if (name.endsWith("." + simpleName)) return name;
+        }
+        return imports.packageName.isEmpty() ? null : imports.packageName + "." + simpleName;
+    }
+
+    /**
+     * 인덱스 파일의 경로에서 패키지 디렉토리를 떼어 낸 소스 루트 기준으로 FQN 클래스의 파일 경로 계산
+     * (인덱스 항목의 패키지를 모르거나 경로가 패키지 구조와 다르면 null)
+     */
+    private static String siblingSource(SymbolInfo symbol, String qualifiedName) {
+        if (!symbol.getQualifiedName().contains(".")) return null;
+        Path file = Paths.get(symbol.getFilePath());
+        Path relative = Paths.get(symbol.getQualifiedName().replace('.', '/') + ".java");
+        if (!file.endsWith(relative)) return null;
+        Path root = file;
+        for (int i = 0; i < relative.getNameCount() && root != null; i++) {
+            root = root.getParent();
+        }
+        Path candidate = Paths.get(qualifiedName.replace('.', '/') + ".java");
+        return (root != null ? root.resolve(candidate) : candidate).toString();
+    }
+
+    private static TypeDeclaration<?> memberType(TypeDeclaration<?> type, String name) {
+        for (BodyDeclaration<?> member : type.getMembers()) {
+            if (member.isTypeDeclaration() && member.asTypeDeclaration().getNameAsString().equals(name)) {
+                return member.asTypeDeclaration();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 파일을 한 번만 파싱하여 재사용 (TypeHierarchy와 같은 캐시를 공유하여 상수 클래스와 상위 타입 파일을 다시 파싱하지 않음)
+     */
+    Optional<CompilationUnit> compilationUnit(String filePath) {
+        return parsedFiles.computeIfAbsent(filePath, this::parse);
+    }
+
+    private Optional<CompilationUnit> parse(String filePath) {
+        try {
+            return javaParser.parse(ParseStart.COMPILATION_UNIT,
+                Providers.provider(sourceLoader.open(Paths.get(filePath)))).getResult();
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 파싱한 파일과 계산한 값 비우기 (추출마다 호출하여 그 사이에 바뀐 상수 클래스를 다시 읽음)
+     */
+    void clear() {
+        parsedFiles.clear();
+        resolvedFields.clear();
+    }
+
+    /**
+     * 이번 실행에서 파싱한 상수 클래스/상위 타입 파일 수
+     */
+    public int parsedFileCount() {
+        return parsedFiles.size();
+    }
+}
@@ -1,15 +1,28 @@
 package io.swaggeragent.extractor;
 
 import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParseStart;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.Providers;
 import com.github.javaparser.ast.CompilationUnit;
 import io.swaggeragent.extractor.model.*;
-import lombok.RequiredArgsConstructor;
 
+import java.io.CharArrayReader;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
 
 /**
  * Spring Boot Controller에서 API 엔드포인트 정보를 추출
@@ -18,11 +31,32 @@ import java.util.*;
  * Spring Boot의 @RestController, @Controller 어노테이션이 있는 클래스에서
  * API 엔드포인트 정보를 추출
  * 
+ * 파일 하나가 전체 실행을 붙잡지 않도록 파일당 최대 크기와 파싱/순회 제한 시간을 두고,
+ * 넘긴 파일은 건너뛴 이유와 함께 결과의 skippedFiles에 기록
+ *
+ * 추출 엔진(setEngine)을 scanner로 지정하면 AST 대신 SourceScanner로 선언부만 읽고,
+ * 스캐너가 처리할 수 없는 구성을 만난 파일만 JavaParser로 다시 파싱 (결과는 AST 엔진과 같음)
+ *
+ * 전체 시간 예산(setBudget)을 지정하면 가치가 높은 파일부터 처리하고, 예산 안에 처리하지 못한 파일은
+ * 결과의 pendingFiles에 기록 (Main의 complete로 나중에 채움)
+ * 
+ * 인스턴스는 스레드 안전하지 않으므로 한 스레드에서만 사용
+ * (여러 스레드에서 재사용하거나 파일 단위 결과를 바로 받으려면 EndpointExtractor 사용)
+ * 
  * @author qlqlrh
  * @version 1.0
  */
-@RequiredArgsConstructor
 public class ControllerExtractor {
+    // 파일당 기본 최대 크기 (수 MB짜리 생성 코드 등은 건너뜀)
+    public static final long DEFAULT_MAX_FILE_BYTES = 2L * 1024 * 1024;
+
+    // 파일당 기본 파싱/순회 제한 시간
+    public static final long DEFAULT_FILE_TIMEOUT_MILLIS = 5_000;
+
+    // 추출 엔진: JavaParser AST (기본) / 선언부만 읽는 경량 스캐너 (처리할 수 없는 파일은 AST로 대체)
+    public static final String ENGINE_AST = "ast";
+    public static final String ENGINE_SCANNER = "scanner";
+
     // Java 소스 코드 파싱을 위한 JavaParser
     private final JavaParser javaParser;
     
@@ -35,19 +69,323 @@ public class ControllerExtractor {
     // 프로젝트 루트 경로 (파일 검색용)
     private String projectRoot = System.getProperty("user.dir");
 
+    // 심볼 인덱스 파일 경로 (null이면 메모리 인덱스만 사용)
+    private Path symbolIndexFile;
+
+    // 클래스명 -> 파일 경로 조회용 심볼 인덱스 (처음 필요할 때 생성)
+    private SymbolIndex symbolIndex;
+
+    // 추출 결과에서 반복되는 문자열/배열을 공유하기 위한 실행 단위 풀
+    private final StringPool stringPool = new StringPool();
+
+    // 파일 간 임시 버퍼를 재사용하는 단일 순회 방문자 (처음 필요할 때 생성)
+    private SourceFileVisitor visitor;
+
+    // 상수 경로 계산기와 상속한 매핑 메서드/합성 어노테이션을 찾는 클래스 계층 인덱스 (visitor와 함께 생성, 추출마다 비움)
+    private ConstantResolver constantResolver;
+    private TypeHierarchy hierarchy;
+
+    // 파일 간 읽기/디코딩 버퍼를 재사용하는 소스 로더 (처음 필요할 때 생성)
+    private SourceLoader sourceLoader;
+
+    // 추출 엔진과 scanner 엔진의 스캐너 (처음 필요할 때 생성)
+    private String engine = ENGINE_AST;
+    private SourceScanner scanner;
+
+    // 마지막 추출에서 scanner 엔진으로 처리한 파일 수 / AST로 대체한 파일 수
+    private int scannedFiles;
+    private int fallbackFiles;
+
+    // 파일당 최대 크기(바이트)와 제한 시간(ms), 0 이하이면 제한 없음
+    private long maxFileBytes = DEFAULT_MAX_FILE_BYTES;
+    private long fileTimeoutMillis = DEFAULT_FILE_TIMEOUT_MILLIS;
+
+    // 전체 스캔에서 처리할 샤드 (0부터 시작하는 번호 / 전체 샤드 수)
+    private int shardIndex = 0;
+    private int shardCount = 1;
+
+    // 마지막 추출에서 건너뛴 파일
+    private final List<SkippedFile> skippedFiles = new ArrayList<>();
+
+    // 추출 전체 시간 예산(ms, 0 이하이면 제한 없음)
+    private long budgetMillis = 0;
+
+    // 예산이 있을 때 먼저 처리할 파일(지정한 파일)과 이 시각 이후 수정된 파일
+    private Set<Path> priorityFiles = Set.of();
+    private FileTime modifiedSince;
+
+    // 마지막 추출에서 예산 안에 처리하지 못한 파일
+    private final List<String> pendingFiles = new ArrayList<>();
+
+    /**
+     * @param javaParser 소스 파싱에 사용할 파서 (텍스트 블록/레코드 등을 문법 오류 없이 읽도록 언어 수준을 Java 17로 맞춤)
+     * @param controllers 추출된 Controller 정보를 담을 목록
+     * @param dtoClasses 추출된 DTO 정보를 담을 집합
+     */
+    public ControllerExtractor(JavaParser javaParser, List<ControllerInfo> controllers, Set<DtoInfo> dtoClasses) {
+        javaParser.getParserConfiguration().setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_17);
+        this.javaParser = javaParser;
+        this.controllers = controllers;
+        this.dtoClasses = dtoClasses;
+    }
+
+    /**
+     * DTO 파일 검색 기준이 되는 프로젝트 루트 지정 (기본값: 작업 디렉토리)
+     */
+    public void setProjectRoot(Path projectRoot) {
+        this.projectRoot = projectRoot.toString();
+        this.symbolIndex = null;
+    }
+
+    /**
+     * 실행 간에 공유할 심볼 인덱스 파일 지정
+     */
+    public void setSymbolIndexFile(Path symbolIndexFile) {
+        this.symbolIndexFile = symbolIndexFile;
+        this.symbolIndex = null;
+    }
+
+    /**
+     * 파일당 최대 크기 지정 (0 이하이면 제한 없음)
+     */
+    public void setMaxFileBytes(long maxFileBytes) {
+        this.maxFileBytes = maxFileBytes;
+    }
+
+    /**
+     * 파일당 파싱/순회 제한 시간 지정 (0 이하이면 제한 없음)
+     */
+    public void setFileTimeoutMillis(long fileTimeoutMillis) {
+        this.fileTimeoutMillis = fileTimeoutMillis;
+    }
+
+    /**
+     * 추출 엔진 지정 (ENGINE_AST 또는 ENGINE_SCANNER)
+     * - scanner는 메서드 본문을 파싱하지 않아 빠르지만, 처리할 수 없는 구성을 만나면 그 파일만 AST로 다시 처리
+     * - extractFromSource()는 문법 오류를 알려야 하므로 항상 AST 사용
+     */
+    public void setEngine(String engine) {
+        if (!engine.equals(ENGINE_AST) && !engine.equals(ENGINE_SCANNER)) {
+            throw new IllegalArgumentException("추출 엔진은 " + ENGINE_AST + " 또는 " + ENGINE_SCANNER + "여야 합니다: " + engine);
+        }
+        this.engine = engine;
+    }
+
+    /**
+     * 마지막 추출에서 scanner 엔진으로 처리한 파일 수
+     */
+    public int getScannedFileCount() {
+        return scannedFiles;
+    }
+
+    /**
+     * 마지막 추출에서 scanner 엔진이 처리할 수 없어 AST로 다시 처리한 파일 수
+     */
+    public int getFallbackFileCount() {
+        return fallbackFiles;
+    }
+
+    /**
+     * 전체 스캔 대상 파일을 shardCount개로 나누어 그중 shardIndex번째 몫만 추출하도록 지정
+     * - 소스 경로 기준 상대 경로의 CRC32로 나누므로 프로세스/머신이 달라도 같은 파일은 같은 샤드에 속함
+     *
+     * @param shardIndex 0부터 시작하는 샤드 번호
+     * @param shardCount 전체 샤드 수
+     */
+    public void setShard(int shardIndex, int shardCount) {
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("샤드 번호가 올바르지 않습니다: " + (shardIndex + 1) + "/" + shardCount);
+        }
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * 추출 전체 시간 예산 지정 (0 이하이면 제한 없음)
+     * - extract()/extractFromFiles() 호출부터 파일 목록 작성을 포함하여 계산
+     * - 예산이 있으면 우선순위 순서로 처리하고, 예산이 지나면 남은 파일을 처리하지 않고 pendingFiles에 기록
+     * - 파일 사이에서만 확인하므로 처리 중인 파일 하나만큼(최대 파일당 제한 시간) 넘을 수 있음
+     */
+    public void setBudget(long budgetMillis) {
+        this.budgetMillis = budgetMillis;
+    }
+
+    /**
+     * 예산이 있을 때 먼저 처리할 파일 지정
+     *
+     * @param files 사용자가 지정한 파일 (변경된 파일 등)
+     * @param modifiedSince 이 시각 이후 수정된 파일도 먼저 처리 (null이면 사용 안 함, 보통 이전 출력 파일의 수정 시각)
+     */
+    public void setPriority(Collection<Path> files, FileTime modifiedSince) {
+        this.priorityFiles = files.stream().map(path -> path.toAbsolutePath().normalize()).collect(Collectors.toSet());
+        this.modifiedSince = modifiedSince;
+    }
+
+    /**
+     * 소스 경로 기준 상대 경로가 속하는 샤드 번호 (OS와 관계없이 '/' 구분자로 계산)
+     */
+    public static int shardOf(Path relativePath, int shardCount) {
+        CRC32 crc = new CRC32();
+        crc.update(relativePath.toString().replace('\\', '/').getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % shardCount);
+    }
+
+    private SourceFileVisitor visitor() {
+        if (visitor == null) {
+            // 상수 클래스/상위 타입 파일은 별도 로더로 읽음: scanner 엔진이 방문 중에 이들을 읽어도
+            // AST 대체 처리에 쓸 현재 파일 버퍼(sourceLoader)를 덮어쓰지 않음
+            constantResolver = new ConstantResolver(javaParser,
+                new SourceLoader(javaParser.getParserConfiguration().getCharacterEncoding()), symbolIndex());
+            hierarchy = new TypeHierarchy(symbolIndex(), constantResolver);
+            visitor = new SourceFileVisitor(controllers, dtoClasses, symbolIndex(), stringPool, constantResolver, hierarchy);
+        }
+        return visitor;
+    }
+
+    private SourceLoader sourceLoader() {
+        if (sourceLoader == null) {
+            sourceLoader = new SourceLoader(javaParser.getParserConfiguration().getCharacterEncoding());
+        }
+        return sourceLoader;
+    }
+
+    private SourceScanner scanner() {
+        if (scanner == null) {
+            scanner = new SourceScanner();
+        }
+        return scanner;
+    }
+
+    private SymbolIndex symbolIndex() {
+        if (symbolIndex == null) {
+            symbolIndex = SymbolIndex.open(Paths.get(projectRoot), symbolIndexFile);
+        }
+        return symbolIndex;
+    }
+
     /**
      * 지정된 소스 경로에서 Controller 정보를 추출
+     * - 호출할 때마다 이전 추출 결과를 비우고 새로 추출 (파서/심볼 인덱스/버퍼는 재사용)
      */
     public EndpointsInfo extract(String sourcePath) throws IOException {
+        reset();
+        long deadline = budgetDeadline();
+        List<Path> files = schedule(listSources(sourcePath));
+        for (int i = 0; i < files.size() && !budgetExceeded(deadline, files, i); i++) {
+            processFile(files.get(i));
+        }
+        return result(controllers, dtoClasses);
+    }
+
+    /**
+     * 전체 스캔 대상 파일 목록 ('controller'가 포함된 .java 파일 중 이 추출기의 샤드에 속하는 파일)
+     */
+    List<Path> listSources(String sourcePath) throws IOException {
         Path sourceDir = Paths.get(sourcePath);
-        
-        // 디렉토리를 재귀적으로 탐색
-        Files.walk(sourceDir)
-            .filter(path -> path.toString().endsWith(".java"))  // .java 파일만 필터링
-            .filter(path -> path.toString().contains("controller"))  // 'controller'가 포함된 파일만 필터링
-            .forEach(this::processFile);  // 각 파일을 처리
-        
-        return EndpointsInfo.ofControllersAndDtos(controllers, new ArrayList<>(dtoClasses));
+        // 디렉토리를 재귀적으로 탐색 (한 JVM에서 여러 프로젝트를 처리하므로 디렉토리 핸들을 바로 닫음)
+        try (Stream<Path> files = Files.walk(sourceDir)) {
+            return files.filter(ControllerExtractor::isControllerSource)
+                .filter(path -> shardCount == 1 || shardOf(sourceDir.relativize(path), shardCount) == shardIndex)
+                .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * 파일 하나를 추출하여 이 파일에서 새로 찾은 컨트롤러/DTO만 반환
+     * - 결과는 누적되므로 같은 실행에서 앞선 파일이 이미 찾은 DTO는 다시 포함하지 않음 (reset()으로 비움)
+     */
+    FileExtractionResult extractFile(Path filePath) {
+        int controllersBefore = controllers.size();
+        int skippedBefore = skippedFiles.size();
+        processFileWithResult(filePath);
+        boolean skipped = skippedFiles.size() > skippedBefore;
+        return FileExtractionResult.builder()
+            .filePath(filePath.toString())
+            .controllers(new ArrayList<>(controllers.subList(controllersBefore, controllers.size())))
+            .dtoClasses(skipped ? new ArrayList<>() : visitor().lastVisitDtos())
+            .skippedFile(skipped ? skippedFiles.get(skippedFiles.size() - 1) : null)
+            .build();
+    }
+
+    /**
+     * 누적된 추출 결과 비우기
+     */
+    void reset() {
+        controllers.clear();
+        dtoClasses.clear();
+        skippedFiles.clear();
+        pendingFiles.clear();
+        scannedFiles = 0;
+        fallbackFiles = 0;
+        clearCaches();
+    }
+
+    /**
+     * 상수 클래스/상위 타입 파일의 파싱 결과와 계산 값 비우기
+     * - 추출 사이에 디스크의 상수/상위 타입 파일이 바뀌었을 수 있으므로 추출마다 다시 읽음
+     */
+    private void clearCaches() {
+        if (constantResolver != null) {
+            constantResolver.clear();
+            hierarchy.clear();
+        }
+    }
+
+    private EndpointsInfo result(List<ControllerInfo> controllers, Collection<DtoInfo> dtoClasses) {
+        EndpointsInfo result = EndpointsInfo.canonical(controllers, dtoClasses, skippedFiles);
+        List<String> pending = new ArrayList<>(pendingFiles);
+        Collections.sort(pending);
+        result.setPendingFiles(pending);
+        return result;
+    }
+
+    /**
+     * 처리 순서 (예산이 없으면 그대로)
+     * - 지정한 파일/최근 수정된 파일 -> 컨트롤러 -> DTO 순서, 같은 단계에서는 작은 파일부터 (예산 안에 더 많은 파일 처리)
+     */
+    private List<Path> schedule(List<Path> files) {
+        if (budgetMillis <= 0) {
+            return files;
+        }
+        Map<Path, long[]> keys = new HashMap<>();
+        for (Path file : files) {
+            long priority = 2;
+            long size = Long.MAX_VALUE;
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                size = attributes.size();
+                if (priorityFiles.contains(file.toAbsolutePath().normalize())
+                    || (modifiedSince != null && attributes.lastModifiedTime().compareTo(modifiedSince) > 0)) {
+                    priority = 0;
+                }
+            } catch (IOException e) {
+                // 읽을 수 없는 파일은 마지막에 처리하여 skippedFiles에 기록
+            }
+            if (priority != 0 && !isDtoFile(file)) {
+                priority = 1;
+            }
+            keys.put(file, new long[]{priority, size});
+        }
+        List<Path> ordered = new ArrayList<>(files);
+        ordered.sort(Comparator.<Path>comparingLong(file -> keys.get(file)[0]).thenComparingLong(file -> keys.get(file)[1]));
+        return ordered;
+    }
+
+    private long budgetDeadline() {
+        return budgetMillis > 0 ? System.nanoTime() + budgetMillis * 1_000_000 : 0;
+    }
+
+    /**
+     * 예산이 지났으면 next부터 남은 파일을 pendingFiles에 기록하고 true
+     */
+    private boolean budgetExceeded(long deadline, List<Path> files, int next) {
+        if (budgetMillis <= 0 || System.nanoTime() - deadline < 0) {
+            return false;
+        }
+        for (int i = next; i < files.size(); i++) {
+            pendingFiles.add(files.get(i).toString());
+        }
+        return true;
     }
 
     /**
@@ -58,80 +396,188 @@ public class ControllerExtractor {
      */
     public EndpointsInfo extractFromFiles(List<String> filePaths) throws IOException {
         int processedFiles = 0;
+        reset();
+        long deadline = budgetDeadline();
         
+        List<Path> files = new ArrayList<>();
         for (String filePath : filePaths) {
             Path path = Paths.get(filePath);
             if (Files.exists(path) && path.toString().endsWith(".java")) {
-                FileProcessResult result = processFileWithResult(path);
-                if (result.isSuccess()) {
-                    processedFiles++;
-                }
+                files.add(path);
             } else {
                 System.err.println("파일을 찾을 수 없거나 Java 파일이 아닙니다: " + filePath);
             }
         }
+
+        files = schedule(files);
+        for (int i = 0; i < files.size() && !budgetExceeded(deadline, files, i); i++) {
+            FileProcessResult result = processFileWithResult(files.get(i));
+            if (result.isSuccess()) {
+                processedFiles++;
+            }
+        }
         
         // 처리된 파일이 없으면 빈 결과 반환
         if (processedFiles == 0) {
-            return EndpointsInfo.ofControllersAndDtos(new ArrayList<>(), new ArrayList<>());
+            return result(List.of(), List.of());
         }
         
-        return EndpointsInfo.ofControllersAndDtos(controllers, new ArrayList<>(dtoClasses));
+        return result(controllers, dtoClasses);
     }
 
-
     /**
-     * JavaParser를 사용하여 파일을 파싱하고, ControllerVisitor를 통해
-     * Controller 클래스와 메서드 정보를 추출
+     * 메모리에 있는 소스 내용(저장되지 않은 에디터 버퍼 등)에서 Controller와 DTO 정보를 추출
+     * - 디스크를 읽지 않고 JavaParser.parse(String)으로 파싱
+     * - 이전 호출까지 누적된 결과는 비우고 이 소스의 결과만 반환 (파서/방문자/심볼 인덱스는 재사용)
+     * - 상수 클래스/상위 타입 파일은 호출마다 다시 읽으므로 요청 사이에 디스크에서 바뀐 값을 반영
+     * - 작성 중이라 문법 오류가 있는 소스는 일부만 추출된 결과 대신 예외로 알림
+     * - 파일당 최대 크기/제한 시간을 넘기면 예외로 알림
+     *
+     * @param filePath DTO 파일 판단과 결과 경로에 사용할 파일 경로
+     * @param content 소스 내용
+     * @throws IllegalArgumentException 소스를 파싱할 수 없거나 제한을 넘긴 경우
      */
-    private void processFile(Path filePath) {
+    public EndpointsInfo extractFromSource(String filePath, String content) {
+        controllers.clear();
+        dtoClasses.clear();
+        clearCaches();
+
+        Path path = Paths.get(filePath);
+        if (exceedsMaxFileBytes(content)) {
+            throw new IllegalArgumentException("최대 크기(" + maxFileBytes + " bytes)를 넘는 소스입니다: " + filePath);
+        }
+        FileDeadline deadline = FileDeadline.after(fileTimeoutMillis);
         try {
-            // 파일을 AST로 파싱
-            CompilationUnit cu = javaParser.parse(filePath).getResult().orElse(null);
-            if (cu == null) return;
+            ParseResult<CompilationUnit> parsed = javaParser.parse(ParseStart.COMPILATION_UNIT,
+                Providers.provider(deadline.guard(new StringReader(content))));
+            deadline.check();
+            CompilationUnit cu = parsed.getResult().orElse(null);
+            if (!parsed.isSuccessful() || cu == null) {
+                String problem = parsed.getProblems().isEmpty() ? "" : " - " + parsed.getProblem(0).getVerboseMessage();
+                throw new IllegalArgumentException("소스를 파싱할 수 없습니다: " + filePath + problem);
+            }
+            visitor().visit(cu, path, isDtoFile(path), deadline);
+        } catch (FileDeadline.Exceeded e) {
+            visitor().discardIncompleteVisit();
+            throw new IllegalArgumentException("제한 시간(" + fileTimeoutMillis + "ms)을 넘겨 중단했습니다: " + filePath);
+        }
+
+        return EndpointsInfo.ofControllersAndDtos(new ArrayList<>(controllers), new ArrayList<>(dtoClasses));
+    }
 
-            // 파일명으로 DTO 클래스인지 확인
-            if (isDtoFile(filePath)) {
-                cu.accept(new DtoVisitor(filePath, dtoClasses), null);
+    /**
+     * 디스크에서 읽을 때와 같은 기준(UTF-8 바이트 수)으로 최대 크기를 넘는지 확인
+     * - 모든 문자가 3바이트여도 넘지 않으면 세지 않고, 세는 중에 넘으면 바로 멈춤
+     */
+    private boolean exceedsMaxFileBytes(String content) {
+        if (maxFileBytes <= 0 || content.length() * 3L <= maxFileBytes) {
+            return false;
+        }
+        long bytes = 0;
+        for (int i = 0; i < content.length() && bytes <= maxFileBytes; i++) {
+            char c = content.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < content.length() && Character.isLowSurrogate(content.charAt(i + 1))) {
+                bytes += 4;
+                i++;
             } else {
-                // AST를 순회하며 Controller 정보 추출
-                cu.accept(new ControllerVisitor(controllers, dtoClasses, projectRoot), null);
+                bytes += 3;
             }
-        } catch (Exception e) {
-            System.err.println("Error processing file: " + filePath + " - " + e.getMessage());
+        }
+        return bytes > maxFileBytes;
+    }
+
+    /**
+     * JavaParser를 사용하여 파일을 파싱하고, SourceFileVisitor를 통해
+     * Controller 클래스와 메서드, DTO 정보를 추출
+     */
+    private void processFile(Path filePath) {
+        FileProcessResult result = processFileWithResult(filePath);
+        if (!result.isSuccess()) {
+            System.err.println("Error processing file: " + filePath + " - " + result.getErrorMessage());
         }
     }
 
     /**
      * 파일 처리 결과를 반환하는 개선된 메서드
+     * - 최대 크기를 넘거나 제한 시간 안에 끝나지 않은 파일, 처리 중 오류가 난 파일은 skippedFiles에 기록
      */
     private FileProcessResult processFileWithResult(Path filePath) {
         try {
-            // 파일을 AST로 파싱
-            CompilationUnit cu = javaParser.parse(filePath).getResult().orElse(null);
-            if (cu == null) {
-                return FileProcessResult.error("파일을 파싱할 수 없습니다: " + filePath);
+            // 파일을 재사용 버퍼로 읽어 디코딩 (크기는 읽기 전에 열린 채널에서 확인)
+            SourceLoader loader = sourceLoader();
+            CharBuffer content = loader.load(filePath, maxFileBytes);
+            if (content == null) {
+                return skip(filePath, SkippedFile.TOO_LARGE,
+                    "파일 크기 " + loader.lastSize() + " bytes가 최대 크기 " + maxFileBytes + " bytes를 넘습니다");
+            }
+            if (loader.detectedOtherCharset()) {
+                System.err.println("⚠️  " + loader.detectedCharset() + " 인코딩으로 읽었습니다 (UTF-8 아님): " + filePath);
             }
 
+            FileDeadline deadline = FileDeadline.after(fileTimeoutMillis);
             boolean isDto = isDtoFile(filePath);
-            boolean isController = false;
-            
-            // 파일명으로 DTO 클래스인지 확인
-            if (isDto) {
-                cu.accept(new DtoVisitor(filePath, dtoClasses), null);
-            } else {
-                // AST를 순회하며 Controller 정보 추출
-                cu.accept(new ControllerVisitor(controllers, dtoClasses, projectRoot), null);
-                isController = true; // 컨트롤러 파일로 처리됨
+
+            // scanner 엔진: 선언부만 읽어 추출하고, 처리할 수 없는 구성이면 일부 결과를 버리고 AST로 다시 처리
+            if (engine.equals(ENGINE_SCANNER)) {
+                try {
+                    List<SourceScanner.ScannedType> types = scanner().scan(content, deadline);
+                    visitor().visitScanned(types, scanner().imports(), filePath, isDto, deadline);
+                    scannedFiles++;
+                    return FileProcessResult.success(!isDto, isDto);
+                } catch (SourceScanner.Unsupported e) {
+                    visitor().discardIncompleteVisit();
+                    fallbackFiles++;
+                }
             }
+
+            // AST로 파싱 (파서가 입력을 읽을 때마다 제한 시간 확인)
+            Reader source = new CharArrayReader(content.array(), content.arrayOffset() + content.position(), content.remaining());
+            ParseResult<CompilationUnit> parsed = javaParser.parse(ParseStart.COMPILATION_UNIT,
+                Providers.provider(deadline.guard(source)));
+            deadline.check();
+            CompilationUnit cu = parsed.getResult().orElse(null);
+            if (cu == null) {
+                return skip(filePath, SkippedFile.ERROR, "파일을 파싱할 수 없습니다");
+            }
+            cu.setStorage(filePath, loader.detectedCharset());
+
+            // 한 번의 순회로 컨트롤러/DTO 정보 추출 (파일명이 DTO 패턴이면 모든 클래스를 DTO로 처리)
+            visitor().visit(cu, filePath, isDto, deadline);
+
+            return FileProcessResult.success(!isDto, isDto);
             
-            return FileProcessResult.success(isController, isDto);
-            
-        } catch (Exception e) {
-            return FileProcessResult.error("파일 처리 중 오류 발생: " + filePath + " - " + e.getMessage());
+        } catch (FileDeadline.Exceeded e) {
+            // 중단된 파일의 일부 결과는 버림
+            visitor().discardIncompleteVisit();
+            return skip(filePath, SkippedFile.TIMEOUT, "제한 시간 " + fileTimeoutMillis + "ms 안에 파싱/순회를 끝내지 못했습니다");
+        } catch (Exception | StackOverflowError e) {
+            // 깊게 중첩된 식은 파서 재귀가 스택을 넘길 수 있음
+            visitor().discardIncompleteVisit();
+            return skip(filePath, SkippedFile.ERROR, "파일 처리 중 오류 발생: " + e);
         }
     }
 
+    private FileProcessResult skip(Path filePath, String reason, String message) {
+        skippedFiles.add(SkippedFile.builder()
+            .filePath(filePath.toString())
+            .reason(reason)
+            .message(message)
+            .build());
+        return FileProcessResult.error(reason + ": " + filePath + " - " + message);
+    }
+
+    /**
+     * 전체 스캔 대상 파일인지 확인 (경로에 'controller'가 포함된 .java 파일)
+     */
+    public static boolean isControllerSource(Path path) {
+        String pathString = path.toString();
+        return pathString.endsWith(".java") && pathString.contains("controller");
+    }
+
     /**
      * 파일명 패턴으로 DTO 클래스인지 확인
      * 패턴: *Dto, *DTO, *Req, *Res,*Request, *Response
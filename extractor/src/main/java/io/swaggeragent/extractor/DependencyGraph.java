@@ -0,0 +1,306 @@
+package io.swaggeragent.extractor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseStart;
+import com.github.javaparser.Providers;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.RecordDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.Name;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+import io.swaggeragent.extractor.model.DependencyGraphInfo;
+import io.swaggeragent.extractor.model.FileDependencies;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * 실행 간에 유지되는 컨트롤러/DTO 역의존 그래프
+ *
+ * 파일마다 선언한 클래스와 시그니처에서 참조하는 클래스(@RequestBody/반환 타입의 제네릭 인자, DTO 필드 타입, 상속,
+ * 클래스/메서드 어노테이션(합성 어노테이션 포함), 매핑 경로 상수를 담은 클래스)를
+ * out/dependencies.json에 저장하고, 변경된 파일에서 역방향으로 따라가 다시 추출해야 하는 최소 파일 집합을 계산
+ * - 갱신: 수정 시각이 바뀌었거나 새로 생긴 파일만 다시 파싱하고, 사라진 파일은 제거
+ * - 조회: 변경 파일이 선언한 클래스를 참조하는 파일을 전이적으로 수집 (DTO -> 감싸는 DTO -> 컨트롤러)
+ * - 같은 단순명의 클래스가 여러 패키지에 있으면 모두 영향받는 것으로 처리 (누락보다 과포함)
+ */
+public class DependencyGraph {
+    private final Path projectRoot;
+
+    // null이면 디스크에 저장하지 않고 메모리에서만 사용
+    private final Path graphFile;
+
+    private final JavaParser javaParser = new JavaParser();
+
+    private final SourceLoader sourceLoader = new SourceLoader(javaParser.getParserConfiguration().getCharacterEncoding());
+
+    // 파일 경로 -> 의존 정보 (저장 시 경로 순서 유지)
+    private final Map<String, FileDependencies> files;
+
+    // 이번 실행에서 갱신/삭제된 파일이 이전에 선언했던 클래스 (이름이 바뀐 클래스의 참조 파일도 찾기 위함)
+    private final Map<String, List<String>> previousDeclarations = new HashMap<>();
+
+    // 클래스 단순명 -> 참조하는 파일 (처음 조회할 때 생성)
+    private Map<String, Set<String>> referencingFiles;
+
+    private boolean dirty;
+
+    private DependencyGraph(Path projectRoot, Path graphFile, Map<String, FileDependencies> files) {
+        this.projectRoot = projectRoot;
+        this.graphFile = graphFile;
+        this.files = files;
+    }
+
+    /**
+     * 그래프 파일을 읽어서 열기
+     * - 파일이 없거나 손상되었거나 다른 프로젝트의 그래프면 빈 그래프로 시작 (refresh()에서 전체 분석)
+     *
+     * @param projectRoot 분석할 프로젝트 루트
+     * @param graphFile 그래프 파일 경로 (null이면 메모리 전용)
+     */
+    public static DependencyGraph open(Path projectRoot, Path graphFile) {
+        Path root = projectRoot.toAbsolutePath().normalize();
+        Map<String, FileDependencies> files = new TreeMap<>();
+        if (graphFile != null && Files.isRegularFile(graphFile)) {
+            try {
+                DependencyGraphInfo saved = new ObjectMapper().readValue(graphFile.toFile(), DependencyGraphInfo.class);
+                if (root.toString().equals(saved.getProjectRoot()) && saved.getFiles() != null) {
+                    files.putAll(saved.getFiles());
+                }
+            } catch (IOException e) {
+                System.err.println("의존 그래프를 읽을 수 없어 다시 생성합니다: " + e.getMessage());
+            }
+        }
+        return new DependencyGraph(root, graphFile, files);
+    }
+
+    /**
+     * 수정 시각이 바뀌었거나 새로 생긴 파일을 다시 분석하고, 사라진 파일은 그래프에서 제거
+     *
+     * @return 마지막 저장 이후 변경/추가/삭제된 파일 경로
+     */
+    public Set<String> refresh() {
+        Set<String> changed = new LinkedHashSet<>();
+        Set<String> seen = new HashSet<>();
+        for (Path file : SymbolIndex.listSourceFiles(projectRoot)) {
+            String key = file.toString();
+            seen.add(key);
+            long mtime;
+            try {
+                mtime = Files.getLastModifiedTime(file).toMillis();
+            } catch (IOException e) {
+                continue;
+            }
+            FileDependencies existing = files.get(key);
+            if (existing != null && existing.getLastModified() == mtime) continue;
+
+            if (existing != null) {
+                previousDeclarations.put(key, existing.getDeclaredTypes());
+            }
+            files.put(key, analyze(file, mtime));
+            changed.add(key);
+        }
+        for (Iterator<Map.Entry<String, FileDependencies>> it = files.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, FileDependencies> entry = it.next();
+            if (!seen.contains(entry.getKey())) {
+                previousDeclarations.put(entry.getKey(), entry.getValue().getDeclaredTypes());
+                changed.add(entry.getKey());
+                it.remove();
+            }
+        }
+        if (!changed.isEmpty()) {
+            dirty = true;
+            referencingFiles = null;
+        }
+        return changed;
+    }
+
+    /**
+     * 변경된 파일 때문에 다시 추출해야 하는 파일 집합 (변경 파일 포함)
+     * - 변경 파일이 선언한(이전에 선언했던) 클래스를 참조하는 파일을 너비 우선으로 전이적으로 수집
+     *
+     * @param changedFiles 변경된 파일 경로 (상대 경로면 현재 디렉토리 기준)
+     * @return 변경 파일부터 영향 순서대로 정렬된 파일 경로
+     */
+    public Set<String> affectedFiles(Collection<String> changedFiles) {
+        Map<String, Set<String>> referencing = referencingFiles();
+        Set<String> affected = new LinkedHashSet<>();
+        Deque<String> queue = new ArrayDeque<>();
+        for (String changedFile : changedFiles) {
+            String key = Paths.get(changedFile).toAbsolutePath().normalize().toString();
+            if (affected.add(key)) queue.add(key);
+        }
+        while (!queue.isEmpty()) {
+            String file = queue.poll();
+            for (String type : declaredTypes(file)) {
+                for (String dependent : referencing.getOrDefault(type, Set.of())) {
+                    if (affected.add(dependent)) queue.add(dependent);
+                }
+            }
+        }
+        return affected;
+    }
+
+    public int size() {
+        return files.size();
+    }
+
+    /**
+     * 변경 사항이 있으면 그래프 파일에 저장 (임시 파일에 쓴 뒤 원자적으로 교체)
+     */
+    public void save() throws IOException {
+        if (graphFile == null || !dirty) {
+            return;
+        }
+        Path target = graphFile.toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            new ObjectMapper().writeValue(temp.toFile(), new DependencyGraphInfo(projectRoot.toString(), files));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        dirty = false;
+    }
+
+    private Set<String> declaredTypes(String file) {
+        Set<String> types = new LinkedHashSet<>();
+        FileDependencies current = files.get(file);
+        if (current != null) types.addAll(current.getDeclaredTypes());
+        List<String> previous = previousDeclarations.get(file);
+        if (previous != null) types.addAll(previous);
+        return types;
+    }
+
+    private Map<String, Set<String>> referencingFiles() {
+        if (referencingFiles == null) {
+            referencingFiles = new HashMap<>();
+            for (Map.Entry<String, FileDependencies> entry : files.entrySet()) {
+                for (String type : entry.getValue().getReferencedTypes()) {
+                    referencingFiles.computeIfAbsent(type, k -> new LinkedHashSet<>()).add(entry.getKey());
+                }
+            }
+        }
+        return referencingFiles;
+    }
+
+    /**
+     * 파일을 파싱하여 선언/참조 클래스 수집 (메서드 본문은 보지 않음)
+     * - 파싱할 수 없는 파일은 파일명을 선언 클래스로 간주
+     */
+    private FileDependencies analyze(Path file, long mtime) {
+        Set<String> declared = new LinkedHashSet<>();
+        Set<String> referenced = new LinkedHashSet<>();
+        try {
+            CompilationUnit cu = javaParser.parse(ParseStart.COMPILATION_UNIT,
+                Providers.provider(sourceLoader.open(file))).getResult().orElse(null);
+            if (cu != null) {
+                for (ImportDeclaration imported : cu.getImports()) {
+                    if (imported.isStatic()) collectStaticImport(imported, referenced);
+                }
+                for (TypeDeclaration<?> type : cu.getTypes()) {
+                    collect(type, declared, referenced);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("의존 분석 중 오류: " + file + " - " + e.getMessage());
+        }
+        if (declared.isEmpty()) {
+            String fileName = file.getFileName().toString();
+            declared.add(fileName.substring(0, fileName.length() - ".java".length()));
+        }
+        referenced.removeAll(declared);
+        return FileDependencies.builder()
+            .lastModified(mtime)
+            .declaredTypes(new ArrayList<>(declared))
+            .referencedTypes(new ArrayList<>(referenced))
+            .build();
+    }
+
+    private void collect(TypeDeclaration<?> type, Set<String> declared, Set<String> referenced) {
+        declared.add(type.getNameAsString());
+        collectAnnotationReferences(type.getAnnotations(), referenced);
+        if (type instanceof ClassOrInterfaceDeclaration) {
+            ClassOrInterfaceDeclaration declaration = (ClassOrInterfaceDeclaration) type;
+            declaration.getExtendedTypes().forEach(t -> collectTypeNames(t, referenced));
+            declaration.getImplementedTypes().forEach(t -> collectTypeNames(t, referenced));
+        } else if (type instanceof RecordDeclaration) {
+            for (Parameter component : ((RecordDeclaration) type).getParameters()) {
+                collectTypeNames(component.getType(), referenced);
+            }
+        }
+        for (BodyDeclaration<?> member : type.getMembers()) {
+            if (member.isTypeDeclaration()) {
+                collect(member.asTypeDeclaration(), declared, referenced);
+            } else if (member.isFieldDeclaration()) {
+                FieldDeclaration field = member.asFieldDeclaration();
+                for (VariableDeclarator variable : field.getVariables()) {
+                    collectTypeNames(variable.getType(), referenced);
+                }
+            } else if (member.isMethodDeclaration()) {
+                MethodDeclaration method = member.asMethodDeclaration();
+                collectAnnotationReferences(method.getAnnotations(), referenced);
+                collectTypeNames(method.getType(), referenced);
+                for (Parameter parameter : method.getParameters()) {
+                    collectTypeNames(parameter.getType(), referenced);
+                }
+            }
+        }
+    }
+
+    /**
+     * 타입과 그 제네릭 인자에 나오는 클래스 단순명 수집 (예: ResponseEntity<List<UserDto>> -> ResponseEntity, List, UserDto)
+     */
+    private static void collectTypeNames(Type type, Set<String> names) {
+        for (ClassOrInterfaceType classType : type.findAll(ClassOrInterfaceType.class)) {
+            names.add(classType.getNameAsString());
+        }
+    }
+
+    /**
+     * 어노테이션 단순명과 어노테이션 값에서 상수를 가진 클래스 단순명 수집
+     * (예: @ShopEndpoint -> ShopEndpoint, @RequestMapping(ApiPaths.USERS) -> RequestMapping, ApiPaths)
+     * - 상수는 대문자로 시작하고 전부 대문자는 아닌 이름을 클래스로 간주 (com.example.ApiPaths.Orders.BASE -> ApiPaths, Orders)
+     */
+    private static void collectAnnotationReferences(List<AnnotationExpr> annotations, Set<String> names) {
+        for (AnnotationExpr annotation : annotations) {
+            names.add(annotation.getName().getIdentifier());
+            for (NameExpr name : annotation.findAll(NameExpr.class)) {
+                addClassLikeName(name.getNameAsString(), names);
+            }
+            for (FieldAccessExpr access : annotation.findAll(FieldAccessExpr.class)) {
+                addClassLikeName(access.getNameAsString(), names);
+            }
+        }
+    }
+
+    private static void addClassLikeName(String identifier, Set<String> names) {
+        if (Character.isUpperCase(identifier.charAt(0)) && !identifier.equals(identifier.toUpperCase())) {
+            names.add(identifier);
+        }
+    }
+
+    /**
+     * static import의 클래스 단순명 수집 (예: import static com.example.ApiPaths.USERS -> ApiPaths)
+     */
+    private static void collectStaticImport(ImportDeclaration imported, Set<String> names) {
+        Name owner = imported.isAsterisk() ? imported.getName() : imported.getName().getQualifier().orElse(null);
+        if (owner != null) {
+            names.add(owner.getIdentifier());
+        }
+    }
+}
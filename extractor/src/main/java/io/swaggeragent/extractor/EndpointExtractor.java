@@ -0,0 +1,304 @@
+package io.swaggeragent.extractor;
+
+import com.github.javaparser.JavaParser;
+import io.swaggeragent.extractor.model.ControllerInfo;
+import io.swaggeragent.extractor.model.DtoInfo;
+import io.swaggeragent.extractor.model.EndpointsInfo;
+import io.swaggeragent.extractor.model.FileExtractionResult;
+import io.swaggeragent.extractor.model.SkippedFile;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 다른 서비스에 내장하기 위한 스레드 안전하고 재사용 가능한 추출 API
+ *
+ * 전체 스캔이 끝날 때까지 기다리지 않도록 파일 단위 결과(컨트롤러, DTO, 건너뛴 파일)를 Flow.Publisher로 발행
+ * - 구독할 때마다 새로 추출하며(콜드 발행), 구독마다 별도의 ControllerExtractor를 만들어 결과를 격리
+ * - 구독자가 request(n)로 요청한 만큼만 파일을 처리하고(배압), cancel()하면 처리 중인 파일까지만 추출하고 멈춤
+ * - 파일 처리는 지정한 Executor에서 실행하며, 한 구독의 신호(onNext/onError/onComplete)는 순차적으로 전달
+ * - 설정은 생성 시 고정되므로 여러 스레드에서 동시에 publish()/extract()를 호출해도 안전
+ */
+public class EndpointExtractor {
+    private final Path projectRoot;
+
+    // null이면 메모리 인덱스만 사용 (여러 구독이 같은 파일을 써도 원자적으로 교체되므로 안전)
+    private final Path symbolIndexFile;
+
+    private final long maxFileBytes;
+
+    private final long fileTimeoutMillis;
+
+    private final Executor executor;
+
+    /**
+     * 기본 제한값과 공용 ForkJoinPool로 추출하는 추출기 생성
+     */
+    public EndpointExtractor(Path projectRoot) {
+        this(projectRoot, null, ControllerExtractor.DEFAULT_MAX_FILE_BYTES,
+            ControllerExtractor.DEFAULT_FILE_TIMEOUT_MILLIS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param projectRoot DTO 파일 검색 기준이 되는 프로젝트 루트
+     * @param symbolIndexFile 실행 간에 공유할 심볼 인덱스 파일 (null이면 메모리 전용)
+     * @param maxFileBytes 파일당 최대 크기 (0 이하이면 제한 없음)
+     * @param fileTimeoutMillis 파일당 파싱/순회 제한 시간 (0 이하이면 제한 없음)
+     * @param executor 파일 처리를 실행할 Executor
+     */
+    public EndpointExtractor(Path projectRoot, Path symbolIndexFile, long maxFileBytes, long fileTimeoutMillis,
+                             Executor executor) {
+        this.projectRoot = projectRoot;
+        this.symbolIndexFile = symbolIndexFile;
+        this.maxFileBytes = maxFileBytes;
+        this.fileTimeoutMillis = fileTimeoutMillis;
+        this.executor = executor;
+    }
+
+    /**
+     * 소스 경로의 컨트롤러 파일(전체 스캔 대상)을 파일 단위로 추출하여 발행
+     */
+    public Flow.Publisher<FileExtractionResult> publish(String sourcePath) {
+        return subscriber -> subscribe(subscriber, extractor -> extractor.listSources(sourcePath));
+    }
+
+    /**
+     * 지정한 파일(컨트롤러/DTO/혼합 파일)을 순서대로 추출하여 발행
+     */
+    public Flow.Publisher<FileExtractionResult> publishFiles(List<Path> files) {
+        List<Path> snapshot = List.copyOf(files);
+        return subscriber -> subscribe(subscriber, extractor -> snapshot);
+    }
+
+    /**
+     * 소스 경로의 컨트롤러 파일을 모두 추출하여 하나의 결과로 반환 (ControllerExtractor.extract()와 같은 결과)
+     */
+    public EndpointsInfo extract(String sourcePath) throws IOException {
+        return collect(publish(sourcePath));
+    }
+
+    /**
+     * 지정한 파일을 모두 추출하여 하나의 결과로 반환
+     */
+    public EndpointsInfo extractFiles(List<Path> files) throws IOException {
+        return collect(publishFiles(files));
+    }
+
+    /**
+     * 발행된 파일 단위 결과를 모두 받아 하나의 결과로 병합 (호출한 스레드는 완료까지 대기)
+     * - 파일 처리 순서와 관계없이 EndpointsInfo.canonical()로 정리
+     */
+    public static EndpointsInfo collect(Flow.Publisher<FileExtractionResult> publisher) throws IOException {
+        CompletableFuture<EndpointsInfo> result = new CompletableFuture<>();
+        CompletableFuture<Flow.Subscription> subscription = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            private final List<ControllerInfo> controllers = new ArrayList<>();
+            private final List<DtoInfo> dtoClasses = new ArrayList<>();
+            private final List<SkippedFile> skippedFiles = new ArrayList<>();
+
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription.complete(s);
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(FileExtractionResult file) {
+                controllers.addAll(file.getControllers());
+                dtoClasses.addAll(file.getDtoClasses());
+                if (file.getSkippedFile() != null) {
+                    skippedFiles.add(file.getSkippedFile());
+                }
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                result.completeExceptionally(error);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(EndpointsInfo.canonical(controllers, dtoClasses, skippedFiles));
+            }
+        });
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            subscription.thenAccept(Flow.Subscription::cancel);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("추출을 기다리는 중 인터럽트되었습니다");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) throw ((UncheckedIOException) cause).getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    private void subscribe(Flow.Subscriber<? super FileExtractionResult> subscriber, FileSource files) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        FileSubscription subscription = new FileSubscription(subscriber, files);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private ControllerExtractor newExtractor() {
+        // 구독마다 Executor의 여러 스레드를 옮겨 다니며 순차 실행되므로 스레드별이 아닌 구독별 파서 사용
+        ControllerExtractor extractor = new ControllerExtractor(new JavaParser(), new ArrayList<>(), new HashSet<>());
+        extractor.setProjectRoot(projectRoot != null ? projectRoot : Paths.get(System.getProperty("user.dir")));
+        extractor.setSymbolIndexFile(symbolIndexFile);
+        extractor.setMaxFileBytes(maxFileBytes);
+        extractor.setFileTimeoutMillis(fileTimeoutMillis);
+        return extractor;
+    }
+
+    @FunctionalInterface
+    private interface FileSource {
+        List<Path> list(ControllerExtractor extractor) throws IOException;
+    }
+
+    /**
+     * 구독 하나의 상태
+     * - request()/cancel()이 어느 스레드에서 오든 처리 루프는 한 번에 하나만 Executor에서 실행 (wip 카운터)
+     * - 처리 루프 사이의 상태(추출기, 다음 파일 위치)는 wip의 원자적 갱신으로 다음 실행에 보임
+     */
+    private final class FileSubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super FileExtractionResult> subscriber;
+        private final FileSource source;
+
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile boolean invalidRequest;
+
+        // 처리 루프에서만 접근
+        private ControllerExtractor extractor;
+        private List<Path> files;
+        private int next;
+        private boolean done;
+
+        private FileSubscription(Flow.Subscriber<? super FileExtractionResult> subscriber, FileSource source) {
+            this.subscriber = subscriber;
+            this.source = source;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // Reactive Streams 규칙 3.9: 0 이하 요청은 onError로 알림
+                invalidRequest = true;
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    wip.set(0);
+                    terminate(e);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                release();
+                return;
+            }
+            if (invalidRequest) {
+                terminate(new IllegalArgumentException("request()에는 1 이상의 값을 지정해야 합니다"));
+                return;
+            }
+            try {
+                if (files == null) {
+                    extractor = newExtractor();
+                    files = source.list(extractor);
+                }
+                while (next < files.size() && demand.get() > 0 && !cancelled) {
+                    FileExtractionResult result = extractor.extractFile(files.get(next++));
+                    demand.decrementAndGet();
+                    if (!signal(() -> subscriber.onNext(result))) {
+                        return;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                terminate(e);
+                return;
+            }
+            if (cancelled) {
+                release();
+            } else if (next >= files.size()) {
+                done = true;
+                release();
+                signal(subscriber::onComplete);
+            }
+        }
+
+        /**
+         * 구독자에게 onNext/onComplete 신호 전달
+         * - 구독자가 예외를 던지면 규칙 2.13에 따라 구독을 취소하고 같은 구독자에게 onError를 보내지 않음 (예외는 표준 에러로 알림)
+         *
+         * @return 정상적으로 전달했으면 true
+         */
+        private boolean signal(Runnable signal) {
+            try {
+                signal.run();
+                return true;
+            } catch (RuntimeException e) {
+                System.err.println("구독자가 신호 처리 중 예외를 던져 구독을 취소합니다: " + e);
+                cancelled = true;
+                release();
+                return false;
+            }
+        }
+
+        private void terminate(Throwable error) {
+            if (done) {
+                return;
+            }
+            done = true;
+            release();
+            if (!cancelled) {
+                cancelled = true;
+                subscriber.onError(error);
+            }
+        }
+
+        private void release() {
+            done = done || cancelled;
+            extractor = null;
+            files = files == null ? null : List.of();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.swaggeragent.extractor;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 파일 하나의 파싱/순회에 허용된 시간 제한
+ *
+ * 스레드를 강제로 멈추지 않고, 파서가 입력을 읽을 때와 방문자가 타입/메서드를 넘어갈 때
+ * check()로 만료 여부를 확인하여 협력적으로 중단
+ * - 만료되면 Exceeded 예외로 현재 파일 처리만 중단하고 다음 파일로 넘어감
+ * - 제한이 0 이하이면 만료되지 않음
+ */
+final class FileDeadline {
+    static final FileDeadline NONE = new FileDeadline(Long.MAX_VALUE);
+
+    // 파서가 한 번에 읽는 최대 문자 수 (이 간격마다 만료 여부 확인)
+    private static final int READ_CHUNK = 4096;
+
+    private final long deadlineNanos;
+
+    private FileDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    static FileDeadline after(long millis) {
+        return millis > 0 ? new FileDeadline(System.nanoTime() + millis * 1_000_000L) : NONE;
+    }
+
+    boolean isExpired() {
+        return this != NONE && System.nanoTime() - deadlineNanos > 0;
+    }
+
+    void check() {
+        if (isExpired()) {
+            throw new Exceeded();
+        }
+    }
+
+    /**
+     * 읽을 때마다 만료 여부를 확인하는 Reader로 감쌈
+     * - 파서는 IOException을 입력 끝으로 처리하므로 비검사 예외로 중단
+     */
+    Reader guard(Reader reader) {
+        if (this == NONE) {
+            return reader;
+        }
+        return new Reader() {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                check();
+                return reader.read(buffer, offset, Math.min(length, READ_CHUNK));
+            }
+
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+        };
+    }
+
+    /**
+     * 파일당 제한 시간 초과
+     */
+    static final class Exceeded extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Exceeded() {
+            super("파일 처리 제한 시간 초과", null, false, false);
+        }
+    }
+}
@@ -1,22 +1,65 @@
 package io.swaggeragent.extractor;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import io.swaggeragent.extractor.model.AnnotationPlan;
+import io.swaggeragent.extractor.model.ApplyResult;
+import io.swaggeragent.extractor.model.BatchManifest;
+import io.swaggeragent.extractor.model.BatchProject;
+import io.swaggeragent.extractor.model.BatchProjectResult;
 import io.swaggeragent.extractor.model.EndpointsInfo;
+import io.swaggeragent.extractor.model.RouteConflict;
+import io.swaggeragent.extractor.model.RouteMatch;
+import io.swaggeragent.extractor.model.SkippedFile;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 명령행 인자를 받아서 Java 소스 코드에서 Spring Boot Controller의
  * API 엔드포인트 정보를 추출하고 JSON 파일로 출력
  * 
  * 사용법: 
- *   전체 스캔: java -jar extractor.jar --src=<소스경로> --out=<출력파일>
+ *   전체 스캔: java -jar extractor.jar --src=<소스경로> --out=<출력파일> [--shard=i/n]
  *   선택적 스캔: java -jar extractor.jar --files <파일1> <파일2> ... --out=<출력파일>
+ *   변경 영향 스캔: java -jar extractor.jar --changed [<파일1> ...] --out=<출력파일> (의존 그래프로 영향받는 파일만 재추출)
+ *   메모리 소스: java -jar extractor.jar --stdin (표준 입력의 {"path","content"} NDJSON을 읽어 파일별 결과를 NDJSON으로 출력)
+ *   공통 옵션: --only-undocumented (기존 OpenAPI 어노테이션으로 문서화된 엔드포인트/DTO 제외)
+ *            --max-file-size=<KB>, --file-timeout=<ms> (파일당 최대 크기/파싱 제한 시간, 0이면 제한 없음)
+ *            --openapi[=yaml|json] (endpoints.json 대신 OpenAPI 3 문서 골격 출력, 형식 생략 시 출력 파일 확장자로 결정)
+ *            --layout=normalized (타입/어노테이션 배열을 표로 분리하고 정수 ID로 참조하는 endpoints.json 출력)
+ *            --engine=scanner (메서드 본문을 건너뛰는 선언부 스캐너로 추출, 처리할 수 없는 파일만 AST로 다시 처리)
+ *            --budget=<ms> [--background] (시간 예산 안에 우선순위 순서로 처리하고 남은 파일은 pendingFiles에 기록,
+ *            --background면 남은 파일을 별도 프로세스에서 이어서 추출하여 출력 파일을 완성)
+ *   남은 파일 완성: java -jar extractor.jar complete --out=<endpoints.json> (pendingFiles를 추출하여 병합)
+ *   라우트 조회: java -jar extractor.jar query --in=<endpoints.json> [--conflicts] <HTTP메서드> <경로> ...
+ *   어노테이션 적용: java -jar extractor.jar apply --plan=<계획.json> [--root=<프로젝트루트>] [--threads=N] [--dry-run]
+ *   결과 병합: java -jar extractor.jar merge --out=<출력파일> [--openapi[=yaml|json]] [--layout=normalized] <부분결과1.json> <부분결과2.json> ...
+ *   일괄 추출: java -jar extractor.jar batch --manifest=<매니페스트.json> [--threads=N] (여러 프로젝트를 한 JVM에서 추출)
+ *            apply/batch에서 --threads를 생략하면 컨테이너 CPU/힙 한도로 동시 실행 수를 정하고 처리량/GC 압력/남은 작업에 따라 조정
  * 
  * @author qlqlrh
  * @version 1.0
@@ -30,15 +73,60 @@ public class Main {
      * 
      * @param args 명령행 인자 배열
      *             --src=<소스경로>: 분석할 Java 소스 코드가 있는 디렉토리 경로 (전체 스캔)
+     *             --shard=i/n: 전체 스캔 대상 파일을 n개로 나눈 것 중 i번째(1부터)만 추출 (merge로 병합)
      *             --files <파일1> <파일2> ...: 분석할 특정 파일들 (선택적 스캔)
+     *             --changed [<파일1> ...]: 변경된 파일과 이를 참조하는 컨트롤러/DTO만 추출 (파일 생략 시 마지막 실행 이후 수정된 파일)
      *             --out=<출력파일>: 추출된 정보를 저장할 JSON 파일 경로
+     *             --only-undocumented: 문서화가 완료된 엔드포인트/DTO를 출력에서 제외
+     *             --openapi[=yaml|json]: OpenAPI 3 문서 골격으로 출력
+     *             --layout=inline|normalized: endpoints.json 형식 (기본 inline, normalized는 타입/어노테이션 배열 표 사용)
+     *             --engine=ast|scanner: 추출 엔진 (기본 ast, scanner는 선언부만 읽고 지원하지 않는 구성은 파일 단위로 AST 사용)
+     *             --max-file-size=<KB>: 이보다 큰 파일은 건너뜀 (기본 2048, 0이면 제한 없음)
+     *             --file-timeout=<ms>: 파일당 파싱/순회 제한 시간 (기본 5000, 0이면 제한 없음)
+     *             --budget=<ms>: JVM 시작부터 추출을 멈출 때까지의 시간 예산 (지정/최근 수정 파일 -> 컨트롤러 -> DTO,
+     *                            작은 파일부터 처리, 결과 저장 시간은 제외)
+     *             --background: 예산 안에 처리하지 못한 파일을 별도 프로세스에서 이어서 추출 (complete)
      */
     public static void main(String[] args) {
+        // 서브커맨드 처리
+        if (args.length > 0 && args[0].equals("query")) {
+            runQuery(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("apply")) {
+            runApply(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("merge")) {
+            runMerge(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("batch")) {
+            runBatch(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("complete")) {
+            runComplete(args);
+            return;
+        }
+        if (Arrays.asList(args).contains("--stdin")) {
+            runStdin(args);
+            return;
+        }
+
         // 명령행 인자 개수 검증
         if (args.length < 2) {
             System.err.println("사용법:");
-            System.err.println("  전체 스캔: java -jar extractor.jar --src=<소스경로> --out=<출력파일>");
+            System.err.println("  전체 스캔: java -jar extractor.jar --src=<소스경로> --out=<출력파일> [--shard=i/n]");
             System.err.println("  선택적 스캔: java -jar extractor.jar --files <파일1> <파일2> ... --out=<출력파일>");
+            System.err.println("  변경 영향 스캔: java -jar extractor.jar --changed [<파일1> ...] --out=<출력파일>");
+            System.err.println("  메모리 소스: java -jar extractor.jar --stdin [--only-undocumented] < records.ndjson");
+            System.err.println("  라우트 조회: java -jar extractor.jar query --in=<endpoints.json> [--conflicts] <HTTP메서드> <경로> ...");
+            System.err.println("  어노테이션 적용: java -jar extractor.jar apply --plan=<계획.json> [--root=<프로젝트루트>] [--threads=N] [--dry-run]");
+            System.err.println("  결과 병합: java -jar extractor.jar merge --out=<출력파일> [--openapi[=yaml|json]] [--layout=normalized] <부분결과.json> ...");
+            System.err.println("  일괄 추출: java -jar extractor.jar batch --manifest=<매니페스트.json> [--threads=N]");
+            System.err.println("  시간 예산: 위 추출 명령에 --budget=<ms> [--background], 남은 파일 완성: complete --out=<endpoints.json>");
+            System.err.println("  추출 엔진: 위 추출 명령에 --engine=ast|scanner (기본 ast)");
             System.exit(1);
         }
 
@@ -46,14 +134,26 @@ public class Main {
         List<String> selectedFiles = new ArrayList<>();
         String outputFile = null;
         boolean filesMode = false;
+        boolean changedMode = false;
+        boolean onlyUndocumented = false;
+        String openApiFormat = null;
+        boolean normalized = false;
+        String engine = ControllerExtractor.ENGINE_AST;
+        long maxFileBytes = ControllerExtractor.DEFAULT_MAX_FILE_BYTES;
+        long fileTimeoutMillis = ControllerExtractor.DEFAULT_FILE_TIMEOUT_MILLIS;
+        long budgetMillis = 0;
+        boolean background = false;
+        int shardIndex = 0;
+        int shardCount = 1;
 
         // 명령행 인자 파싱
         for (int i = 0; i < args.length; i++) {
             String arg = args[i];
             if (arg.startsWith("--src=")) {
                 sourcePath = arg.substring(6);
-            } else if (arg.equals("--files")) {
+            } else if (arg.equals("--files") || arg.equals("--changed")) {
                 filesMode = true;
+                changedMode = arg.equals("--changed");
                 // --files 다음의 모든 인수를 파일 목록으로 처리
                 i++;
                 while (i < args.length && !args[i].startsWith("--")) {
@@ -63,6 +163,28 @@ public class Main {
                 i--; // 마지막 증가를 되돌림
             } else if (arg.startsWith("--out=")) {
                 outputFile = arg.substring(6);
+            } else if (arg.equals("--only-undocumented")) {
+                onlyUndocumented = true;
+            } else if (arg.equals("--openapi")) {
+                openApiFormat = "";
+            } else if (arg.startsWith("--openapi=")) {
+                openApiFormat = arg.substring(10);
+            } else if (arg.startsWith("--layout=")) {
+                normalized = parseLayout(arg.substring(9));
+            } else if (arg.startsWith("--engine=")) {
+                engine = parseEngine(arg.substring(9));
+            } else if (arg.startsWith("--max-file-size=")) {
+                maxFileBytes = Long.parseLong(arg.substring(16)) * 1024;
+            } else if (arg.startsWith("--file-timeout=")) {
+                fileTimeoutMillis = Long.parseLong(arg.substring(15));
+            } else if (arg.startsWith("--budget=")) {
+                budgetMillis = Long.parseLong(arg.substring(9));
+            } else if (arg.equals("--background")) {
+                background = true;
+            } else if (arg.startsWith("--shard=")) {
+                String[] shard = arg.substring(8).split("/");
+                shardIndex = shard.length == 2 && shard[0].matches("\\d+") ? Integer.parseInt(shard[0]) - 1 : -1;
+                shardCount = shard.length == 2 && shard[1].matches("\\d+") ? Integer.parseInt(shard[1]) : 0;
             }
         }
 
@@ -73,7 +195,7 @@ public class Main {
         }
 
         if (filesMode) {
-            if (selectedFiles.isEmpty()) {
+            if (selectedFiles.isEmpty() && !changedMode) {
                 System.err.println("--files 모드에서는 최소 하나의 파일이 필요합니다");
                 System.exit(1);
             }
@@ -83,22 +205,55 @@ public class Main {
                 System.exit(1);
             }
         }
+        if (shardCount != 1 && (filesMode || shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount)) {
+            System.err.println("--shard=i/n은 전체 스캔 모드에서 1 <= i <= n 형식으로 지정해야 합니다");
+            System.exit(1);
+        }
+        if (background && (budgetMillis <= 0 || openApiFormat != null)) {
+            System.err.println("--background는 --budget과 함께 endpoints.json 형식으로 출력할 때만 사용할 수 있습니다");
+            System.exit(1);
+        }
 
         try {
             ControllerExtractor extractor = new ControllerExtractor(new com.github.javaparser.JavaParser(), new ArrayList<>(), new HashSet<>());
+            // 심볼 인덱스는 출력 폴더에 저장하여 다음 실행에서 재사용
+            File outputDir = new File(outputFile).getAbsoluteFile().getParentFile();
+            extractor.setSymbolIndexFile(new File(outputDir, "symbols.idx").toPath());
+            extractor.setMaxFileBytes(maxFileBytes);
+            extractor.setFileTimeoutMillis(fileTimeoutMillis);
+            extractor.setEngine(engine);
+            if (shardCount > 1) {
+                extractor.setShard(shardIndex, shardCount);
+                System.out.println("🧩 샤드 " + (shardIndex + 1) + "/" + shardCount + " 추출 (merge로 병합)");
+            }
+            if (budgetMillis > 0) {
+                // 지정한 파일과 이전 출력 이후 수정된 파일을 먼저 처리
+                File previousOutput = new File(outputFile);
+                // 사용자가 기다리는 시간 기준이므로 JVM 시작 후 지난 시간도 예산에 포함
+                extractor.setBudget(Math.max(1, budgetMillis - ManagementFactory.getRuntimeMXBean().getUptime()));
+                extractor.setPriority(selectedFiles.stream().map(Paths::get).collect(Collectors.toList()),
+                    previousOutput.isFile() ? FileTime.fromMillis(previousOutput.lastModified()) : null);
+            }
             EndpointsInfo data;
             
-            if (filesMode) {
+            if (changedMode) {
+                // 변경 영향 모드: 의존 그래프로 다시 추출할 파일을 좁힌 뒤 선택적 파일 모드로 처리
+                data = extractor.extractFromFiles(affectedFiles(selectedFiles, new File(outputDir, "dependencies.json").toPath()));
+            } else if (filesMode) {
                 // 선택적 파일 모드
                 data = extractor.extractFromFiles(selectedFiles);
             } else {
                 // 전체 스캔 모드
                 data = extractor.extract(sourcePath);
             }
+
+            if (onlyUndocumented) {
+                int totalMethods = data.getTotalMethods();
+                data = data.onlyUndocumented();
+                System.out.println("📝 문서화 완료된 API 메소드 " + (totalMethods - data.getTotalMethods()) + "개 제외");
+            }
             
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.enable(SerializationFeature.INDENT_OUTPUT); // 가독성을 위한 들여쓰기 활성화
-            mapper.writeValue(new File(outputFile), data);
+            writeOutput(data, outputFile, openApiFormat, normalized, new File(System.getProperty("user.dir")).getName());
             
             // 처리된 파일이 있는지 확인
             int totalItems = data.getControllers().size() + 
@@ -110,10 +265,36 @@ public class Main {
                 if (data.getDtoClasses() != null && !data.getDtoClasses().isEmpty()) {
                     System.out.println("📊 DTO 클래스: " + data.getDtoClasses().size() + "개");
                 }
+                if (data.getRouteConflicts() != null && !data.getRouteConflicts().isEmpty()) {
+                    System.out.println("⚠️  라우트 충돌/중복: " + data.getRouteConflicts().size() + "건");
+                    for (RouteConflict conflict : data.getRouteConflicts()) {
+                        System.out.println("   - [" + conflict.getType() + "] " + conflict.getHttpMethod() + " "
+                            + conflict.getPatterns() + " " + conflict.getHandlers());
+                    }
+                }
                 System.out.println("💾 저장됨: " + outputFile);
             } else {
                 System.out.println("⚠️  처리할 수 있는 파일이 없습니다.");
             }
+            if (engine.equals(ControllerExtractor.ENGINE_SCANNER)) {
+                System.out.println("🔎 scanner 엔진: " + extractor.getScannedFileCount() + "개 파일 스캔, "
+                    + extractor.getFallbackFileCount() + "개 파일은 AST로 다시 처리");
+            }
+            if (!data.getSkippedFiles().isEmpty()) {
+                System.out.println("⏭️  건너뛴 파일: " + data.getSkippedFiles().size() + "개 (출력의 skippedFiles 참고)");
+                for (SkippedFile skipped : data.getSkippedFiles()) {
+                    System.out.println("   - [" + skipped.getReason() + "] " + skipped.getFilePath() + " - " + skipped.getMessage());
+                }
+            }
+            if (!data.getPendingFiles().isEmpty()) {
+                System.out.println("⏳ 예산 " + budgetMillis + "ms 안에 처리하지 못한 파일: " + data.getPendingFiles().size()
+                    + "개 (출력의 pendingFiles 참고, 부분 결과)");
+                if (background) {
+                    startCompletion(outputFile, maxFileBytes, fileTimeoutMillis, onlyUndocumented, normalized, engine);
+                } else if (openApiFormat == null) {
+                    System.out.println("   나머지는 complete --out=" + outputFile + " 로 이어서 추출할 수 있습니다");
+                }
+            }
             
         } catch (IOException e) {
             System.err.println("추출 중 오류 발생: " + e.getMessage());
@@ -121,4 +302,524 @@ public class Main {
             System.exit(1);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 추출 결과를 endpoints.json 형식 또는 OpenAPI 3 문서 골격으로 저장
+     *
+     * @param openApiFormat null이면 endpoints.json 형식, 그 외에는 yaml/json (빈 값이면 출력 파일 확장자로 결정)
+     * @param title OpenAPI 문서 제목
+     */
+    static void writeOutput(EndpointsInfo data, String outputFile, String openApiFormat, String title) throws IOException {
+        writeOutput(data, outputFile, openApiFormat, false, title);
+    }
+
+    /**
+     * 추출 결과를 endpoints.json 형식(기본/정규화) 또는 OpenAPI 3 문서 골격으로 저장
+     *
+     * @param normalized endpoints.json을 타입/어노테이션 배열 표를 쓰는 정규화 형식으로 저장할지 여부
+     */
+    static void writeOutput(EndpointsInfo data, String outputFile, String openApiFormat, boolean normalized,
+                            String title) throws IOException {
+        if (openApiFormat != null) {
+            // 형식을 지정하지 않으면 출력 파일 확장자로 결정 (.json 외에는 YAML)
+            boolean yaml = openApiFormat.isEmpty() ? !outputFile.endsWith(".json") : !openApiFormat.equals("json");
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(outputFile))) {
+                OpenApiWriter.write(data, out, yaml, title);
+            }
+        } else if (normalized) {
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(outputFile))) {
+                NormalizedLayout.write(data, out, new ObjectMapper());
+            }
+        } else {
+            ObjectMapper mapper = new ObjectMapper();
+            mapper.enable(SerializationFeature.INDENT_OUTPUT); // 가독성을 위한 들여쓰기 활성화
+            mapper.writeValue(new File(outputFile), data);
+        }
+    }
+
+    /**
+     * 남은 파일 추출(complete)을 별도 프로세스로 시작 (이 프로세스가 끝나도 계속 실행, 로그는 출력 폴더의 complete.log)
+     */
+    private static void startCompletion(String outputFile, long maxFileBytes, long fileTimeoutMillis,
+                                        boolean onlyUndocumented, boolean normalized, String engine) throws IOException {
+        List<String> command = new ArrayList<>(List.of(
+            Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+            "-cp", System.getProperty("java.class.path"), Main.class.getName(), "complete",
+            "--out=" + outputFile,
+            "--max-file-size=" + maxFileBytes / 1024,
+            "--file-timeout=" + fileTimeoutMillis,
+            "--layout=" + (normalized ? NormalizedLayout.LAYOUT : "inline"),
+            "--engine=" + engine));
+        if (onlyUndocumented) {
+            command.add("--only-undocumented");
+        }
+        File log = new File(new File(outputFile).getAbsoluteFile().getParentFile(), "complete.log");
+        new ProcessBuilder(command)
+            .redirectOutput(ProcessBuilder.Redirect.appendTo(log))
+            .redirectErrorStream(true)
+            .start();
+        System.out.println("🔄 남은 파일을 백그라운드에서 추출합니다 (완료되면 " + outputFile + " 갱신, 로그: " + log + ")");
+    }
+
+    /**
+     * 시간 예산으로 만든 부분 결과의 pendingFiles를 추출하여 병합하고 출력 파일을 원자적으로 교체
+     * - 추출하는 동안 출력 파일이 다시 생성되었으면(새 추출 실행) 더 최신 결과를 덮어쓰지 않고 버림
+     *
+     * @param args complete --out=<endpoints.json> [--only-undocumented] [--layout=normalized]
+     *             [--max-file-size=<KB>] [--file-timeout=<ms>] [--engine=ast|scanner]
+     */
+    private static void runComplete(String[] args) {
+        String outputFile = null;
+        boolean onlyUndocumented = false;
+        boolean normalized = false;
+        String engine = ControllerExtractor.ENGINE_AST;
+        long maxFileBytes = ControllerExtractor.DEFAULT_MAX_FILE_BYTES;
+        long fileTimeoutMillis = ControllerExtractor.DEFAULT_FILE_TIMEOUT_MILLIS;
+
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.startsWith("--out=")) {
+                outputFile = arg.substring(6);
+            } else if (arg.equals("--only-undocumented")) {
+                onlyUndocumented = true;
+            } else if (arg.startsWith("--layout=")) {
+                normalized = parseLayout(arg.substring(9));
+            } else if (arg.startsWith("--engine=")) {
+                engine = parseEngine(arg.substring(9));
+            } else if (arg.startsWith("--max-file-size=")) {
+                maxFileBytes = Long.parseLong(arg.substring(16)) * 1024;
+            } else if (arg.startsWith("--file-timeout=")) {
+                fileTimeoutMillis = Long.parseLong(arg.substring(15));
+            }
+        }
+
+        if (outputFile == null) {
+            System.err.println("--out 파라미터가 필요합니다");
+            System.exit(1);
+        }
+
+        try {
+            long start = System.nanoTime();
+            Path output = Paths.get(outputFile);
+            FileTime partialTime = Files.getLastModifiedTime(output);
+            EndpointsInfo partial = NormalizedLayout.readEndpoints(new ObjectMapper(), output.toFile());
+            List<String> pending = partial.getPendingFiles() != null ? partial.getPendingFiles() : List.of();
+            if (pending.isEmpty()) {
+                System.out.println("✅ 남은 파일이 없습니다: " + outputFile);
+                return;
+            }
+
+            ControllerExtractor extractor = new ControllerExtractor(new com.github.javaparser.JavaParser(), new ArrayList<>(), new HashSet<>());
+            extractor.setSymbolIndexFile(output.toAbsolutePath().getParent().resolve("symbols.idx"));
+            extractor.setMaxFileBytes(maxFileBytes);
+            extractor.setFileTimeoutMillis(fileTimeoutMillis);
+            extractor.setEngine(engine);
+            EndpointsInfo rest = extractor.extractFromFiles(pending);
+            if (onlyUndocumented) {
+                rest = rest.onlyUndocumented();
+            }
+            partial.setPendingFiles(List.of());
+            EndpointsInfo completed = EndpointsInfo.merge(List.of(partial, rest));
+
+            Path temp = output.resolveSibling(output.getFileName() + ".complete.tmp");
+            writeOutput(completed, temp.toString(), null, normalized, new File(System.getProperty("user.dir")).getName());
+            if (!Files.getLastModifiedTime(output).equals(partialTime)) {
+                Files.deleteIfExists(temp);
+                System.out.println("⚠️  추출하는 동안 " + outputFile + "이(가) 다시 생성되어 결과를 버립니다");
+                return;
+            }
+            Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            System.out.printf("✅ 남은 파일 %d개 추출 완료: 컨트롤러 %d개, API 메소드 %d개 (%dms)%n", pending.size(),
+                completed.getControllers().size(), completed.getTotalMethods(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            System.err.println("남은 파일 추출 중 오류 발생: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * --engine 값 해석 (ast 또는 scanner)
+     */
+    private static String parseEngine(String engine) {
+        if (!engine.equals(ControllerExtractor.ENGINE_AST) && !engine.equals(ControllerExtractor.ENGINE_SCANNER)) {
+            System.err.println("--engine은 " + ControllerExtractor.ENGINE_AST + " 또는 "
+                + ControllerExtractor.ENGINE_SCANNER + "로 지정해야 합니다: " + engine);
+            System.exit(1);
+        }
+        return engine;
+    }
+
+    /**
+     * --layout 값 해석 (normalized면 true)
+     */
+    private static boolean parseLayout(String layout) {
+        if (!layout.equals("inline") && !layout.equals(NormalizedLayout.LAYOUT)) {
+            System.err.println("--layout은 inline 또는 normalized로 지정해야 합니다: " + layout);
+            System.exit(1);
+        }
+        return layout.equals(NormalizedLayout.LAYOUT);
+    }
+
+    /**
+     * 의존 그래프를 갱신하고, 변경된 파일 때문에 다시 추출해야 하는 파일 목록 반환
+     * - 변경 파일을 지정하지 않으면 마지막 실행 이후 수정/추가/삭제된 파일을 변경 파일로 사용
+     * - 결과 경로는 현재 디렉토리 기준 상대 경로 (삭제된 파일 제외)
+     */
+    private static List<String> affectedFiles(List<String> changedFiles, Path graphFile) throws IOException {
+        long start = System.nanoTime();
+        Path projectRoot = Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize();
+        DependencyGraph graph = DependencyGraph.open(projectRoot, graphFile);
+        Set<String> modified = graph.refresh();
+        Set<String> affected = graph.affectedFiles(changedFiles.isEmpty() ? modified : changedFiles);
+        graph.save();
+
+        List<String> targets = new ArrayList<>();
+        for (String file : affected) {
+            Path path = Paths.get(file);
+            if (!Files.isRegularFile(path)) continue;
+            targets.add(path.startsWith(projectRoot) ? projectRoot.relativize(path).toString() : file);
+        }
+        System.out.printf("🔗 변경 파일 %d개 -> 다시 추출할 파일 %d개 (전체 %d개, 그래프 %dms)%n",
+            changedFiles.isEmpty() ? modified.size() : changedFiles.size(), targets.size(), graph.size(),
+            (System.nanoTime() - start) / 1_000_000);
+        return targets;
+    }
+
+    /**
+     * 추출된 endpoints.json으로 라우트 인덱스를 만들어 "HTTP메서드 경로" 쌍을 조회하고
+     * 결과를 JSON으로 출력
+     *
+     * @param args query --in=<endpoints.json> [--conflicts] <HTTP메서드> <경로> ...
+     */
+    private static void runQuery(String[] args) {
+        String inputFile = null;
+        boolean showConflicts = false;
+        List<String> queries = new ArrayList<>();
+
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.startsWith("--in=")) {
+                inputFile = arg.substring(5);
+            } else if (arg.equals("--conflicts")) {
+                showConflicts = true;
+            } else {
+                queries.add(arg);
+            }
+        }
+
+        if (inputFile == null) {
+            System.err.println("--in 파라미터가 필요합니다");
+            System.exit(1);
+        }
+        if (queries.size() % 2 != 0) {
+            System.err.println("조회는 <HTTP메서드> <경로> 쌍으로 지정해야 합니다");
+            System.exit(1);
+        }
+
+        try {
+            ObjectMapper mapper = new ObjectMapper();
+            mapper.enable(SerializationFeature.INDENT_OUTPUT);
+            EndpointsInfo data = NormalizedLayout.readEndpoints(mapper, new File(inputFile));
+            RouteIndex index = RouteIndex.of(data.getControllers());
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            Map<String, RouteMatch> matches = new LinkedHashMap<>();
+            long totalNanos = 0;
+            for (int i = 0; i < queries.size(); i += 2) {
+                long start = System.nanoTime();
+                RouteMatch match = index.find(queries.get(i), queries.get(i + 1)).orElse(null);
+                totalNanos += System.nanoTime() - start;
+                matches.put(queries.get(i).toUpperCase() + " " + queries.get(i + 1), match);
+            }
+            result.put("matches", matches);
+            if (showConflicts) {
+                result.put("conflicts", index.getConflicts());
+            }
+
+            System.out.println(mapper.writeValueAsString(result));
+            if (!matches.isEmpty()) {
+                System.err.printf("⏱  라우트 %d개, 조회 %d건, 평균 %.1fµs%n",
+                    index.size(), matches.size(), totalNanos / 1000.0 / matches.size());
+            }
+        } catch (IOException e) {
+            System.err.println("조회 중 오류 발생: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 어노테이션 계획(JSON)을 읽어 소스 파일에 병렬로 반영하고 처리량을 출력
+     *
+     * @param args apply --plan=<계획.json> [--root=<프로젝트루트>] [--threads=N] [--dry-run]
+     */
+    private static void runApply(String[] args) {
+        String planFile = null;
+        String root = System.getProperty("user.dir");
+        int threads = 0;
+        boolean dryRun = false;
+
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.startsWith("--plan=")) {
+                planFile = arg.substring(7);
+            } else if (arg.startsWith("--root=")) {
+                root = arg.substring(7);
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(arg.substring(10));
+            } else if (arg.equals("--dry-run")) {
+                dryRun = true;
+            }
+        }
+
+        if (planFile == null) {
+            System.err.println("--plan 파라미터가 필요합니다");
+            System.exit(1);
+        }
+
+        try {
+            ObjectMapper mapper = new ObjectMapper();
+            AnnotationPlan plan = mapper.readValue(new File(planFile), AnnotationPlan.class);
+            Path projectRoot = Paths.get(root).toAbsolutePath().normalize();
+            File planDir = new File(planFile).getAbsoluteFile().getParentFile();
+            SymbolIndex symbolIndex = SymbolIndex.open(projectRoot, new File(planDir, "symbols.idx").toPath());
+
+            AnnotationApplier applier = new AnnotationApplier(symbolIndex, projectRoot, threads);
+            ApplyResult result = applier.apply(plan, dryRun);
+
+            System.out.println((dryRun ? "🔎 변경 예정 파일: " : "✅ 어노테이션 적용 완료: ")
+                + "파일 " + result.getTotalFiles() + "개 중 변경 " + result.getChangedFiles().size()
+                + "개, 변경 없음 " + result.getUnchangedFiles() + "개");
+            for (String changedFile : result.getChangedFiles()) {
+                System.out.println("   - " + changedFile);
+            }
+            if (!result.getErrors().isEmpty()) {
+                System.out.println("⚠️  적용하지 못한 항목: " + result.getErrors().size() + "건");
+                for (String error : result.getErrors()) {
+                    System.out.println("   - " + error);
+                }
+            }
+            System.out.printf("⏱  %dms, %.1f files/s, %s%n", result.getElapsedMillis(), result.getFilesPerSecond(),
+                applier.getPool().describe());
+        } catch (IOException e) {
+            System.err.println("적용 중 오류 발생: " + e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 샤드/파일 단위로 나누어 추출한 endpoints.json들을 하나로 병합
+     * - DTO는 클래스명마다 하나만 남기고(자리표시자보다 실제 추출된 DTO), 통계와 라우트 충돌은 다시 계산
+     * - 결과는 한 번에 전체 스캔한 결과와 같음 (extractedAt 제외)
+     * - 부분 결과는 기본/정규화 형식이 섞여 있어도 됨
+     *
+     * @param args merge --out=<출력파일> [--openapi[=yaml|json]] [--layout=normalized] <부분결과1.json> <부분결과2.json> ...
+     */
+    private static void runMerge(String[] args) {
+        String outputFile = null;
+        String openApiFormat = null;
+        boolean normalized = false;
+        List<String> inputs = new ArrayList<>();
+
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.startsWith("--out=")) {
+                outputFile = arg.substring(6);
+            } else if (arg.equals("--openapi")) {
+                openApiFormat = "";
+            } else if (arg.startsWith("--openapi=")) {
+                openApiFormat = arg.substring(10);
+            } else if (arg.startsWith("--layout=")) {
+                normalized = parseLayout(arg.substring(9));
+            } else {
+                inputs.add(arg);
+            }
+        }
+
+        if (outputFile == null || inputs.isEmpty()) {
+            System.err.println("--out 파라미터와 병합할 결과 파일이 필요합니다");
+            System.exit(1);
+        }
+
+        try {
+            ObjectMapper mapper = new ObjectMapper();
+            List<EndpointsInfo> parts = new ArrayList<>(inputs.size());
+            for (String input : inputs) {
+                parts.add(NormalizedLayout.readEndpoints(mapper, new File(input)));
+            }
+            EndpointsInfo merged = EndpointsInfo.merge(parts);
+            writeOutput(merged, outputFile, openApiFormat, normalized, new File(System.getProperty("user.dir")).getName());
+
+            System.out.println("✅ 결과 " + parts.size() + "개 병합 완료: 컨트롤러 " + merged.getControllers().size()
+                + "개, API 메소드 " + merged.getTotalMethods() + "개, DTO " + merged.getTotalDtoClasses() + "개");
+            if (!merged.getSkippedFiles().isEmpty()) {
+                System.out.println("⏭️  건너뛴 파일: " + merged.getSkippedFiles().size() + "개 (출력의 skippedFiles 참고)");
+            }
+            System.out.println("💾 저장됨: " + outputFile);
+        } catch (IOException e) {
+            System.err.println("병합 중 오류 발생: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 매니페스트의 여러 프로젝트를 한 JVM에서 병렬로 추출하고 프로젝트별 소요 시간을 출력
+     * - 매니페스트: {"projects": [{"projectRoot", "sourcePath", "output", "onlyUndocumented", "openapi"}, ...]}
+     * - 상대 경로는 매니페스트 파일이 있는 디렉토리 기준
+     *
+     * @param args batch --manifest=<매니페스트.json> [--threads=N] [--max-file-size=<KB>] [--file-timeout=<ms>]
+     */
+    private static void runBatch(String[] args) {
+        String manifestFile = null;
+        int threads = 0;
+        long maxFileBytes = ControllerExtractor.DEFAULT_MAX_FILE_BYTES;
+        long fileTimeoutMillis = ControllerExtractor.DEFAULT_FILE_TIMEOUT_MILLIS;
+
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.startsWith("--manifest=")) {
+                manifestFile = arg.substring(11);
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(arg.substring(10));
+            } else if (arg.startsWith("--max-file-size=")) {
+                maxFileBytes = Long.parseLong(arg.substring(16)) * 1024;
+            } else if (arg.startsWith("--file-timeout=")) {
+                fileTimeoutMillis = Long.parseLong(arg.substring(15));
+            }
+        }
+
+        if (manifestFile == null) {
+            System.err.println("--manifest 파라미터가 필요합니다");
+            System.exit(1);
+        }
+
+        try {
+            long start = System.nanoTime();
+            BatchManifest manifest = new ObjectMapper().readValue(new File(manifestFile), BatchManifest.class);
+            Path baseDir = new File(manifestFile).getAbsoluteFile().getParentFile().toPath();
+            List<BatchProject> projects = new ArrayList<>();
+            Set<String> outputs = new HashSet<>();
+            for (BatchProject project : manifest.getProjects() != null ? manifest.getProjects() : List.<BatchProject>of()) {
+                if (project.getProjectRoot() == null) {
+                    System.err.println("projectRoot가 없는 프로젝트 항목이 있습니다");
+                    System.exit(1);
+                }
+                Path root = baseDir.resolve(project.getProjectRoot()).normalize();
+                Path output = project.getOutput() != null
+                    ? baseDir.resolve(project.getOutput()).normalize()
+                    : root.resolve("cursor-openapi-agent/out/endpoints.json");
+                if (!outputs.add(output.toString())) {
+                    System.err.println("여러 프로젝트가 같은 출력 파일을 사용합니다: " + output);
+                    System.exit(1);
+                }
+                projects.add(BatchProject.builder()
+                    .projectRoot(root.toString())
+                    .sourcePath(project.getSourcePath() != null
+                        ? root.resolve(project.getSourcePath()).toString()
+                        : root.resolve("src/main/java").toString())
+                    .output(output.toString())
+                    .onlyUndocumented(project.isOnlyUndocumented())
+                    .openapi(project.getOpenapi())
+                    .build());
+            }
+
+            BatchExtractor batch = new BatchExtractor(threads, maxFileBytes, fileTimeoutMillis);
+            List<BatchProjectResult> results = batch.run(projects);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            int failed = 0;
+            long projectMillis = 0;
+            System.out.println("📦 일괄 추출 결과 (프로젝트 " + results.size() + "개, " + batch.getPool().describe() + ")");
+            for (BatchProjectResult result : results) {
+                projectMillis += result.getElapsedMillis();
+                if (result.isSuccess()) {
+                    System.out.printf("   ✅ %6dms  컨트롤러 %d개, API 메소드 %d개, DTO %d개%s  %s%n",
+                        result.getElapsedMillis(), result.getControllers(), result.getTotalMethods(),
+                        result.getTotalDtoClasses(),
+                        result.getSkippedFiles() > 0 ? ", 건너뛴 파일 " + result.getSkippedFiles() + "개" : "",
+                        result.getProjectRoot());
+                } else {
+                    failed++;
+                    System.out.printf("   ❌ %6dms  %s - %s%n", result.getElapsedMillis(), result.getProjectRoot(), result.getError());
+                }
+            }
+            System.out.printf("⏱  전체 %dms (프로젝트별 합계 %dms), 실패 %d개%n", elapsedMillis, projectMillis, failed);
+            if (failed > 0) {
+                System.exit(2);
+            }
+        } catch (IOException e) {
+            System.err.println("일괄 추출 중 오류 발생: " + e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 표준 입력으로 받은 소스 내용에서 메타데이터를 추출하여 표준 출력으로 스트리밍
+     * - 입력: 한 줄에 하나씩 {"path": "...", "content": "..."} (NDJSON)
+     * - 출력: 입력 순서대로 한 줄에 하나씩 {"path", "result" | "error", "elapsedMicros"} (NDJSON)
+     * - 표준 출력은 결과 전용이므로 안내 메시지는 표준 에러로 출력
+     * - 입력이 끝날 때까지 같은 JVM/추출기를 재사용하여 파일당 지연 시간을 최소화
+     *
+     * @param args --stdin [--only-undocumented] [--max-file-size=<KB>] [--file-timeout=<ms>]
+     */
+    private static void runStdin(String[] args) {
+        boolean onlyUndocumented = Arrays.asList(args).contains("--only-undocumented");
+
+        ControllerExtractor extractor = new ControllerExtractor(new com.github.javaparser.JavaParser(), new ArrayList<>(), new HashSet<>());
+        for (String arg : args) {
+            if (arg.startsWith("--max-file-size=")) {
+                extractor.setMaxFileBytes(Long.parseLong(arg.substring(16)) * 1024);
+            } else if (arg.startsWith("--file-timeout=")) {
+                extractor.setFileTimeoutMillis(Long.parseLong(arg.substring(15)));
+            }
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        int records = 0;
+        long totalNanos = 0;
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+             OutputStream out = new BufferedOutputStream(new FileOutputStream(FileDescriptor.out))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) continue;
+                long start = System.nanoTime();
+                Map<String, Object> record = new LinkedHashMap<>();
+                record.put("path", null);
+                try {
+                    JsonNode input = mapper.readTree(line);
+                    String path = input.path("path").asText(null);
+                    String content = input.path("content").asText(null);
+                    record.put("path", path);
+                    if (path == null || content == null) {
+                        record.put("error", "path와 content가 필요합니다");
+                    } else {
+                        EndpointsInfo data = extractor.extractFromSource(path, content);
+                        record.put("result", onlyUndocumented ? data.onlyUndocumented() : data);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    record.put("error", e.getMessage());
+                }
+                long elapsed = System.nanoTime() - start;
+                record.put("elapsedMicros", elapsed / 1000);
+                totalNanos += elapsed;
+                records++;
+
+                mapper.writeValue(out, record);
+                out.write('\n');
+                out.flush();
+            }
+        } catch (IOException e) {
+            System.err.println("stdin 처리 중 오류 발생: " + e.getMessage());
+            System.exit(1);
+        }
+        if (records > 0) {
+            System.err.printf("⏱  레코드 %d개, 평균 %.1fms%n", records, totalNanos / 1_000_000.0 / records);
+        }
+    }
+}
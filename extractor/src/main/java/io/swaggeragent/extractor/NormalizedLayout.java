@@ -0,0 +1,465 @@
+package io.swaggeragent.extractor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.swaggeragent.extractor.model.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
+
+/**
+ * 타입/어노테이션 배열을 표로 분리한 정규화 형식(--layout=normalized)의 endpoints.json 쓰기/읽기
+ *
+ * 같은 타입 문자열(ResponseEntity<ApiResponse<List<UserDto>>> 등)과 검증 어노테이션 이름 배열이
+ * 엔드포인트/필드마다 반복되므로 최상위 표에 한 번씩만 두고 모델 항목은 정수 ID로 참조
+ * - types: {name, baseType, arguments(타입 ID 목록), dto(dtoClasses 인덱스, DTO가 아니면 null)}
+ *   타입 인자도 각각 표의 항목이며, 처음 나타난 순서로 ID를 매김
+ * - annotationArrays: 서로 다른 validationAnnotations 배열
+ * - 참조하는 필드: MethodInfo.returnType, ParameterInfo.type/validationAnnotations, FieldInfo.type/validationAnnotations
+ * - 나머지 필드는 기본 형식과 같은 이름/값으로 출력하며, 표를 먼저 출력하므로 스트리밍으로 읽어도 바로 해석 가능
+ * - layout 필드가 첫 번째 필드이므로 readEndpoints()는 첫 필드만 보고 두 형식을 구분
+ */
+public class NormalizedLayout {
+    public static final String LAYOUT = "normalized";
+
+    private static final TypeReference<List<ControllerInfo>> CONTROLLER_LIST = new TypeReference<>() {};
+    private static final TypeReference<List<DtoInfo>> DTO_LIST = new TypeReference<>() {};
+    private static final TypeReference<List<RouteConflict>> ROUTE_CONFLICT_LIST = new TypeReference<>() {};
+    private static final TypeReference<List<SkippedFile>> SKIPPED_FILE_LIST = new TypeReference<>() {};
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    private final JsonGenerator generator;
+
+    private final Map<String, Integer> typeIds = new HashMap<>();
+    private final List<TypeEntry> types = new ArrayList<>();
+
+    private final Map<List<String>, Integer> annotationArrayIds = new HashMap<>();
+    // 추출 결과의 배열은 StringPool로 공유되므로 대부분 인스턴스로 바로 찾음
+    private final Map<String[], Integer> annotationArrayInstanceIds = new IdentityHashMap<>();
+    private final List<String[]> annotationArrays = new ArrayList<>();
+
+    private final Map<String, Integer> dtoIndexes = new HashMap<>();
+
+    private NormalizedLayout(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * 정규화 형식으로 출력 스트림에 작성 (들여쓰기는 기본 형식과 같음)
+     */
+    public static void write(EndpointsInfo data, OutputStream out, ObjectMapper mapper) throws IOException {
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            generator.useDefaultPrettyPrinter();
+            NormalizedLayout layout = new NormalizedLayout(generator);
+            layout.collect(data);
+            layout.writeDocument(data);
+        }
+    }
+
+    /**
+     * endpoints.json 읽기 (기본/정규화 형식 모두 지원)
+     */
+    public static EndpointsInfo readEndpoints(ObjectMapper mapper, File file) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(file)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT && parser.nextToken() == JsonToken.FIELD_NAME
+                && parser.getCurrentName().equals("layout")) {
+                return read(mapper, parser);
+            }
+        }
+        return mapper.readValue(file, EndpointsInfo.class);
+    }
+
+    /**
+     * 정규화 형식을 스트리밍으로 읽어 ID를 표의 값으로 되돌린 모델 반환
+     * - 컨트롤러/DTO는 데이터 바인딩으로 읽되, 타입 ID는 문자열로, 어노테이션 배열 ID는 원소 하나짜리 배열로 받은 뒤 표의 값으로 교체
+     * - 같은 타입/어노테이션 배열은 표의 인스턴스를 공유
+     *
+     * @param parser 최상위 객체의 layout 필드 이름 위치
+     */
+    static EndpointsInfo read(ObjectMapper mapper, JsonParser parser) throws IOException {
+        ObjectReader lenient = mapper.reader().with(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
+        String[] typeNames = new String[0];
+        String[][] arrays = new String[0][];
+        EndpointsInfo result = new EndpointsInfo();
+
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "layout":
+                    if (!LAYOUT.equals(parser.getText())) {
+                        throw new IOException("지원하지 않는 layout입니다: " + parser.getText());
+                    }
+                    break;
+                case "types":
+                    List<String> names = new ArrayList<>();
+                    for (JsonNode type : (JsonNode) parser.readValueAsTree()) {
+                        names.add(type.path("name").asText());
+                    }
+                    typeNames = names.toArray(new String[0]);
+                    break;
+                case "annotationArrays":
+                    arrays = mapper.readValue(parser, String[][].class);
+                    break;
+                case "controllers":
+                    result.setControllers(lenient.forType(CONTROLLER_LIST).readValue(parser));
+                    break;
+                case "dtoClasses":
+                    result.setDtoClasses(lenient.forType(DTO_LIST).readValue(parser));
+                    break;
+                case "extractedAt":
+                    result.setExtractedAt(parser.getValueAsString());
+                    break;
+                case "totalMethods":
+                    result.setTotalMethods(parser.getValueAsInt());
+                    break;
+                case "totalDtoClasses":
+                    result.setTotalDtoClasses(parser.getValueAsInt());
+                    break;
+                case "routeConflicts":
+                    result.setRouteConflicts(mapper.readValue(parser, ROUTE_CONFLICT_LIST));
+                    break;
+                case "skippedFiles":
+                    result.setSkippedFiles(mapper.readValue(parser, SKIPPED_FILE_LIST));
+                    break;
+                case "pendingFiles":
+                    result.setPendingFiles(mapper.readValue(parser, STRING_LIST));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        for (ControllerInfo controller : nonNull(result.getControllers())) {
+            for (MethodInfo method : nonNull(controller.getMethods())) {
+                method.setReturnType(lookup(typeNames, method.getReturnType()));
+                for (ParameterInfo parameter : nonNull(method.getParameters())) {
+                    parameter.setType(lookup(typeNames, parameter.getType()));
+                    parameter.setValidationAnnotations(lookup(arrays, parameter.getValidationAnnotations()));
+                }
+            }
+        }
+        for (DtoInfo dto : nonNull(result.getDtoClasses())) {
+            for (FieldInfo field : nonNull(dto.getFields())) {
+                field.setType(lookup(typeNames, field.getType()));
+                field.setValidationAnnotations(lookup(arrays, field.getValidationAnnotations()));
+            }
+        }
+        return result;
+    }
+
+    private static <T> T lookup(T[] table, String id) throws IOException {
+        if (id == null) {
+            return null;
+        }
+        try {
+            return table[Integer.parseInt(id)];
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("표에 없는 ID입니다: " + id);
+        }
+    }
+
+    private static String[] lookup(String[][] table, String[] id) throws IOException {
+        if (id == null) {
+            return null;
+        }
+        if (id.length != 1) {
+            throw new IOException("어노테이션 배열 ID가 아닙니다: " + Arrays.toString(id));
+        }
+        return lookup(table, id[0]);
+    }
+
+    /**
+     * 출력 전에 표 구성 (모델 순서대로 처음 나타난 값에 ID 부여)
+     */
+    private void collect(EndpointsInfo data) {
+        List<DtoInfo> dtoClasses = data.getDtoClasses() != null ? data.getDtoClasses() : List.of();
+        for (int i = 0; i < dtoClasses.size(); i++) {
+            dtoIndexes.putIfAbsent(dtoClasses.get(i).getClassName(), i);
+        }
+        for (ControllerInfo controller : nonNull(data.getControllers())) {
+            for (MethodInfo method : nonNull(controller.getMethods())) {
+                typeId(method.getReturnType());
+                for (ParameterInfo parameter : nonNull(method.getParameters())) {
+                    typeId(parameter.getType());
+                    annotationArrayId(parameter.getValidationAnnotations());
+                }
+            }
+        }
+        for (DtoInfo dto : dtoClasses) {
+            for (FieldInfo field : nonNull(dto.getFields())) {
+                typeId(field.getType());
+                annotationArrayId(field.getValidationAnnotations());
+            }
+        }
+    }
+
+    private Integer typeId(String name) {
+        if (name == null) {
+            return null;
+        }
+        Integer id = typeIds.get(name);
+        if (id != null) {
+            return id;
+        }
+        int open = name.indexOf('<');
+        int close = name.lastIndexOf('>');
+        String baseType = open > 0 && close > open ? name.substring(0, open).trim() : name;
+        List<Integer> arguments = new ArrayList<>();
+        if (open > 0 && close > open) {
+            for (String argument : splitArguments(name.substring(open + 1, close))) {
+                arguments.add(typeId(argument));
+            }
+        }
+        // 타입 인자를 먼저 등록하므로 인자의 ID가 항상 더 작음
+        id = types.size();
+        typeIds.put(name, id);
+        types.add(new TypeEntry(name, baseType, arguments, dtoIndexes.get(simpleName(baseType))));
+        return id;
+    }
+
+    private Integer annotationArrayId(String[] values) {
+        if (values == null) {
+            return null;
+        }
+        Integer id = annotationArrayInstanceIds.get(values);
+        if (id == null) {
+            id = annotationArrayIds.computeIfAbsent(Arrays.asList(values), key -> {
+                annotationArrays.add(values);
+                return annotationArrays.size() - 1;
+            });
+            annotationArrayInstanceIds.put(values, id);
+        }
+        return id;
+    }
+
+    /**
+     * 최상위 수준의 쉼표로만 타입 인자 분리 (Map<String, List<Long>> -> String, List<Long>)
+     */
+    private static List<String> splitArguments(String content) {
+        List<String> arguments = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c == '<') {
+                depth++;
+            } else if (c == '>') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                addArgument(arguments, content.substring(start, i));
+                start = i + 1;
+            }
+        }
+        addArgument(arguments, content.substring(start));
+        return arguments;
+    }
+
+    private static void addArgument(List<String> arguments, String argument) {
+        String trimmed = argument.trim();
+        if (!trimmed.isEmpty()) {
+            arguments.add(trimmed);
+        }
+    }
+
+    /**
+     * DTO 연결용 단순 클래스명 (패키지와 배열 표기 제거)
+     */
+    private static String simpleName(String baseType) {
+        String name = baseType.endsWith("[]") ? baseType.substring(0, baseType.length() - 2) : baseType;
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    private void writeDocument(EndpointsInfo data) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("layout", LAYOUT);
+
+        generator.writeArrayFieldStart("types");
+        for (TypeEntry type : types) {
+            generator.writeStartObject();
+            generator.writeStringField("name", type.name);
+            generator.writeStringField("baseType", type.baseType);
+            generator.writeArrayFieldStart("arguments");
+            for (int argument : type.arguments) {
+                generator.writeNumber(argument);
+            }
+            generator.writeEndArray();
+            writeNumberField("dto", type.dto);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("annotationArrays");
+        for (String[] values : annotationArrays) {
+            generator.writeArray(values, 0, values.length);
+        }
+        generator.writeEndArray();
+
+        generator.writeFieldName("controllers");
+        if (data.getControllers() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartArray();
+            for (ControllerInfo controller : data.getControllers()) {
+                writeController(controller);
+            }
+            generator.writeEndArray();
+        }
+
+        generator.writeFieldName("dtoClasses");
+        if (data.getDtoClasses() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartArray();
+            for (DtoInfo dto : data.getDtoClasses()) {
+                writeDto(dto);
+            }
+            generator.writeEndArray();
+        }
+
+        generator.writeStringField("extractedAt", data.getExtractedAt());
+        generator.writeNumberField("totalMethods", data.getTotalMethods());
+        generator.writeNumberField("totalDtoClasses", data.getTotalDtoClasses());
+        writeObjectField("routeConflicts", data.getRouteConflicts());
+        writeObjectField("skippedFiles", data.getSkippedFiles());
+        writeObjectField("pendingFiles", data.getPendingFiles());
+        generator.writeEndObject();
+    }
+
+    private void writeController(ControllerInfo controller) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("className", controller.getClassName());
+        generator.writeStringField("requestMapping", controller.getRequestMapping());
+        generator.writeFieldName("methods");
+        if (controller.getMethods() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartArray();
+            for (MethodInfo method : controller.getMethods()) {
+                writeMethod(method);
+            }
+            generator.writeEndArray();
+        }
+        writeObjectField("existingAnnotations", controller.getExistingAnnotations());
+        generator.writeStringField("filePath", controller.getFilePath());
+        generator.writeEndObject();
+    }
+
+    private void writeMethod(MethodInfo method) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("methodName", method.getMethodName());
+        writeStringField("httpMethod", method.getHttpMethod() != null ? method.getHttpMethod().name() : null);
+        generator.writeStringField("path", method.getPath());
+        generator.writeFieldName("parameters");
+        if (method.getParameters() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartArray();
+            for (ParameterInfo parameter : method.getParameters()) {
+                generator.writeStartObject();
+                generator.writeStringField("name", parameter.getName());
+                writeNumberField("type", typeIds.get(parameter.getType()));
+                writeStringField("in", parameter.getIn() != null ? parameter.getIn().getValue() : null);
+                generator.writeBooleanField("required", parameter.isRequired());
+                writeNumberField("validationAnnotations", annotationArrayId(parameter.getValidationAnnotations()));
+                generator.writeStringField("description", parameter.getDescription());
+                writeObjectField("existingAnnotations", parameter.getExistingAnnotations());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        writeNumberField("returnType", typeIds.get(method.getReturnType()));
+        generator.writeFieldName("exceptions");
+        if (method.getExceptions() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartArray();
+            for (String exception : method.getExceptions()) {
+                generator.writeString(exception);
+            }
+            generator.writeEndArray();
+        }
+        writeObjectField("existingAnnotations", method.getExistingAnnotations());
+        generator.writeNumberField("lineNumber", method.getLineNumber());
+        generator.writeBooleanField("documented", method.isDocumented());
+        generator.writeStringField("declaredIn", method.getDeclaredIn());
+        generator.writeEndObject();
+    }
+
+    private void writeDto(DtoInfo dto) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("className", dto.getClassName());
+        generator.writeFieldName("fields");
+        if (dto.getFields() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartArray();
+            for (FieldInfo field : dto.getFields()) {
+                generator.writeStartObject();
+                generator.writeStringField("name", field.getName());
+                writeNumberField("type", typeIds.get(field.getType()));
+                writeNumberField("validationAnnotations", annotationArrayId(field.getValidationAnnotations()));
+                generator.writeStringField("description", field.getDescription());
+                generator.writeBooleanField("required", field.isRequired());
+                writeObjectField("existingAnnotations", field.getExistingAnnotations());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        writeObjectField("existingAnnotations", dto.getExistingAnnotations());
+        generator.writeStringField("filePath", dto.getFilePath());
+        generator.writeBooleanField("documented", dto.isDocumented());
+        generator.writeEndObject();
+    }
+
+    private void writeStringField(String name, String value) throws IOException {
+        generator.writeStringField(name, value);
+    }
+
+    /**
+     * 값이 없으면 직렬화기를 거치지 않고 null 출력 (대부분의 existingAnnotations)
+     */
+    private void writeObjectField(String name, Object value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeObject(value);
+        }
+    }
+
+    private void writeNumberField(String name, Integer value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    private static <T> List<T> nonNull(List<T> values) {
+        return values != null ? values : List.of();
+    }
+
+    private static class TypeEntry {
+        private final String name;
+        private final String baseType;
+        private final List<Integer> arguments;
+        private final Integer dto;
+
+        private TypeEntry(String name, String baseType, List<Integer> arguments, Integer dto) {
+            this.name = name;
+            this.baseType = baseType;
+            this.arguments = arguments;
+            this.dto = dto;
+        }
+    }
+}
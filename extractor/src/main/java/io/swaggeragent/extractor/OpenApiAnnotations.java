@@ -0,0 +1,244 @@
+package io.swaggeragent.extractor;
+
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.expr.*;
+import io.swaggeragent.extractor.model.FieldInfo;
+import io.swaggeragent.extractor.model.ParameterIn;
+import io.swaggeragent.extractor.model.ParameterInfo;
+
+import java.util.*;
+
+/**
+ * 기존 OpenAPI(Swagger) 어노테이션 추출 및 문서화 완료 여부 판단 유틸리티 클래스
+ * - 어노테이션 속성값을 JSON으로 직렬화 가능한 Map/List/원시값으로 변환
+ * - 반복 가능한 어노테이션(@ApiResponse 등)이 여러 번 선언되면 List로 저장
+ */
+public class OpenApiAnnotations {
+
+    // 추출 대상 OpenAPI 어노테이션 (Spring의 @RequestBody와 이름이 같은 swagger @RequestBody는 제외)
+    private static final Set<String> OPENAPI_ANNOTATIONS = Set.of(
+        "Operation", "ApiResponses", "ApiResponse", "Parameter", "Parameters",
+        "Schema", "ArraySchema", "Tag", "Tags", "Hidden", "SecurityRequirement"
+    );
+
+    private OpenApiAnnotations() {
+    }
+
+    /**
+     * 어노테이션 목록에서 OpenAPI 어노테이션과 속성값 추출
+     *
+     * @return 어노테이션 이름 -> 속성 Map (없으면 null)
+     */
+    public static Map<String, Object> extract(NodeList<AnnotationExpr> annotations) {
+        Map<String, Object> result = null;
+        for (int i = 0; i < annotations.size(); i++) {
+            AnnotationExpr annotation = annotations.get(i);
+            String name = annotation.getNameAsString();
+            if (!OPENAPI_ANNOTATIONS.contains(name)) continue;
+
+            if (result == null) result = new LinkedHashMap<>();
+            add(result, name, toAttributes(annotation));
+        }
+        return result;
+    }
+
+    /**
+     * 스캐너가 읽은 어노테이션 목록에서 OpenAPI 어노테이션과 속성값 추출 (extract와 같은 결과)
+     */
+    static Map<String, Object> extractScanned(List<SourceScanner.ScannedAnnotation> annotations) {
+        Map<String, Object> result = null;
+        for (int i = 0; i < annotations.size(); i++) {
+            SourceScanner.ScannedAnnotation annotation = annotations.get(i);
+            if (!OPENAPI_ANNOTATIONS.contains(annotation.name)) continue;
+
+            if (result == null) result = new LinkedHashMap<>();
+            add(result, annotation.name, annotation.attributes());
+        }
+        return result;
+    }
+
+    /**
+     * 같은 어노테이션이 반복되면 List로 모아 저장
+     */
+    private static void add(Map<String, Object> result, String name, Map<String, Object> attributes) {
+        Object existing = result.get(name);
+        if (existing == null) {
+            result.put(name, attributes);
+        } else if (existing instanceof List) {
+            @SuppressWarnings("unchecked")
+            List<Object> repeated = (List<Object>) existing;
+            repeated.add(attributes);
+        } else {
+            List<Object> repeated = new ArrayList<>();
+            repeated.add(existing);
+            repeated.add(attributes);
+            result.put(name, repeated);
+        }
+    }
+
+    /**
+     * 엔드포인트 문서화 완료 여부
+     * - @Hidden 이거나 @Operation(hidden = true)면 문서화 대상이 아니므로 완료로 간주
+     * - @Operation summary/description, @ApiResponses(또는 @ApiResponse)가 있고
+     *   path/query/header 바인딩 파라미터마다 @Parameter가 있으면 완료
+     */
+    public static boolean isEndpointDocumented(Map<String, Object> methodAnnotations,
+                                               List<ParameterInfo> parameters, boolean controllerHidden) {
+        if (controllerHidden || isHidden(methodAnnotations)) {
+            return true;
+        }
+        if (methodAnnotations == null) {
+            return false;
+        }
+        Map<String, Object> operation = first(methodAnnotations.get("Operation"));
+        if (operation == null || (isBlank(operation.get("summary")) && isBlank(operation.get("description")))) {
+            return false;
+        }
+        if (!methodAnnotations.containsKey("ApiResponses") && !methodAnnotations.containsKey("ApiResponse")) {
+            return false;
+        }
+
+        Set<String> documentedByMethod = methodLevelParameterNames(methodAnnotations);
+        for (ParameterInfo parameter : parameters) {
+            if (parameter.getIn() == ParameterIn.BODY || !isBoundParameter(parameter)) continue;
+            boolean documented = parameter.getExistingAnnotations() != null
+                && parameter.getExistingAnnotations().containsKey("Parameter");
+            if (!documented && !documentedByMethod.contains(parameter.getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * DTO 문서화 완료 여부
+     * - 클래스 @Schema가 있고 모든 필드에 description이 있는 @Schema가 있으면 완료
+     */
+    public static boolean isDtoDocumented(Map<String, Object> classAnnotations, List<FieldInfo> fields) {
+        if (isHidden(classAnnotations)) {
+            return true;
+        }
+        if (classAnnotations == null || !classAnnotations.containsKey("Schema")) {
+            return false;
+        }
+        for (FieldInfo field : fields) {
+            Map<String, Object> schema = field.getExistingAnnotations() != null
+                ? first(field.getExistingAnnotations().get("Schema")) : null;
+            if (schema == null || isBlank(schema.get("description"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isHidden(Map<String, Object> annotations) {
+        if (annotations == null) {
+            return false;
+        }
+        if (annotations.containsKey("Hidden")) {
+            return true;
+        }
+        Map<String, Object> operation = first(annotations.get("Operation"));
+        return operation != null && Boolean.TRUE.equals(operation.get("hidden"));
+    }
+
+    /**
+     * 메서드 레벨 @Parameter(name = ...) / @Parameters({...})로 문서화된 파라미터 이름
+     */
+    private static Set<String> methodLevelParameterNames(Map<String, Object> methodAnnotations) {
+        Set<String> names = new HashSet<>();
+        collectParameterNames(methodAnnotations.get("Parameter"), names);
+        Map<String, Object> parameters = first(methodAnnotations.get("Parameters"));
+        if (parameters != null) {
+            collectParameterNames(parameters.get("value"), names);
+        }
+        return names;
+    }
+
+    private static void collectParameterNames(Object value, Set<String> names) {
+        if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                collectParameterNames(item, names);
+            }
+        } else if (value instanceof Map) {
+            Object name = ((Map<?, ?>) value).get("name");
+            if (name instanceof String) {
+                names.add((String) name);
+            }
+        }
+    }
+
+    /**
+     * Spring 바인딩 어노테이션(@PathVariable/@RequestParam/@RequestHeader)이 있는 파라미터인지 확인
+     */
+    private static boolean isBoundParameter(ParameterInfo parameter) {
+        if (parameter.getValidationAnnotations() == null) {
+            return false;
+        }
+        for (String name : parameter.getValidationAnnotations()) {
+            if (name.equals("PathVariable") || name.equals("RequestParam") || name.equals("RequestHeader")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> first(Object value) {
+        if (value instanceof Map) {
+            return (Map<String, Object>) value;
+        }
+        if (value instanceof List && !((List<?>) value).isEmpty() && ((List<?>) value).get(0) instanceof Map) {
+            return (Map<String, Object>) ((List<?>) value).get(0);
+        }
+        return null;
+    }
+
+    private static boolean isBlank(Object value) {
+        return !(value instanceof String) || ((String) value).trim().isEmpty();
+    }
+
+    /**
+     * 어노테이션 속성을 Map으로 변환
+     * - @Schema("...") 처럼 단일 값이면 "value" 키로 저장
+     */
+    private static Map<String, Object> toAttributes(AnnotationExpr annotation) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        if (annotation.isSingleMemberAnnotationExpr()) {
+            attributes.put("value", toValue(annotation.asSingleMemberAnnotationExpr().getMemberValue()));
+        } else if (annotation.isNormalAnnotationExpr()) {
+            for (MemberValuePair pair : annotation.asNormalAnnotationExpr().getPairs()) {
+                attributes.put(pair.getNameAsString(), toValue(pair.getValue()));
+            }
+        }
+        return attributes;
+    }
+
+    /**
+     * 속성값 표현식을 JSON 값으로 변환
+     * - 문자열/불리언/정수 리터럴은 값으로, 배열은 List로, 중첩 어노테이션은 Map으로
+     * - 그 외(상수 참조, 클래스 리터럴, 연산식 등)는 소스 표현 그대로
+     */
+    private static Object toValue(Expression expression) {
+        if (expression.isStringLiteralExpr()) {
+            return expression.asStringLiteralExpr().asString();
+        }
+        if (expression.isBooleanLiteralExpr()) {
+            return expression.asBooleanLiteralExpr().getValue();
+        }
+        if (expression.isIntegerLiteralExpr()) {
+            return expression.asIntegerLiteralExpr().asNumber();
+        }
+        if (expression.isArrayInitializerExpr()) {
+            List<Object> values = new ArrayList<>();
+            for (Expression value : expression.asArrayInitializerExpr().getValues()) {
+                values.add(toValue(value));
+            }
+            return values;
+        }
+        if (expression.isAnnotationExpr()) {
+            return toAttributes(expression.asAnnotationExpr());
+        }
+        return expression.toString();
+    }
+}
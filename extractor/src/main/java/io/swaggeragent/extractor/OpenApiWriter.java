@@ -0,0 +1,550 @@
+package io.swaggeragent.extractor;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+import io.swaggeragent.extractor.model.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 추출된 컨트롤러/DTO 모델로 OpenAPI 3 문서 골격을 스트리밍 출력
+ *
+ * 경로, HTTP 메서드, 파라미터 위치/필수 여부, 요청/응답 스키마처럼 기계적으로 정해지는 부분만 생성하고
+ * summary/description 등은 기존 @Operation/@Parameter/@Schema 값이 있을 때만 채움
+ * - 문서 트리를 메모리에 만들지 않고 JsonGenerator로 바로 출력하므로 서비스 크기와 무관하게 버퍼 크기만 사용
+ * - DTO는 components/schemas에 한 번만 정의하고 $ref로 참조
+ */
+public class OpenApiWriter {
+    private static final String OPENAPI_VERSION = "3.0.3";
+
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+    // @RequestMapping 처럼 메서드가 지정되지 않은 매핑을 문서화할 HTTP 메서드
+    private static final HttpMethod[] ANY_METHODS = {
+        HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE, HttpMethod.PATCH
+    };
+
+    // OpenAPI 경로 템플릿의 변수 ({id})
+    private static final Pattern PATH_VARIABLE = Pattern.compile("\\{[^/}]*}");
+
+    // Spring이 주입하는 파라미터 (API 파라미터가 아님)
+    private static final Set<String> FRAMEWORK_TYPES = Set.of(
+        "HttpServletRequest", "HttpServletResponse", "HttpSession", "ServerHttpRequest", "ServerHttpResponse",
+        "ServerWebExchange", "Principal", "Authentication", "BindingResult", "Errors", "Model", "ModelMap",
+        "Locale", "WebRequest", "UriComponentsBuilder", "SessionStatus", "RedirectAttributes"
+    );
+
+    // 응답 본문을 감싸는 타입 (첫 번째 타입 인자가 실제 응답)
+    private static final Set<String> WRAPPER_TYPES = Set.of(
+        "ResponseEntity", "HttpEntity", "Optional", "Mono", "CompletableFuture", "Callable", "DeferredResult"
+    );
+
+    private static final Set<String> COLLECTION_TYPES = Set.of(
+        "List", "Set", "Collection", "Iterable", "ArrayList", "LinkedList", "HashSet", "LinkedHashSet",
+        "SortedSet", "TreeSet", "Flux", "Stream"
+    );
+
+    private final JsonGenerator generator;
+
+    private final Set<String> schemaNames = new HashSet<>();
+
+    private OpenApiWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * OpenAPI 문서를 출력 스트림에 작성
+     *
+     * @param yaml true면 YAML, false면 JSON
+     * @param title info.title 값
+     */
+    public static void write(EndpointsInfo data, OutputStream out, boolean yaml, String title) throws IOException {
+        JsonFactory factory = yaml
+            ? YAMLFactory.builder()
+                .disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER)
+                .enable(YAMLGenerator.Feature.MINIMIZE_QUOTES)
+                .build()
+            : new JsonFactory();
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            if (!yaml) {
+                generator.useDefaultPrettyPrinter();
+            }
+            new OpenApiWriter(generator).writeDocument(data, title);
+        }
+    }
+
+    private void writeDocument(EndpointsInfo data, String title) throws IOException {
+        List<DtoInfo> dtoClasses = data.getDtoClasses() != null ? data.getDtoClasses() : List.of();
+        for (DtoInfo dto : dtoClasses) {
+            schemaNames.add(dto.getClassName());
+        }
+
+        generator.writeStartObject();
+        generator.writeStringField("openapi", OPENAPI_VERSION);
+        generator.writeObjectFieldStart("info");
+        generator.writeStringField("title", title);
+        generator.writeStringField("version", "1.0.0");
+        generator.writeEndObject();
+
+        writePaths(data.getControllers() != null ? data.getControllers() : List.of());
+
+        generator.writeObjectFieldStart("components");
+        generator.writeObjectFieldStart("schemas");
+        Set<String> written = new HashSet<>();
+        for (DtoInfo dto : dtoClasses) {
+            if (written.add(dto.getClassName())) {
+                writeDtoSchema(dto);
+            }
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    /**
+     * paths 작성
+     * - 같은 경로의 메서드는 하나의 Path Item으로 묶어야 하므로 경로별 핸들러 참조만 먼저 모음
+     * - 변수 이름만 다른 경로(/users/{id}, /users/{login})는 OpenAPI에서 함께 둘 수 없으므로 처음 나온 템플릿으로 합치고
+     *   나중 경로의 path 파라미터 이름을 템플릿의 이름으로 바꿈
+     * - 메서드가 지정된 핸들러가 메서드 없는 @RequestMapping으로 채운 자리보다 우선
+     * - 같은 경로/메서드가 중복되면 첫 번째 핸들러만 문서화하고 표준 에러로 알림
+     */
+    private void writePaths(List<ControllerInfo> controllers) throws IOException {
+        Map<String, Map<HttpMethod, Operation>> paths = new LinkedHashMap<>();
+        // 변수 이름을 뺀 경로 (/users/{}) -> 처음 나온 경로 템플릿
+        Map<String, String> templates = new HashMap<>();
+        for (ControllerInfo controller : controllers) {
+            if (controller.getMethods() == null) continue;
+            for (MethodInfo method : controller.getMethods()) {
+                String path = toOpenApiPath(RouteIndex.joinPath(controller.getRequestMapping(), method.getPath()));
+                String template = templates.computeIfAbsent(PATH_VARIABLE.matcher(path).replaceAll("{}"), k -> path);
+                Operation operation = new Operation(controller, method, pathVariableRenames(path, template));
+                Map<HttpMethod, Operation> operations = paths.computeIfAbsent(template, k -> new EnumMap<>(HttpMethod.class));
+                HttpMethod httpMethod = method.getHttpMethod() != null ? method.getHttpMethod() : HttpMethod.REQUEST;
+                if (httpMethod == HttpMethod.REQUEST) {
+                    for (HttpMethod any : ANY_METHODS) {
+                        operations.putIfAbsent(any, operation);
+                    }
+                    continue;
+                }
+                Operation existing = operations.get(httpMethod);
+                if (existing == null || existing.method.getHttpMethod() == HttpMethod.REQUEST) {
+                    operations.put(httpMethod, operation);
+                } else {
+                    System.err.println("⚠️  OpenAPI 경로 중복으로 첫 번째 핸들러만 문서화합니다: " + httpMethod + " " + template
+                        + " (" + handlerOf(existing) + ", " + handlerOf(operation) + ")");
+                }
+            }
+        }
+
+        Map<String, Integer> operationIds = new HashMap<>();
+        generator.writeObjectFieldStart("paths");
+        for (Map.Entry<String, Map<HttpMethod, Operation>> path : paths.entrySet()) {
+            generator.writeObjectFieldStart(path.getKey());
+            for (Map.Entry<HttpMethod, Operation> operation : path.getValue().entrySet()) {
+                String methodName = operation.getValue().method.getMethodName();
+                int count = operationIds.merge(methodName, 1, Integer::sum);
+                String operationId = count == 1 ? methodName : methodName + "_" + (count - 1);
+                writeOperation(operation.getKey(), operation.getValue(), operationId);
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeOperation(HttpMethod httpMethod, Operation operation, String operationId) throws IOException {
+        MethodInfo method = operation.method;
+        generator.writeObjectFieldStart(httpMethod.name().toLowerCase());
+
+        generator.writeArrayFieldStart("tags");
+        generator.writeString(tagOf(operation.controller));
+        generator.writeEndArray();
+
+        Map<String, Object> existingOperation = attributes(method.getExistingAnnotations(), "Operation");
+        writeTextIfPresent("summary", existingOperation.get("summary"));
+        writeTextIfPresent("description", existingOperation.get("description"));
+        generator.writeStringField("operationId", operationId);
+
+        ParameterInfo body = null;
+        boolean parametersStarted = false;
+        if (method.getParameters() != null) {
+            for (ParameterInfo parameter : method.getParameters()) {
+                if (parameter.getIn() == ParameterIn.BODY) {
+                    body = parameter;
+                    continue;
+                }
+                if (FRAMEWORK_TYPES.contains(simpleName(parameter.getType()))) continue;
+                if (!parametersStarted) {
+                    generator.writeArrayFieldStart("parameters");
+                    parametersStarted = true;
+                }
+                writeParameter(parameter, operation.pathVariableRenames);
+            }
+        }
+        if (parametersStarted) {
+            generator.writeEndArray();
+        }
+
+        if (body != null) {
+            generator.writeObjectFieldStart("requestBody");
+            writeTextIfPresent("description", body.getDescription());
+            generator.writeBooleanField("required", body.isRequired());
+            writeJsonContent(body.getType());
+            generator.writeEndObject();
+        }
+
+        writeResponses(httpMethod, method.getReturnType());
+        generator.writeEndObject();
+    }
+
+    private void writeParameter(ParameterInfo parameter, Map<String, String> pathVariableRenames) throws IOException {
+        generator.writeStartObject();
+        String name = parameter.getIn() == ParameterIn.PATH
+            ? pathVariableRenames.getOrDefault(parameter.getName(), parameter.getName()) : parameter.getName();
+        generator.writeStringField("name", name);
+        generator.writeStringField("in", parameter.getIn().getValue());
+        writeTextIfPresent("description", parameter.getDescription());
+        // OpenAPI에서 path 파라미터는 항상 필수
+        generator.writeBooleanField("required", parameter.getIn() == ParameterIn.PATH || parameter.isRequired());
+        generator.writeFieldName("schema");
+        writeSchema(parameter.getType());
+        generator.writeEndObject();
+    }
+
+    /**
+     * 응답 코드 정책: POST -> 201, DELETE -> 204, 그 외 200
+     * - 반환 타입이 void/Void면 본문 없음
+     */
+    private void writeResponses(HttpMethod httpMethod, String returnType) throws IOException {
+        String bodyType = unwrapResponseType(returnType);
+        String code = httpMethod == HttpMethod.POST ? "201" : httpMethod == HttpMethod.DELETE ? "204" : "200";
+        generator.writeObjectFieldStart("responses");
+        generator.writeObjectFieldStart(code);
+        generator.writeStringField("description", code.equals("201") ? "생성 성공" : code.equals("204") ? "삭제 성공" : "성공");
+        if (bodyType != null) {
+            writeJsonContent(bodyType);
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    private void writeJsonContent(String type) throws IOException {
+        generator.writeObjectFieldStart("content");
+        generator.writeObjectFieldStart("application/json");
+        generator.writeFieldName("schema");
+        writeSchema(type);
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    private void writeDtoSchema(DtoInfo dto) throws IOException {
+        generator.writeObjectFieldStart(dto.getClassName());
+        generator.writeStringField("type", "object");
+        writeTextIfPresent("description", attributes(dto.getExistingAnnotations(), "Schema").get("description"));
+
+        List<FieldInfo> fields = dto.getFields() != null ? dto.getFields() : List.of();
+        boolean hasRequired = false;
+        for (FieldInfo field : fields) {
+            hasRequired |= field.isRequired();
+        }
+        if (hasRequired) {
+            generator.writeArrayFieldStart("required");
+            for (FieldInfo field : fields) {
+                if (field.isRequired()) generator.writeString(field.getName());
+            }
+            generator.writeEndArray();
+        }
+        if (!fields.isEmpty()) {
+            generator.writeObjectFieldStart("properties");
+            for (FieldInfo field : fields) {
+                generator.writeFieldName(field.getName());
+                writeFieldSchema(field);
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * 필드 스키마 ($ref에는 형제 키를 둘 수 없으므로 설명이 있으면 allOf로 감쌈)
+     */
+    private void writeFieldSchema(FieldInfo field) throws IOException {
+        String description = field.getDescription();
+        if (description == null || description.isEmpty()) {
+            writeSchema(field.getType());
+            return;
+        }
+        String type = field.getType();
+        if (schemaNames.contains(simpleName(type))) {
+            generator.writeStartObject();
+            generator.writeStringField("description", description);
+            generator.writeArrayFieldStart("allOf");
+            writeSchema(type);
+            generator.writeEndArray();
+            generator.writeEndObject();
+            return;
+        }
+        generator.writeStartObject();
+        writeSchemaFields(type);
+        generator.writeStringField("description", description);
+        generator.writeEndObject();
+    }
+
+    private void writeSchema(String type) throws IOException {
+        generator.writeStartObject();
+        writeSchemaFields(type);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Java 타입을 스키마 속성으로 변환 (현재 객체 안에 작성)
+     * - 컬렉션/배열은 items, Map은 additionalProperties, 추출된 DTO는 $ref
+     */
+    private void writeSchemaFields(String type) throws IOException {
+        String trimmed = type == null ? "Object" : type.trim();
+        if (trimmed.endsWith("[]")) {
+            String component = trimmed.substring(0, trimmed.length() - 2);
+            if (component.equals("byte")) {
+                generator.writeStringField("type", "string");
+                generator.writeStringField("format", "byte");
+                return;
+            }
+            generator.writeStringField("type", "array");
+            generator.writeFieldName("items");
+            writeSchema(component);
+            return;
+        }
+
+        String base = simpleName(trimmed);
+        List<String> arguments = typeArguments(trimmed);
+        if (WRAPPER_TYPES.contains(base) && !arguments.isEmpty()) {
+            writeSchemaFields(arguments.get(0));
+            return;
+        }
+        if (COLLECTION_TYPES.contains(base) || base.equals("Page") || base.equals("Slice")) {
+            generator.writeStringField("type", "array");
+            if (base.equals("Set") || base.endsWith("HashSet") || base.endsWith("TreeSet") || base.equals("SortedSet")) {
+                generator.writeBooleanField("uniqueItems", true);
+            }
+            generator.writeFieldName("items");
+            writeSchema(arguments.isEmpty() ? "Object" : arguments.get(0));
+            return;
+        }
+        if (base.endsWith("Map")) {
+            generator.writeStringField("type", "object");
+            if (arguments.size() == 2) {
+                generator.writeFieldName("additionalProperties");
+                writeSchema(arguments.get(1));
+            }
+            return;
+        }
+
+        switch (base) {
+            case "String": case "char": case "Character": case "CharSequence":
+                generator.writeStringField("type", "string");
+                return;
+            case "int": case "Integer": case "short": case "Short": case "byte": case "Byte":
+                writeTypeAndFormat("integer", "int32");
+                return;
+            case "long": case "Long": case "BigInteger":
+                writeTypeAndFormat("integer", "int64");
+                return;
+            case "float": case "Float":
+                writeTypeAndFormat("number", "float");
+                return;
+            case "double": case "Double":
+                writeTypeAndFormat("number", "double");
+                return;
+            case "BigDecimal": case "Number":
+                generator.writeStringField("type", "number");
+                return;
+            case "boolean": case "Boolean":
+                generator.writeStringField("type", "boolean");
+                return;
+            case "LocalDate":
+                writeTypeAndFormat("string", "date");
+                return;
+            case "LocalDateTime": case "OffsetDateTime": case "ZonedDateTime": case "Instant": case "Date":
+                writeTypeAndFormat("string", "date-time");
+                return;
+            case "LocalTime":
+                writeTypeAndFormat("string", "time");
+                return;
+            case "UUID":
+                writeTypeAndFormat("string", "uuid");
+                return;
+            case "MultipartFile": case "Resource":
+                writeTypeAndFormat("string", "binary");
+                return;
+            default:
+                break;
+        }
+
+        if (schemaNames.contains(base)) {
+            generator.writeStringField("$ref", SCHEMA_REF_PREFIX + base);
+        } else {
+            // 추출되지 않은 타입(enum, 외부 클래스 등)은 LLM이 보완할 수 있도록 객체로 둠
+            generator.writeStringField("type", "object");
+        }
+    }
+
+    private void writeTypeAndFormat(String type, String format) throws IOException {
+        generator.writeStringField("type", type);
+        generator.writeStringField("format", format);
+    }
+
+    private void writeTextIfPresent(String fieldName, Object value) throws IOException {
+        if (value instanceof String && !((String) value).isEmpty()) {
+            generator.writeStringField(fieldName, (String) value);
+        }
+    }
+
+    /**
+     * 태그: 기존 @Tag(name)이 있으면 사용, 없으면 컨트롤러 클래스명
+     */
+    private String tagOf(ControllerInfo controller) {
+        Object name = attributes(controller.getExistingAnnotations(), "Tag").get("name");
+        return name instanceof String && !((String) name).isEmpty() ? (String) name : controller.getClassName();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> attributes(Map<String, Object> annotations, String name) {
+        if (annotations == null) {
+            return Map.of();
+        }
+        Object value = annotations.get(name);
+        if (value instanceof List && !((List<?>) value).isEmpty()) {
+            value = ((List<?>) value).get(0);
+        }
+        return value instanceof Map ? (Map<String, Object>) value : Map.of();
+    }
+
+    /**
+     * 합쳐진 경로 템플릿의 변수 이름으로 바꿀 path 파라미터 이름 (/users/{login} -> /users/{id}이면 login -> id)
+     */
+    private static Map<String, String> pathVariableRenames(String path, String template) {
+        if (path.equals(template)) {
+            return Map.of();
+        }
+        Map<String, String> renames = new HashMap<>();
+        String[] pathSegments = path.split("/");
+        String[] templateSegments = template.split("/");
+        for (int i = 0; i < pathSegments.length && i < templateSegments.length; i++) {
+            if (pathSegments[i].startsWith("{") && !pathSegments[i].equals(templateSegments[i])) {
+                renames.put(pathSegments[i].substring(1, pathSegments[i].length() - 1),
+                    templateSegments[i].substring(1, templateSegments[i].length() - 1));
+            }
+        }
+        return renames;
+    }
+
+    private static String handlerOf(Operation operation) {
+        return operation.controller.getClassName() + "#" + operation.method.getMethodName();
+    }
+
+    /**
+     * Spring 경로 패턴을 OpenAPI 경로 템플릿으로 변환: {id:\d+} -> {id}, {*rest} -> {rest}
+     */
+    static String toOpenApiPath(String path) {
+        StringBuilder sb = new StringBuilder(path.length());
+        int i = 0;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c != '{') {
+                sb.append(c);
+                i++;
+                continue;
+            }
+            int depth = 0;
+            int end = i;
+            for (; end < path.length(); end++) {
+                if (path.charAt(end) == '{') depth++;
+                else if (path.charAt(end) == '}' && --depth == 0) break;
+            }
+            String variable = path.substring(i + 1, Math.min(end, path.length()));
+            if (variable.startsWith("*")) variable = variable.substring(1);
+            int colon = variable.indexOf(':');
+            sb.append('{').append(colon >= 0 ? variable.substring(0, colon) : variable).append('}');
+            i = end + 1;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 응답 본문 타입 (ResponseEntity 등 래퍼를 벗기고, 본문이 없으면 null)
+     */
+    private static String unwrapResponseType(String returnType) {
+        String type = returnType == null ? "void" : returnType.trim();
+        while (WRAPPER_TYPES.contains(simpleName(type)) && !typeArguments(type).isEmpty()) {
+            type = typeArguments(type).get(0);
+        }
+        String base = simpleName(type);
+        if (base.equals("void") || base.equals("Void") || WRAPPER_TYPES.contains(base) || base.equals("?")) {
+            return null;
+        }
+        return type;
+    }
+
+    /**
+     * 제네릭 인자를 제외하고 패키지명을 뗀 타입명
+     */
+    private static String simpleName(String type) {
+        int generic = type.indexOf('<');
+        String base = (generic >= 0 ? type.substring(0, generic) : type).trim();
+        return base.substring(base.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * 최상위 제네릭 인자 목록 (중첩 제네릭 안의 쉼표는 분리하지 않음)
+     * - 와일드카드 "? extends X"는 X로 취급
+     */
+    private static List<String> typeArguments(String type) {
+        int start = type.indexOf('<');
+        int end = type.lastIndexOf('>');
+        if (start < 0 || end <= start) {
+            return List.of();
+        }
+        List<String> arguments = new ArrayList<>();
+        int depth = 0;
+        int from = start + 1;
+        for (int i = start + 1; i < end; i++) {
+            char c = type.charAt(i);
+            if (c == '<') depth++;
+            else if (c == '>') depth--;
+            else if (c == ',' && depth == 0) {
+                arguments.add(stripWildcard(type.substring(from, i)));
+                from = i + 1;
+            }
+        }
+        arguments.add(stripWildcard(type.substring(from, end)));
+        return arguments;
+    }
+
+    private static String stripWildcard(String argument) {
+        String trimmed = argument.trim();
+        if (trimmed.startsWith("? extends ")) return trimmed.substring(10).trim();
+        if (trimmed.startsWith("? super ")) return trimmed.substring(8).trim();
+        return trimmed;
+    }
+
+    /**
+     * paths 작성 전 경로별로 모아 두는 핸들러 참조
+     */
+    private static final class Operation {
+        private final ControllerInfo controller;
+        private final MethodInfo method;
+        // 다른 경로 템플릿으로 합쳐졌을 때 path 파라미터 이름 변환
+        private final Map<String, String> pathVariableRenames;
+
+        private Operation(ControllerInfo controller, MethodInfo method, Map<String, String> pathVariableRenames) {
+            this.controller = controller;
+            this.method = method;
+            this.pathVariableRenames = pathVariableRenames;
+        }
+    }
+}
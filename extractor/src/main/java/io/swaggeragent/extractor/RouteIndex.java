@@ -0,0 +1,437 @@
+package io.swaggeragent.extractor;
+
+import io.swaggeragent.extractor.model.ControllerInfo;
+import io.swaggeragent.extractor.model.HttpMethod;
+import io.swaggeragent.extractor.model.MethodInfo;
+import io.swaggeragent.extractor.model.RouteConflict;
+import io.swaggeragent.extractor.model.RouteMatch;
+
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 추출된 엔드포인트에 대한 경로 세그먼트 트라이(trie) 인덱스
+ *
+ * 클래스 레벨 @RequestMapping 값과 메서드 레벨 경로를 합쳐 세그먼트 단위로 트라이를 구성하고,
+ * "GET /api/users/42" 같은 요청이 어떤 핸들러로 매핑되는지 경로 길이에 비례하는 시간에 조회
+ * - 리터럴 세그먼트가 경로 변수({id}, *)보다, 경로 변수가 캐치올(**, {*rest})보다 우선
+ * - 정규식 제약이 있는 경로 변수({id:\d+})는 정규식마다 따로 두고, 조회 시 정규식에 맞을 때만 제약 없는 변수보다 먼저 매칭
+ * - @RequestMapping 처럼 HTTP 메서드가 지정되지 않은 매핑은 모든 메서드에 매칭
+ * - 빌드 시 중복(DUPLICATE)/모호(AMBIGUOUS) 라우트를 감지 (메서드가 지정되지 않은 매핑은 모든 메서드의 매핑과 비교)
+ */
+public class RouteIndex {
+    // HTTP 메서드가 지정되지 않은 매핑(@RequestMapping)의 키
+    private static final String ANY_METHOD = "*";
+
+    private final Node root = new Node();
+
+    private final List<Route> routes = new ArrayList<>();
+
+    private final List<RouteConflict> conflicts = new ArrayList<>();
+
+    private RouteIndex() {
+    }
+
+    /**
+     * 컨트롤러 목록으로 라우트 인덱스를 생성
+     */
+    public static RouteIndex of(List<ControllerInfo> controllers) {
+        RouteIndex index = new RouteIndex();
+        if (controllers != null) {
+            for (ControllerInfo controller : controllers) {
+                if (controller.getMethods() == null) continue;
+                for (MethodInfo method : controller.getMethods()) {
+                    index.add(controller, method);
+                }
+            }
+        }
+        index.detectConflicts();
+        return index;
+    }
+
+    /**
+     * 클래스 레벨 경로와 메서드 레벨 경로를 합쳐 정규화된 경로 패턴 반환
+     * 예: ("/api/users/", "{id}") -> "/api/users/{id}"
+     */
+    public static String joinPath(String base, String path) {
+        StringBuilder sb = new StringBuilder();
+        for (String segment : splitPath((base != null ? base : "") + "/" + (path != null ? path : ""))) {
+            sb.append('/').append(segment);
+        }
+        return sb.length() == 0 ? "/" : sb.toString();
+    }
+
+    /**
+     * 주어진 HTTP 메서드와 요청 경로를 처리하는 핸들러 조회
+     * - 경로에 "{id}" 형태의 세그먼트를 넘기면 경로 변수 자리로 취급
+     */
+    public Optional<RouteMatch> find(String httpMethod, String path) {
+        String[] segments = splitPath(path);
+        Route route = match(root, segments, 0, httpMethod.toUpperCase());
+        return Optional.ofNullable(route).map(r -> r.toMatch(segments));
+    }
+
+    /**
+     * 요청 경로에 매칭되는 모든 HTTP 메서드의 핸들러 조회
+     */
+    public List<RouteMatch> findAll(String path) {
+        String[] segments = splitPath(path);
+        List<RouteMatch> matches = new ArrayList<>();
+        Set<String> methods = new LinkedHashSet<>();
+        for (Route route : routes) {
+            methods.add(route.httpMethod);
+        }
+        for (String method : methods) {
+            Route route = match(root, segments, 0, method);
+            if (route != null && route.httpMethod.equals(method)) {
+                matches.add(route.toMatch(segments));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 빌드 시 감지된 중복/모호 라우트 목록
+     */
+    public List<RouteConflict> getConflicts() {
+        return conflicts;
+    }
+
+    public int size() {
+        return routes.size();
+    }
+
+    private void add(ControllerInfo controller, MethodInfo method) {
+        String pattern = joinPath(controller.getRequestMapping(), method.getPath());
+        String httpMethod = method.getHttpMethod() == null || method.getHttpMethod() == HttpMethod.REQUEST
+            ? ANY_METHOD : method.getHttpMethod().name();
+        Route route = new Route(routes.size(), httpMethod, pattern, splitPath(pattern),
+            controller.getClassName(), method.getMethodName(), method.getLineNumber());
+        routes.add(route);
+
+        Node node = root;
+        for (int i = 0; i < route.segments.length; i++) {
+            String segment = route.segments[i];
+            if (isCatchAll(segment)) {
+                node.catchAll.computeIfAbsent(httpMethod, k -> new ArrayList<>()).add(route);
+                return;
+            }
+            if (isVariable(segment)) {
+                node = variableNode(node, segment);
+            } else {
+                node = node.literals.computeIfAbsent(segment, k -> new Node());
+            }
+        }
+        node.routes.computeIfAbsent(httpMethod, k -> new ArrayList<>()).add(route);
+    }
+
+    /**
+     * 리터럴 > 경로 변수 > 캐치올 순서로 백트래킹하며 첫 번째 매칭 라우트 반환
+     */
+    private Route match(Node node, String[] segments, int i, String httpMethod) {
+        if (i == segments.length) {
+            Route route = first(node.routes, httpMethod);
+            return route != null ? route : first(node.catchAll, httpMethod);
+        }
+        String segment = segments[i];
+        if (!isVariable(segment)) {
+            Node literal = node.literals.get(segment);
+            if (literal != null) {
+                Route route = match(literal, segments, i + 1, httpMethod);
+                if (route != null) return route;
+            }
+        }
+        if (node.constrained != null) {
+            for (Node constrained : node.constrained.values()) {
+                if (!accepts(constrained, segment)) continue;
+                Route route = match(constrained, segments, i + 1, httpMethod);
+                if (route != null) return route;
+            }
+        }
+        if (node.variable != null) {
+            Route route = match(node.variable, segments, i + 1, httpMethod);
+            if (route != null) return route;
+        }
+        return first(node.catchAll, httpMethod);
+    }
+
+    /**
+     * 경로 변수 세그먼트의 트라이 노드 (정규식 제약이 있으면 정규식별 노드)
+     */
+    private static Node variableNode(Node node, String segment) {
+        String regex = constraint(segment);
+        if (regex == null) {
+            if (node.variable == null) node.variable = new Node();
+            return node.variable;
+        }
+        if (node.constrained == null) node.constrained = new LinkedHashMap<>();
+        return node.constrained.computeIfAbsent(regex, k -> {
+            Node child = new Node();
+            child.pattern = compile(k);
+            return child;
+        });
+    }
+
+    /**
+     * 요청 세그먼트가 정규식 제약 노드에 맞는지 (조회 경로의 "{id}" 자리는 어떤 제약에도 맞음)
+     */
+    private static boolean accepts(Node constrained, String segment) {
+        return isVariable(segment) || constrained.pattern == null || constrained.pattern.matcher(segment).matches();
+    }
+
+    private Route first(Map<String, List<Route>> byMethod, String httpMethod) {
+        List<Route> candidates = byMethod.get(httpMethod);
+        if (candidates == null) candidates = byMethod.get(ANY_METHOD);
+        return candidates != null ? candidates.get(0) : null;
+    }
+
+    /**
+     * 라우트 충돌 감지
+     * - 같은 HTTP 메서드에서 경로 변수 이름만 다른 매핑은 DUPLICATE
+     * - 같은 요청에 매칭될 수 있고 경로 변수 개수가 같은 서로 다른 형태의 매핑은 AMBIGUOUS
+     * - 메서드가 지정되지 않은 매핑(ANY)은 모든 HTTP 메서드의 매핑과 같은 메서드로 취급
+     */
+    private void detectConflicts() {
+        Map<String, List<Route>> byShape = new LinkedHashMap<>();
+        Map<String, List<Route>> anyByShape = new HashMap<>();
+        for (Route route : routes) {
+            byShape.computeIfAbsent(route.httpMethod + " " + route.shape, k -> new ArrayList<>()).add(route);
+            if (route.httpMethod.equals(ANY_METHOD)) {
+                anyByShape.computeIfAbsent(route.shape, k -> new ArrayList<>()).add(route);
+            }
+        }
+        for (List<Route> group : byShape.values()) {
+            List<Route> any = anyByShape.get(group.get(0).shape);
+            if (any != null && !group.get(0).httpMethod.equals(ANY_METHOD)) {
+                // GET /users/{id}와 @RequestMapping /users/{id}는 GET 요청에서 겹침
+                group = new ArrayList<>(group);
+                group.addAll(any);
+                group.sort(Comparator.comparingInt(route -> route.id));
+            }
+            if (group.size() > 1) {
+                conflicts.add(toConflict("DUPLICATE", group));
+            }
+        }
+
+        for (Route route : routes) {
+            List<Route> overlapping = new ArrayList<>();
+            collectOverlapping(root, route.segments, 0, overlapping);
+            for (Route other : overlapping) {
+                if (other.id <= route.id || !methodsOverlap(route, other)) continue;
+                if (other.shape.equals(route.shape)) continue; // DUPLICATE로 이미 보고됨
+                if (other.variableCount == route.variableCount && other.catchAll == route.catchAll) {
+                    conflicts.add(toConflict("AMBIGUOUS", List.of(route, other)));
+                }
+            }
+        }
+    }
+
+    private static boolean methodsOverlap(Route route, Route other) {
+        return route.httpMethod.equals(other.httpMethod)
+            || route.httpMethod.equals(ANY_METHOD) || other.httpMethod.equals(ANY_METHOD);
+    }
+
+    /**
+     * 주어진 패턴과 같은 요청에 매칭될 수 있는 라우트 수집
+     * - 정규식이 서로 다른 경로 변수끼리는 겹치지 않는 것으로 봄 (정규식의 교집합은 계산하지 않음)
+     */
+    private void collectOverlapping(Node node, String[] segments, int i, List<Route> out) {
+        node.catchAll.values().forEach(out::addAll);
+        if (i == segments.length) {
+            node.routes.values().forEach(out::addAll);
+            return;
+        }
+        String segment = segments[i];
+        if (isCatchAll(segment)) {
+            collectSubtree(node, out);
+            return;
+        }
+        if (isVariable(segment)) {
+            String regex = constraint(segment);
+            Pattern pattern = regex != null ? compile(regex) : null;
+            for (Map.Entry<String, Node> literal : node.literals.entrySet()) {
+                if (pattern == null || pattern.matcher(literal.getKey()).matches()) {
+                    collectOverlapping(literal.getValue(), segments, i + 1, out);
+                }
+            }
+            if (node.constrained != null) {
+                for (Map.Entry<String, Node> constrained : node.constrained.entrySet()) {
+                    if (regex == null || regex.equals(constrained.getKey())) {
+                        collectOverlapping(constrained.getValue(), segments, i + 1, out);
+                    }
+                }
+            }
+        } else {
+            Node literal = node.literals.get(segment);
+            if (literal != null) collectOverlapping(literal, segments, i + 1, out);
+            if (node.constrained != null) {
+                for (Node constrained : node.constrained.values()) {
+                    if (accepts(constrained, segment)) collectOverlapping(constrained, segments, i + 1, out);
+                }
+            }
+        }
+        if (node.variable != null) {
+            collectOverlapping(node.variable, segments, i + 1, out);
+        }
+    }
+
+    private void collectSubtree(Node node, List<Route> out) {
+        node.routes.values().forEach(out::addAll);
+        node.catchAll.values().forEach(out::addAll);
+        node.literals.values().forEach(child -> collectSubtree(child, out));
+        if (node.constrained != null) node.constrained.values().forEach(child -> collectSubtree(child, out));
+        if (node.variable != null) collectSubtree(node.variable, out);
+    }
+
+    private RouteConflict toConflict(String type, List<Route> group) {
+        List<String> patterns = new ArrayList<>();
+        List<String> handlers = new ArrayList<>();
+        // 메서드가 지정된 라우트가 있으면 그 메서드에서 충돌
+        String httpMethod = ANY_METHOD;
+        for (Route route : group) {
+            patterns.add(route.pattern);
+            handlers.add(route.controller + "#" + route.methodName);
+            if (httpMethod.equals(ANY_METHOD)) httpMethod = route.httpMethod;
+        }
+        return RouteConflict.builder()
+            .type(type)
+            .httpMethod(httpMethod.equals(ANY_METHOD) ? "REQUEST" : httpMethod)
+            .patterns(patterns)
+            .handlers(handlers)
+            .build();
+    }
+
+    private static String[] splitPath(String path) {
+        if (path == null) return new String[0];
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= path.length(); i++) {
+            if (i == path.length() || path.charAt(i) == '/') {
+                if (i > start) segments.add(path.substring(start, i));
+                start = i + 1;
+            }
+        }
+        return segments.toArray(new String[0]);
+    }
+
+    private static boolean isVariable(String segment) {
+        return segment.equals("*") || (segment.startsWith("{") && segment.endsWith("}") && !isCatchAll(segment));
+    }
+
+    private static boolean isCatchAll(String segment) {
+        return segment.equals("**") || segment.startsWith("{*");
+    }
+
+    /**
+     * 경로 변수의 정규식 제약 추출: {id:\d+} -> \d+ (제약이 없으면 null)
+     */
+    private static String constraint(String segment) {
+        if (!segment.startsWith("{") || isCatchAll(segment)) return null;
+        int colon = segment.indexOf(':');
+        return colon >= 0 ? segment.substring(colon + 1, segment.length() - 1) : null;
+    }
+
+    /**
+     * 잘못된 정규식이면 null (제약 없는 변수처럼 모든 세그먼트에 맞음)
+     */
+    private static Pattern compile(String regex) {
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 경로 변수 이름 추출: {id} -> id, {id:\d+} -> id, {*rest} -> rest
+     */
+    private static String variableName(String segment) {
+        if (!segment.startsWith("{")) return null;
+        String name = segment.substring(segment.startsWith("{*") ? 2 : 1, segment.length() - 1);
+        int colon = name.indexOf(':');
+        return colon >= 0 ? name.substring(0, colon) : name;
+    }
+
+    /**
+     * 트라이 노드
+     */
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node variable;
+        // 정규식 -> 정규식 제약이 있는 경로 변수 노드 (없으면 null)
+        private Map<String, Node> constrained;
+        // 정규식 제약 노드의 정규식 (잘못된 정규식이면 null)
+        private Pattern pattern;
+        private final Map<String, List<Route>> routes = new HashMap<>();
+        private final Map<String, List<Route>> catchAll = new HashMap<>();
+    }
+
+    /**
+     * 인덱스에 등록된 라우트
+     */
+    private static final class Route {
+        private final int id;
+        private final String httpMethod;
+        private final String pattern;
+        private final String[] segments;
+        private final String shape;
+        private final int variableCount;
+        private final boolean catchAll;
+        private final String controller;
+        private final String methodName;
+        private final int lineNumber;
+
+        private Route(int id, String httpMethod, String pattern, String[] segments,
+                      String controller, String methodName, int lineNumber) {
+            this.id = id;
+            this.httpMethod = httpMethod;
+            this.pattern = pattern;
+            this.segments = segments;
+            this.controller = controller;
+            this.methodName = methodName;
+            this.lineNumber = lineNumber;
+
+            StringBuilder shape = new StringBuilder();
+            int variables = 0;
+            boolean hasCatchAll = false;
+            for (String segment : segments) {
+                if (isCatchAll(segment)) {
+                    shape.append("/**");
+                    hasCatchAll = true;
+                } else if (isVariable(segment)) {
+                    // 정규식 제약이 다르면 다른 형태 (같은 요청에 매칭되지 않을 수 있음)
+                    String regex = constraint(segment);
+                    shape.append(regex != null ? "/{:" + regex + "}" : "/{}");
+                    variables++;
+                } else {
+                    shape.append('/').append(segment);
+                }
+            }
+            this.shape = shape.toString();
+            this.variableCount = variables;
+            this.catchAll = hasCatchAll;
+        }
+
+        private RouteMatch toMatch(String[] requestSegments) {
+            Map<String, String> variables = new LinkedHashMap<>();
+            for (int i = 0; i < segments.length && i < requestSegments.length; i++) {
+                String name = variableName(segments[i]);
+                if (name == null || name.isEmpty()) continue;
+                if (isCatchAll(segments[i])) {
+                    variables.put(name, String.join("/", Arrays.copyOfRange(requestSegments, i, requestSegments.length)));
+                    break;
+                }
+                variables.put(name, requestSegments[i]);
+            }
+            return RouteMatch.builder()
+                .httpMethod(httpMethod.equals(ANY_METHOD) ? "REQUEST" : httpMethod)
+                .pattern(pattern)
+                .controller(controller)
+                .methodName(methodName)
+                .lineNumber(lineNumber)
+                .pathVariables(variables)
+                .build();
+        }
+    }
+}
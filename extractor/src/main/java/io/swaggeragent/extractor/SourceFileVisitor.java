@@ -0,0 +1,1019 @@
+package io.swaggeragent.extractor;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MemberValuePair;
+import com.github.javaparser.ast.type.ReferenceType;
+import io.swaggeragent.extractor.model.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * 소스 파일 하나를 한 번만 순회하며 컨트롤러, 매핑 메서드, 연관 DTO, 같은 파일의 DTO 클래스를 함께 추출
+ *
+ * - 타입 선언과 그 멤버만 따라가고 메서드 본문/표현식은 방문하지 않음
+ * - 메서드마다 어노테이션/파라미터를 한 번씩만 훑어 메서드 정보와 연관 DTO를 동시에 수집
+ * - 스트림/람다 대신 단순 반복문을 사용하고, 파일 간 재사용하는 임시 버퍼로 할당을 줄임
+ * - 기존 OpenAPI 어노테이션은 existingAnnotations로, 문서화 완료 여부는 documented로 기록
+ * - 타입/메서드마다 파일당 제한 시간을 확인하고, 중단된 파일이 추가한 결과는 discardIncompleteVisit()로 되돌림
+ * - 매핑 경로의 상수 참조(ApiPaths.USERS, BASE + "/{id}")는 ConstantResolver로 계산
+ * - 상위 인터페이스/클래스에 선언된 매핑 메서드와 클래스 @RequestMapping, @RestController를 붙인 합성 어노테이션은
+ *   TypeHierarchy로 찾아 구체 컨트롤러에 합침 (컨트롤러에 이름과 소거된 파라미터 타입이 같은 매핑 메서드가 있으면 그것을 사용)
+ * - AST 대신 SourceScanner가 읽은 선언(visitScanned)에서도 같은 규칙으로 같은 결과를 만듦
+ * - 파일 단위로 재사용하므로 스레드 간에 공유하면 안 됨
+ */
+public class SourceFileVisitor {
+    // 파라미터 위치를 정하는 바인딩 어노테이션
+    private static final int REQUEST_BODY = 1;
+    private static final int PATH_VARIABLE = 2;
+    private static final int REQUEST_HEADER = 4;
+
+    private final List<ControllerInfo> controllers;
+    private final Set<DtoInfo> dtoClasses;
+    private final SymbolIndex symbolIndex;
+    private final StringPool stringPool;
+    private final ConstantResolver constantResolver;
+    private final TypeHierarchy hierarchy;
+
+    // 파일 간 재사용하는 임시 버퍼
+    private final List<ClassOrInterfaceDeclaration> typeBuffer = new ArrayList<>();
+    private final List<String> annotationBuffer = new ArrayList<>();
+
+    // 진행 중인 visit()이 추가한 결과 (중단 시 되돌리기용)
+    private final List<DtoInfo> addedDtos = new ArrayList<>();
+    private int controllersBeforeVisit;
+    private boolean visiting;
+
+    private FileDeadline deadline = FileDeadline.NONE;
+
+    // 순회 중인 파일의 패키지/import (합성 어노테이션과 상위 타입이 프로젝트 타입인지 확인)
+    private TypeHierarchy.FileImports fileImports = TypeHierarchy.FileImports.NONE;
+
+    public SourceFileVisitor(List<ControllerInfo> controllers, Set<DtoInfo> dtoClasses,
+                             SymbolIndex symbolIndex, StringPool stringPool, ConstantResolver constantResolver,
+                             TypeHierarchy hierarchy) {
+        this.controllers = controllers;
+        this.dtoClasses = dtoClasses;
+        this.symbolIndex = symbolIndex;
+        this.stringPool = stringPool;
+        this.constantResolver = constantResolver;
+        this.hierarchy = hierarchy;
+    }
+
+    /**
+     * 컴파일 단위에서 컨트롤러와 DTO 정보를 추출
+     *
+     * @param cu 파싱된 소스 파일
+     * @param filePath 소스 파일 경로
+     * @param dtoFile 파일명이 DTO 패턴인지 여부 (true면 모든 클래스를 DTO로 처리)
+     */
+    public void visit(CompilationUnit cu, Path filePath, boolean dtoFile) {
+        visit(cu, filePath, dtoFile, FileDeadline.NONE);
+    }
+
+    /**
+     * 제한 시간 안에서 컴파일 단위의 컨트롤러와 DTO 정보를 추출
+     *
+     * @throws FileDeadline.Exceeded 제한 시간을 넘긴 경우 (추가된 결과는 discardIncompleteVisit()로 되돌릴 수 있음)
+     */
+    void visit(CompilationUnit cu, Path filePath, boolean dtoFile, FileDeadline deadline) {
+        beginVisit(deadline);
+        fileImports = TypeHierarchy.FileImports.of(cu);
+        visitTypes(cu, filePath, dtoFile);
+        // 끝까지 처리한 파일의 결과는 되돌리기 대상에서 제외
+        visiting = false;
+    }
+
+    /**
+     * SourceScanner가 읽은 타입 선언에서 컨트롤러와 DTO 정보를 추출 (visit()과 같은 결과)
+     *
+     * @param types 전위 순서의 클래스/인터페이스 선언
+     * @param imports 파일의 패키지/import
+     * @throws SourceScanner.Unsupported 스캔 결과만으로 값을 정할 수 없는 경우 (추가된 결과는 discardIncompleteVisit()로 되돌림)
+     */
+    void visitScanned(List<SourceScanner.ScannedType> types, TypeHierarchy.FileImports imports, Path filePath,
+                      boolean dtoFile, FileDeadline deadline) {
+        beginVisit(deadline);
+        fileImports = imports;
+        String filePathStr = null;
+        for (int i = 0; i < types.size(); i++) {
+            SourceScanner.ScannedType type = types.get(i);
+            deadline.check();
+            if (dtoFile || (!isScannedController(type) && isDtoClassName(type.name))) {
+                if (filePathStr == null) filePathStr = filePath.toString();
+                addDto(extractScannedDto(type, filePathStr));
+            }
+        }
+        if (!dtoFile) {
+            for (int i = 0; i < types.size(); i++) {
+                SourceScanner.ScannedType type = types.get(i);
+                deadline.check();
+                if (isScannedController(type)) {
+                    if (filePathStr == null) filePathStr = filePath.toString();
+                    addScannedController(type, filePathStr, types);
+                }
+            }
+        }
+        visiting = false;
+    }
+
+    private void beginVisit(FileDeadline deadline) {
+        this.deadline = deadline;
+        addedDtos.clear();
+        controllersBeforeVisit = controllers.size();
+        visiting = true;
+    }
+
+    private void visitTypes(CompilationUnit cu, Path filePath, boolean dtoFile) {
+        typeBuffer.clear();
+        NodeList<TypeDeclaration<?>> types = cu.getTypes();
+        for (int i = 0; i < types.size(); i++) {
+            collectTypes(types.get(i));
+        }
+
+        // 같은 파일의 DTO를 먼저 등록해야 컨트롤러가 참조할 때 추정 경로로 중복 등록되지 않음
+        String filePathStr = null;
+        for (int i = 0; i < typeBuffer.size(); i++) {
+            ClassOrInterfaceDeclaration type = typeBuffer.get(i);
+            deadline.check();
+            if (dtoFile || (!isController(type) && isDtoClassName(type.getNameAsString()))) {
+                if (filePathStr == null) filePathStr = filePath.toString();
+                addDto(extractDto(type, filePathStr));
+            }
+        }
+        if (dtoFile) {
+            return;
+        }
+        for (int i = 0; i < typeBuffer.size(); i++) {
+            ClassOrInterfaceDeclaration type = typeBuffer.get(i);
+            deadline.check();
+            if (isController(type)) {
+                if (filePathStr == null) filePathStr = filePath.toString();
+                addController(type, filePathStr);
+            }
+        }
+    }
+
+    /**
+     * 중간에 중단된 visit()이 추가한 컨트롤러와 DTO를 제거 (제한 시간 초과 등으로 중단된 파일의 일부 결과 폐기)
+     * - 끝까지 처리된 visit() 뒤에 호출하면 아무것도 하지 않음
+     */
+    void discardIncompleteVisit() {
+        if (!visiting) {
+            return;
+        }
+        visiting = false;
+        controllers.subList(controllersBeforeVisit, controllers.size()).clear();
+        for (int i = 0; i < addedDtos.size(); i++) {
+            dtoClasses.remove(addedDtos.get(i));
+        }
+        addedDtos.clear();
+    }
+
+    /**
+     * 마지막 visit()이 새로 추가한 DTO (앞선 파일에서 이미 찾은 DTO는 제외)
+     */
+    List<DtoInfo> lastVisitDtos() {
+        return new ArrayList<>(addedDtos);
+    }
+
+    private void addDto(DtoInfo dto) {
+        if (dtoClasses.add(dto)) {
+            addedDtos.add(dto);
+        }
+    }
+
+    /**
+     * 타입 선언과 중첩 타입을 전위 순서로 수집
+     */
+    private void collectTypes(TypeDeclaration<?> type) {
+        if (type.isClassOrInterfaceDeclaration()) {
+            typeBuffer.add(type.asClassOrInterfaceDeclaration());
+        }
+        NodeList<BodyDeclaration<?>> members = type.getMembers();
+        for (int i = 0; i < members.size(); i++) {
+            BodyDeclaration<?> member = members.get(i);
+            if (member.isTypeDeclaration()) {
+                collectTypes(member.asTypeDeclaration());
+            }
+        }
+    }
+
+    private boolean isController(ClassOrInterfaceDeclaration n) {
+        NodeList<AnnotationExpr> annotations = n.getAnnotations();
+        for (int i = 0; i < annotations.size(); i++) {
+            if (isControllerAnnotation(annotations.get(i).getNameAsString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isScannedController(SourceScanner.ScannedType type) {
+        for (int i = 0; i < type.annotations.size(); i++) {
+            if (isControllerAnnotation(type.annotations.get(i).name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @Controller/@RestController 또는 이를 메타 어노테이션으로 붙인 합성 어노테이션(@ApiController 등)인지 확인
+     */
+    private boolean isControllerAnnotation(String name) {
+        return name.equals("RestController") || name.equals("Controller") || hierarchy.isControllerAnnotation(name, fileImports);
+    }
+
+    /**
+     * Controller 클래스에서 정보를 추출하여 컨트롤러 목록에 추가
+     * - 매핑 메서드를 한 번만 순회하며 메서드 정보와 연관 DTO를 함께 수집
+     */
+    private void addController(ClassOrInterfaceDeclaration n, String filePath) {
+        Map<String, Object> existingAnnotations = OpenApiAnnotations.extract(n.getAnnotations());
+        boolean hidden = OpenApiAnnotations.isHidden(existingAnnotations);
+        List<TypeHierarchy.HierarchyType> ancestors = hierarchy.ancestors(n, filePath);
+        List<String> requestMappings = extractRequestMappings(n);
+        if (requestMappings == null) {
+            NodeList<AnnotationExpr> annotations = n.getAnnotations();
+            List<String> annotationNames = new ArrayList<>(annotations.size());
+            for (int i = 0; i < annotations.size(); i++) {
+                annotationNames.add(annotations.get(i).getNameAsString());
+            }
+            requestMappings = inheritedRequestMappings(annotationNames, ancestors);
+        }
+        ControllerInfo controller = ControllerInfo.builder()
+            .className(n.getNameAsString())
+            .requestMapping(requestMappings.get(0))
+            .existingAnnotations(existingAnnotations)
+            .filePath(filePath)
+            .build();
+
+        List<MethodInfo> methods = new ArrayList<>();
+        NodeList<BodyDeclaration<?>> members = n.getMembers();
+        for (int i = 0; i < members.size(); i++) {
+            BodyDeclaration<?> member = members.get(i);
+            if (member.isMethodDeclaration()) {
+                deadline.check();
+                extractMethod(member.asMethodDeclaration(), hidden, null, methods);
+            }
+        }
+        addInheritedMethods(methods, ancestors, hidden);
+        controller.setMethods(methods);
+        addPerRequestMapping(controller, requestMappings);
+    }
+
+    /**
+     * @param fileTypes 같은 파일의 타입 (상위 타입이 같은 파일에 있으면 컴파일 단위가 필요하므로 AST로 처리)
+     */
+    private void addScannedController(SourceScanner.ScannedType type, String filePath,
+                                      List<SourceScanner.ScannedType> fileTypes) {
+        Map<String, Object> existingAnnotations = OpenApiAnnotations.extractScanned(type.annotations);
+        boolean hidden = OpenApiAnnotations.isHidden(existingAnnotations);
+        for (int i = 0; i < fileTypes.size(); i++) {
+            String name = fileTypes.get(i).name;
+            if (name.equals(type.superclass) || type.interfaces.contains(name)) {
+                throw new SourceScanner.Unsupported("같은 파일의 상위 타입");
+            }
+        }
+        List<TypeHierarchy.HierarchyType> ancestors = hierarchy.ancestors(type.superclass, type.interfaces, fileImports);
+        List<String> requestMappings = null;
+        for (int i = 0; i < type.annotations.size(); i++) {
+            if (type.annotations.get(i).name.equals("RequestMapping")) {
+                requestMappings = type.annotations.get(i).mappingValues();
+                break;
+            }
+        }
+        if (requestMappings == null) {
+            List<String> annotationNames = new ArrayList<>(type.annotations.size());
+            for (int i = 0; i < type.annotations.size(); i++) {
+                annotationNames.add(type.annotations.get(i).name);
+            }
+            requestMappings = inheritedRequestMappings(annotationNames, ancestors);
+        }
+        ControllerInfo controller = ControllerInfo.builder()
+            .className(type.name)
+            .requestMapping(requestMappings.get(0))
+            .existingAnnotations(existingAnnotations)
+            .filePath(filePath)
+            .build();
+
+        List<MethodInfo> methods = new ArrayList<>();
+        for (int i = 0; i < type.members.size(); i++) {
+            Object member = type.members.get(i);
+            if (member instanceof SourceScanner.ScannedMethod) {
+                deadline.check();
+                extractScannedMethod((SourceScanner.ScannedMethod) member, hidden, methods);
+            }
+        }
+        addInheritedMethods(methods, ancestors, hidden);
+        controller.setMethods(methods);
+        addPerRequestMapping(controller, requestMappings);
+    }
+
+    /**
+     * 클래스 경로마다 컨트롤러 하나씩 추가 (@RequestMapping({"/v1/users", "/users"})는 같은 메서드 목록의 컨트롤러 두 개)
+     */
+    private void addPerRequestMapping(ControllerInfo controller, List<String> requestMappings) {
+        controllers.add(controller);
+        for (int i = 1; i < requestMappings.size(); i++) {
+            controllers.add(controller.toBuilder().requestMapping(requestMappings.get(i)).build());
+        }
+    }
+
+    /**
+     * HTTP 메서드/경로 조합마다 엔드포인트 하나씩 추가
+     * (@GetMapping({"/mine", "/me"}), @RequestMapping(method = {GET, HEAD})는 같은 메서드의 엔드포인트 두 개)
+     */
+    private void addPerRoute(List<MethodInfo> methods, MethodInfo method, List<HttpMethod> httpMethods, List<String> paths) {
+        method.setPath(stringPool.intern(paths.get(0)));
+        for (int i = 0; i < paths.size(); i++) {
+            for (int j = 0; j < httpMethods.size(); j++) {
+                if (i == 0 && j == 0) {
+                    methods.add(method);
+                } else {
+                    methods.add(method.toBuilder().httpMethod(httpMethods.get(j)).path(stringPool.intern(paths.get(i))).build());
+                }
+            }
+        }
+    }
+
+    /**
+     * RequestMapping의 method 속성에서 HTTP 메서드 목록 추출 (RequestMethod.GET 단일 값 또는 배열)
+     * - 지정하지 않았거나 RequestMethod 상수가 아니면 [REQUEST] (모든 메서드)
+     */
+    private static List<HttpMethod> extractRequestMethods(AnnotationExpr annotation) {
+        if (!annotation.isNormalAnnotationExpr()) {
+            return Collections.singletonList(HttpMethod.REQUEST);
+        }
+        NodeList<MemberValuePair> pairs = annotation.asNormalAnnotationExpr().getPairs();
+        for (int i = 0; i < pairs.size(); i++) {
+            if (!pairs.get(i).getNameAsString().equals("method")) continue;
+            Expression value = pairs.get(i).getValue();
+            List<Expression> items = value.isArrayInitializerExpr() ? value.asArrayInitializerExpr().getValues() : List.of(value);
+            List<HttpMethod> httpMethods = new ArrayList<>(items.size());
+            for (Expression item : items) {
+                HttpMethod httpMethod = HttpMethod.fromRequestMethod(item.toString());
+                if (httpMethod != null && !httpMethods.contains(httpMethod)) {
+                    httpMethods.add(httpMethod);
+                }
+            }
+            if (!httpMethods.isEmpty()) {
+                return httpMethods;
+            }
+        }
+        return Collections.singletonList(HttpMethod.REQUEST);
+    }
+
+    /**
+     * 클래스의 @RequestMapping 경로 목록 추출 (없으면 null)
+     */
+    private List<String> extractRequestMappings(ClassOrInterfaceDeclaration n) {
+        NodeList<AnnotationExpr> annotations = n.getAnnotations();
+        for (int i = 0; i < annotations.size(); i++) {
+            if (annotations.get(i).getNameAsString().equals("RequestMapping")) {
+                return extractAnnotationValues(annotations.get(i));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 클래스에 @RequestMapping이 없을 때 합성 어노테이션 -> 상위 타입 순서로 찾은 @RequestMapping 경로 (Spring과 같은 순서)
+     */
+    private List<String> inheritedRequestMappings(List<String> annotationNames, List<TypeHierarchy.HierarchyType> ancestors) {
+        for (int i = 0; i < annotationNames.size(); i++) {
+            AnnotationExpr composed = hierarchy.composedRequestMapping(annotationNames.get(i), fileImports);
+            if (composed != null) {
+                return extractAnnotationValues(composed);
+            }
+        }
+        for (int i = 0; i < ancestors.size(); i++) {
+            if (ancestors.get(i).requestMapping != null) {
+                return extractAnnotationValues(ancestors.get(i).requestMapping);
+            }
+        }
+        return Collections.singletonList("");
+    }
+
+    /**
+     * 상위 타입에 선언된 매핑 메서드를 컨트롤러 메서드 뒤에 추가
+     * - 컨트롤러나 앞선 상위 타입에 이름과 소거된 파라미터 타입(제네릭 인자 제거, 타입 변수는 어떤 타입과도 일치)이 같은 매핑 메서드가 있으면
+     *   재정의된 것으로 보고 건너뜀
+     *   (매핑 어노테이션 없이 재정의한 메서드는 Spring이 상위 선언의 매핑을 사용하므로 상위 선언으로 추출)
+     * - 상수 참조는 상위 타입 파일 기준으로 계산하고, lineNumber는 declaredIn 타입의 파일 기준
+     */
+    private void addInheritedMethods(List<MethodInfo> methods, List<TypeHierarchy.HierarchyType> ancestors, boolean hidden) {
+        if (ancestors.isEmpty()) {
+            return;
+        }
+        // 이미 있는 메서드의 "이름/파라미터 타입..." (상위 타입에서 같은 시그니처면 오버라이드로 보고 건너뜀)
+        List<String[]> signatures = new ArrayList<>();
+        for (int i = 0; i < methods.size(); i++) {
+            List<ParameterInfo> parameters = methods.get(i).getParameters();
+            String[] signature = new String[parameters.size() + 1];
+            signature[0] = methods.get(i).getMethodName();
+            for (int k = 0; k < parameters.size(); k++) {
+                signature[k + 1] = erasure(parameters.get(k).getType());
+            }
+            signatures.add(signature);
+        }
+        for (int i = 0; i < ancestors.size(); i++) {
+            TypeHierarchy.HierarchyType ancestor = ancestors.get(i);
+            for (int j = 0; j < ancestor.mappingMethods.size(); j++) {
+                MethodDeclaration declaration = ancestor.mappingMethods.get(j);
+                String[] signature = signature(declaration);
+                if (overridden(signatures, signature)) {
+                    continue;
+                }
+                signatures.add(signature);
+                deadline.check();
+                extractMethod(declaration, hidden, stringPool.intern(ancestor.name), methods);
+            }
+        }
+    }
+
+    /**
+     * 상위 타입 메서드의 시그니처 (이름 + 파라미터 타입의 erasure 단순명)
+     * - 클래스/메서드의 타입 변수(CrudController<T>의 T 등)는 하위 클래스에서 어떤 타입으로든 바뀔 수 있으므로 null
+     */
+    private static String[] signature(MethodDeclaration declaration) {
+        Set<String> typeVariables = new HashSet<>();
+        declaration.getTypeParameters().forEach(p -> typeVariables.add(p.getNameAsString()));
+        declaration.getParentNode()
+            .filter(parent -> parent instanceof ClassOrInterfaceDeclaration)
+            .ifPresent(parent -> ((ClassOrInterfaceDeclaration) parent).getTypeParameters()
+                .forEach(p -> typeVariables.add(p.getNameAsString())));
+        NodeList<Parameter> parameters = declaration.getParameters();
+        String[] signature = new String[parameters.size() + 1];
+        signature[0] = declaration.getNameAsString();
+        for (int k = 0; k < parameters.size(); k++) {
+            String type = erasure(parameters.get(k).getType().asString());
+            signature[k + 1] = typeVariables.contains(type) ? null : type;
+        }
+        return signature;
+    }
+
+    private static boolean overridden(List<String[]> signatures, String[] signature) {
+        for (int i = 0; i < signatures.size(); i++) {
+            String[] existing = signatures.get(i);
+            if (existing.length != signature.length || !existing[0].equals(signature[0])) continue;
+            boolean same = true;
+            for (int k = 1; k < signature.length && same; k++) {
+                same = signature[k] == null || existing[k] == null || signature[k].equals(existing[k]);
+            }
+            if (same) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 타입 문자열의 erasure 단순명 (예: java.util.List<String> -> List, Long... -> Long[])
+     */
+    private static String erasure(String type) {
+        String name = type.trim();
+        int dimensions = 0;
+        while (true) {
+            if (name.endsWith("[]")) {
+                name = name.substring(0, name.length() - 2).trim();
+            } else if (name.endsWith("...")) {
+                name = name.substring(0, name.length() - 3).trim();
+            } else {
+                break;
+            }
+            dimensions++;
+        }
+        int typeArguments = name.indexOf('<');
+        if (typeArguments >= 0) {
+            name = name.substring(0, typeArguments);
+        }
+        name = name.substring(name.lastIndexOf('.') + 1).trim();
+        return dimensions == 0 ? name : name + "[]".repeat(dimensions);
+    }
+
+    /**
+     * 어노테이션의 value(또는 path) 경로 목록 추출 (지정하지 않았거나 빈 배열이면 [""])
+     * - 상수 참조/문자열 연결은 ConstantResolver로 계산하고, 계산할 수 없으면 소스 표현 그대로 사용
+     * - 배열({"/mine", "/me"})과 배열 상수는 항목마다 경로 하나
+     */
+    private List<String> extractAnnotationValues(AnnotationExpr annotation) {
+        if (annotation.isSingleMemberAnnotationExpr()) {
+            // @RequestMapping("/api/users"), @RequestMapping(ApiPaths.USERS) 형태
+            return resolveAnnotationValues(annotation.asSingleMemberAnnotationExpr().getMemberValue());
+        } else if (annotation.isNormalAnnotationExpr()) {
+            // @RequestMapping(value="/api/users"), @GetMapping(path = BASE + "/{id}") 형태
+            NodeList<MemberValuePair> pairs = annotation.asNormalAnnotationExpr().getPairs();
+            for (int i = 0; i < pairs.size(); i++) {
+                String name = pairs.get(i).getNameAsString();
+                if (name.equals("value") || name.equals("path")) {
+                    return resolveAnnotationValues(pairs.get(i).getValue());
+                }
+            }
+        }
+        return Collections.singletonList("");
+    }
+
+    private List<String> resolveAnnotationValues(Expression value) {
+        if (value.isStringLiteralExpr()) {
+            return Collections.singletonList(value.asStringLiteralExpr().asString());
+        }
+        List<String> resolved = constantResolver.resolveAll(value);
+        return resolved.isEmpty() ? Collections.singletonList("") : resolved;
+    }
+
+    /**
+     * HTTP 매핑 메서드에서 정보를 추출하여 경로마다 methods에 추가 (매핑 메서드가 아니면 추가하지 않음)
+     * - 어노테이션 한 번 순회로 매핑 여부, HTTP 메서드, 경로를 결정
+     *
+     * @param declaredIn 상위 타입에서 상속한 메서드면 선언된 타입 이름 (아니면 null)
+     */
+    private void extractMethod(MethodDeclaration n, boolean controllerHidden, String declaredIn, List<MethodInfo> methods) {
+        boolean mapping = false;
+        HttpMethod httpMethod = null;
+        AnnotationExpr methodAnnotation = null;
+        AnnotationExpr pathAnnotation = null;
+        NodeList<AnnotationExpr> annotations = n.getAnnotations();
+        for (int i = 0; i < annotations.size(); i++) {
+            AnnotationExpr annotation = annotations.get(i);
+            String name = annotation.getNameAsString();
+            if (isMappingAnnotation(name)) {
+                mapping = true;
+            }
+            if (httpMethod == null) {
+                httpMethod = HttpMethod.fromMappingAnnotation(name);
+                methodAnnotation = annotation;
+            }
+            if (pathAnnotation == null && name.endsWith("Mapping")) {
+                pathAnnotation = annotation;
+            }
+        }
+        if (!mapping) {
+            return;
+        }
+
+        String returnType = n.getType().asString();
+        detectDtos(returnType);
+
+        Map<String, Object> existingAnnotations = OpenApiAnnotations.extract(annotations);
+        List<ParameterInfo> parameters = extractParameters(n);
+
+        List<HttpMethod> httpMethods = httpMethod == HttpMethod.REQUEST
+            ? extractRequestMethods(methodAnnotation)
+            : Collections.singletonList(httpMethod != null ? httpMethod : HttpMethod.GET);
+        MethodInfo method = MethodInfo.builder()
+            .methodName(n.getNameAsString())
+            .httpMethod(httpMethods.get(0))
+            .lineNumber(n.getBegin().map(pos -> pos.line).orElse(0))
+            .returnType(stringPool.intern(returnType))
+            .parameters(parameters)
+            .exceptions(extractExceptions(n))
+            .existingAnnotations(existingAnnotations)
+            .documented(OpenApiAnnotations.isEndpointDocumented(existingAnnotations, parameters, controllerHidden))
+            .declaredIn(declaredIn)
+            .build();
+        addPerRoute(methods, method, httpMethods,
+            pathAnnotation != null ? extractAnnotationValues(pathAnnotation) : Collections.singletonList(""));
+    }
+
+    private void extractScannedMethod(SourceScanner.ScannedMethod n, boolean controllerHidden, List<MethodInfo> methods) {
+        boolean mapping = false;
+        HttpMethod httpMethod = null;
+        SourceScanner.ScannedAnnotation methodAnnotation = null;
+        SourceScanner.ScannedAnnotation pathAnnotation = null;
+        for (int i = 0; i < n.annotations.size(); i++) {
+            SourceScanner.ScannedAnnotation annotation = n.annotations.get(i);
+            if (isMappingAnnotation(annotation.name)) {
+                mapping = true;
+            }
+            if (httpMethod == null) {
+                httpMethod = HttpMethod.fromMappingAnnotation(annotation.name);
+                methodAnnotation = annotation;
+            }
+            if (pathAnnotation == null && annotation.name.endsWith("Mapping")) {
+                pathAnnotation = annotation;
+            }
+        }
+        if (!mapping) {
+            return;
+        }
+
+        detectDtos(n.returnType);
+
+        Map<String, Object> existingAnnotations = OpenApiAnnotations.extractScanned(n.annotations);
+        List<ParameterInfo> parameters = Collections.emptyList();
+        if (!n.parameters.isEmpty()) {
+            parameters = new ArrayList<>(n.parameters.size());
+            for (int i = 0; i < n.parameters.size(); i++) {
+                SourceScanner.ScannedParameter param = n.parameters.get(i);
+                annotationBuffer.clear();
+                int bindings = 0;
+                for (int j = 0; j < param.annotations.size(); j++) {
+                    bindings |= collectParameterAnnotation(param.annotations.get(j).name);
+                }
+                parameters.add(parameterInfo(param.name, param.type, bindings, OpenApiAnnotations.extractScanned(param.annotations)));
+            }
+        }
+        List<String> exceptions = Collections.emptyList();
+        if (!n.thrown.isEmpty()) {
+            exceptions = new ArrayList<>(n.thrown.size());
+            for (int i = 0; i < n.thrown.size(); i++) {
+                exceptions.add(stringPool.intern(n.thrown.get(i)));
+            }
+        }
+
+        List<HttpMethod> httpMethods = httpMethod == HttpMethod.REQUEST
+            ? methodAnnotation.requestMethods()
+            : Collections.singletonList(httpMethod != null ? httpMethod : HttpMethod.GET);
+        MethodInfo method = MethodInfo.builder()
+            .methodName(n.name)
+            .httpMethod(httpMethods.get(0))
+            .lineNumber(n.line)
+            .returnType(stringPool.intern(n.returnType))
+            .parameters(parameters)
+            .exceptions(exceptions)
+            .existingAnnotations(existingAnnotations)
+            .documented(OpenApiAnnotations.isEndpointDocumented(existingAnnotations, parameters, controllerHidden))
+            .build();
+        addPerRoute(methods, method, httpMethods,
+            pathAnnotation != null ? pathAnnotation.mappingValues() : Collections.singletonList(""));
+    }
+
+    static boolean isMappingAnnotation(String name) {
+        return name.equals("GetMapping") || name.equals("PostMapping") ||
+               name.equals("PutMapping") || name.equals("DeleteMapping") ||
+               name.equals("RequestMapping");
+    }
+
+    /**
+     * 메서드의 파라미터 목록 추출
+     * - @RequestBody 파라미터 타입은 연관 DTO로 함께 감지
+     */
+    private List<ParameterInfo> extractParameters(MethodDeclaration n) {
+        NodeList<Parameter> params = n.getParameters();
+        if (params.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ParameterInfo> parameters = new ArrayList<>(params.size());
+        for (int i = 0; i < params.size(); i++) {
+            Parameter param = params.get(i);
+            annotationBuffer.clear();
+            int bindings = 0;
+            NodeList<AnnotationExpr> annotations = param.getAnnotations();
+            for (int j = 0; j < annotations.size(); j++) {
+                bindings |= collectParameterAnnotation(annotations.get(j).getNameAsString());
+            }
+            parameters.add(parameterInfo(param.getNameAsString(), param.getType().asString(), bindings,
+                OpenApiAnnotations.extract(annotations)));
+        }
+        return parameters;
+    }
+
+    /**
+     * 파라미터 어노테이션 이름을 annotationBuffer에 기록하고, 위치를 정하는 바인딩 어노테이션이면 해당 비트 반환
+     */
+    private int collectParameterAnnotation(String name) {
+        switch (name) {
+            case "RequestBody":
+                annotationBuffer.add(name);
+                return REQUEST_BODY;
+            case "PathVariable":
+                annotationBuffer.add(name);
+                return PATH_VARIABLE;
+            case "RequestHeader":
+                annotationBuffer.add(name);
+                return REQUEST_HEADER;
+            case "Valid":
+            case "NotNull":
+            case "Size":
+            case "NotBlank":
+            case "RequestParam":
+                annotationBuffer.add(name);
+                return 0;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * 파라미터 정보 생성 (annotationBuffer에 모은 어노테이션 사용)
+     * - @RequestBody 파라미터 타입은 연관 DTO로 함께 감지
+     */
+    private ParameterInfo parameterInfo(String name, String type, int bindings, Map<String, Object> existingAnnotations) {
+        boolean requestBody = (bindings & REQUEST_BODY) != 0;
+        boolean pathVariable = (bindings & PATH_VARIABLE) != 0;
+        if (requestBody) {
+            detectDto(TypeParser.parseType(type, TypeParser.ParseMode.CLASS_NAME_ONLY).getBaseType());
+        }
+
+        // 파라미터 위치: body > path > header > query(기본값)
+        ParameterIn in = requestBody ? ParameterIn.BODY
+            : pathVariable ? ParameterIn.PATH
+            : (bindings & REQUEST_HEADER) != 0 ? ParameterIn.HEADER
+            : ParameterIn.QUERY;
+
+        Object description = existingAnnotations != null && existingAnnotations.get("Parameter") instanceof Map
+            ? ((Map<?, ?>) existingAnnotations.get("Parameter")).get("description") : null;
+
+        return ParameterInfo.builder()
+            .name(stringPool.intern(name))
+            .type(stringPool.intern(type))
+            .in(in)
+            .required(pathVariable || requestBody)
+            .validationAnnotations(stringPool.intern(annotationBuffer.toArray(StringPool.EMPTY_ARRAY)))
+            .description(description instanceof String ? (String) description : null)
+            .existingAnnotations(existingAnnotations)
+            .build();
+    }
+
+    /**
+     * 메서드가 던질 수 있는 예외 목록 추출
+     */
+    private List<String> extractExceptions(MethodDeclaration n) {
+        NodeList<ReferenceType> thrown = n.getThrownExceptions();
+        if (thrown.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> exceptions = new ArrayList<>(thrown.size());
+        for (int i = 0; i < thrown.size(); i++) {
+            exceptions.add(stringPool.intern(thrown.get(i).asString()));
+        }
+        return exceptions;
+    }
+
+    /**
+     * 반환 타입과 그 제네릭 인자에서 DTO 클래스 감지
+     * 예: UserDto, ResponseEntity<UserDto>, Optional<List<UserDto>> 등
+     */
+    private void detectDtos(String typeName) {
+        detectDto(TypeParser.parseType(typeName, TypeParser.ParseMode.CLASS_NAME_ONLY).getBaseType());
+        detectGenericDtos(typeName);
+    }
+
+    private void detectGenericDtos(String typeName) {
+        List<String> genericTypes = TypeParser.parseType(typeName, TypeParser.ParseMode.DTO_EXTRACTION).getGenericTypes();
+        for (int i = 0; i < genericTypes.size(); i++) {
+            String genericType = genericTypes.get(i);
+            detectDto(TypeParser.parseType(genericType, TypeParser.ParseMode.CLASS_NAME_ONLY).getBaseType());
+            // 중첩된 제네릭 타입도 재귀적으로 처리
+            detectGenericDtos(genericType);
+        }
+    }
+
+    private void detectDto(String className) {
+        if (isDtoClassName(className)) {
+            addDtoIfNotExists(className);
+        }
+    }
+
+    /**
+     * 클래스명이 DTO 패턴인지 확인
+     */
+    private boolean isDtoClassName(String className) {
+        return className.endsWith("Dto") ||
+               className.endsWith("DTO") ||
+               className.endsWith("Req") ||
+               className.endsWith("Res") ||
+               className.endsWith("Request") ||
+               className.endsWith("Response");
+    }
+
+    /**
+     * DTO 클래스가 이미 존재하지 않으면 추정 정보로 추가
+     */
+    private void addDtoIfNotExists(String className) {
+        for (DtoInfo dto : dtoClasses) {
+            if (dto.getClassName().equals(className)) {
+                return;
+            }
+        }
+
+        // 심볼 인덱스에서 파일 경로 찾기
+        String filePath = symbolIndex.findFile(className);
+
+        // 파일을 찾지 못한 경우 추정 경로 사용
+        if (filePath == null || !Files.exists(Paths.get(filePath))) {
+            filePath = "src/main/java/com/example/dto/" + className + ".java";
+        }
+
+        addDto(DtoInfo.builder()
+            .className(className)
+            .fields(Collections.emptyList())
+            .existingAnnotations(Collections.emptyMap())
+            .filePath(filePath)
+            .build());
+    }
+
+    /**
+     * DTO 클래스에서 정보 추출
+     */
+    private DtoInfo extractDto(ClassOrInterfaceDeclaration n, String filePath) {
+        Map<String, Object> existingAnnotations = OpenApiAnnotations.extract(n.getAnnotations());
+        DtoInfo dto = DtoInfo.builder()
+            .className(n.getNameAsString())
+            .filePath(filePath)
+            .existingAnnotations(existingAnnotations)
+            .build();
+
+        NodeList<BodyDeclaration<?>> members = n.getMembers();
+        List<FieldInfo> fields = null;
+        for (int i = 0; i < members.size(); i++) {
+            BodyDeclaration<?> member = members.get(i);
+            if (!member.isFieldDeclaration()) continue;
+            FieldInfo field = extractField(member.asFieldDeclaration());
+            if (field != null) {
+                if (fields == null) fields = new ArrayList<>();
+                fields.add(field);
+            }
+        }
+        dto.setFields(fields != null ? fields : Collections.emptyList());
+        dto.setDocumented(OpenApiAnnotations.isDtoDocumented(existingAnnotations, dto.getFields()));
+        return dto;
+    }
+
+    private DtoInfo extractScannedDto(SourceScanner.ScannedType type, String filePath) {
+        Map<String, Object> existingAnnotations = OpenApiAnnotations.extractScanned(type.annotations);
+        DtoInfo dto = DtoInfo.builder()
+            .className(type.name)
+            .filePath(filePath)
+            .existingAnnotations(existingAnnotations)
+            .build();
+
+        List<FieldInfo> fields = null;
+        for (int i = 0; i < type.members.size(); i++) {
+            Object member = type.members.get(i);
+            if (!(member instanceof SourceScanner.ScannedField)) continue;
+            if (fields == null) fields = new ArrayList<>();
+            fields.add(extractScannedField((SourceScanner.ScannedField) member));
+        }
+        dto.setFields(fields != null ? fields : Collections.emptyList());
+        dto.setDocumented(OpenApiAnnotations.isDtoDocumented(existingAnnotations, dto.getFields()));
+        return dto;
+    }
+
+    /**
+     * DTO 필드에서 정보 추출
+     * - 어노테이션 한 번 순회로 검증 어노테이션, 필수 여부, 설명(@Schema/@ApiModelProperty)을 수집
+     */
+    private FieldInfo extractField(FieldDeclaration field) {
+        if (field.getVariables().isEmpty()) {
+            return null;
+        }
+
+        VariableDeclarator variable = field.getVariables().get(0);
+        boolean required = false;
+        AnnotationExpr schema = null;
+        AnnotationExpr apiModelProperty = null;
+        annotationBuffer.clear();
+
+        NodeList<AnnotationExpr> annotations = field.getAnnotations();
+        for (int i = 0; i < annotations.size(); i++) {
+            AnnotationExpr annotation = annotations.get(i);
+            String name = annotation.getNameAsString();
+            required |= collectFieldAnnotation(name);
+            if (schema == null && name.equals("Schema")) {
+                schema = annotation;
+            } else if (apiModelProperty == null && name.equals("ApiModelProperty")) {
+                apiModelProperty = annotation;
+            }
+        }
+
+        return fieldInfo(variable.getNameAsString(), field.getElementType().toString(), required,
+            extractFieldDescription(field, schema, apiModelProperty), OpenApiAnnotations.extract(annotations));
+    }
+
+    private FieldInfo extractScannedField(SourceScanner.ScannedField field) {
+        boolean required = false;
+        SourceScanner.ScannedAnnotation schema = null;
+        SourceScanner.ScannedAnnotation apiModelProperty = null;
+        annotationBuffer.clear();
+
+        for (int i = 0; i < field.annotations.size(); i++) {
+            SourceScanner.ScannedAnnotation annotation = field.annotations.get(i);
+            required |= collectFieldAnnotation(annotation.name);
+            if (schema == null && annotation.name.equals("Schema")) {
+                schema = annotation;
+            } else if (apiModelProperty == null && annotation.name.equals("ApiModelProperty")) {
+                apiModelProperty = annotation;
+            }
+        }
+
+        // @Schema description > @ApiModelProperty value > Javadoc 순서
+        String description = schema != null ? schema.attribute("description") : "";
+        if (description.isEmpty() && apiModelProperty != null) {
+            description = apiModelProperty.attribute("value");
+        }
+        if (description.isEmpty()) {
+            description = field.javadocDescription();
+        }
+        return fieldInfo(field.name, field.elementType(), required, description,
+            OpenApiAnnotations.extractScanned(field.annotations));
+    }
+
+    /**
+     * 필드 어노테이션 이름 중 검증 어노테이션은 annotationBuffer에 기록하고, 필수 여부를 나타내면 true
+     */
+    private boolean collectFieldAnnotation(String name) {
+        if (isValidationAnnotation(name)) {
+            annotationBuffer.add(name);
+        }
+        return name.equals("NotNull") || name.equals("NotBlank") ||
+               name.equals("NotEmpty") || name.equals("Required");
+    }
+
+    /**
+     * 필드 정보 생성 (annotationBuffer에 모은 검증 어노테이션 사용)
+     *
+     * @param elementType 배열 차원을 뺀 선언 타입의 소스 표현
+     */
+    private FieldInfo fieldInfo(String name, String elementType, boolean required, String description,
+                                Map<String, Object> existingAnnotations) {
+        String fieldType = TypeParser.parseType(elementType, TypeParser.ParseMode.FIELD_NORMALIZATION).getBaseType();
+        return FieldInfo.builder()
+            .name(stringPool.intern(name))
+            .type(stringPool.intern(fieldType))
+            .validationAnnotations(stringPool.intern(annotationBuffer.toArray(StringPool.EMPTY_ARRAY)))
+            .description(stringPool.intern(description))
+            .required(required)
+            .existingAnnotations(existingAnnotations)
+            .build();
+    }
+
+    /**
+     * 검증 어노테이션인지 확인
+     */
+    private boolean isValidationAnnotation(String annotationName) {
+        switch (annotationName) {
+            case "Valid":
+            case "NotNull":
+            case "NotBlank":
+            case "NotEmpty":
+            case "Size":
+            case "Min":
+            case "Max":
+            case "Email":
+            case "Pattern":
+            case "DecimalMin":
+            case "DecimalMax":
+            case "Digits":
+            case "Future":
+            case "Past":
+            case "AssertTrue":
+            case "AssertFalse":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 필드 설명 추출
+     * - @Schema description > @ApiModelProperty value > Javadoc 순서
+     */
+    private String extractFieldDescription(FieldDeclaration field, AnnotationExpr schema, AnnotationExpr apiModelProperty) {
+        if (schema != null) {
+            String description = extractAttributeValue(schema, "description");
+            if (!description.isEmpty()) {
+                return description;
+            }
+        }
+        if (apiModelProperty != null) {
+            String description = extractAttributeValue(apiModelProperty, "value");
+            if (!description.isEmpty()) {
+                return description;
+            }
+        }
+        if (field.getJavadocComment().isEmpty()) {
+            return "";
+        }
+        return field.getJavadoc()
+            .map(javadoc -> javadoc.getDescription().toText().trim())
+            .orElse("");
+    }
+
+    /**
+     * 어노테이션에서 특정 속성값 추출
+     */
+    private String extractAttributeValue(AnnotationExpr annotation, String attributeName) {
+        if (annotation.isNormalAnnotationExpr()) {
+            NodeList<MemberValuePair> pairs = annotation.asNormalAnnotationExpr().getPairs();
+            for (int i = 0; i < pairs.size(); i++) {
+                if (pairs.get(i).getNameAsString().equals(attributeName)) {
+                    return pairs.get(i).getValue().toString().replace("\"", "");
+                }
+            }
+        }
+        return "";
+    }
+}
@@ -0,0 +1,200 @@
+package io.swaggeragent.extractor;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * 소스 파일을 읽어 파서가 바로 읽을 수 있는 문자 버퍼로 디코딩
+ *
+ * 파일마다 스트림/리더/버퍼를 새로 만들지 않도록
+ * - 작은 파일은 재사용하는 바이트 버퍼에 위치 지정 읽기(FileChannel.read(buffer, position)) 한 번으로 읽고,
+ *   MAP_THRESHOLD보다 큰 파일은 메모리 맵으로 읽음
+ * - 재사용하는 CharsetDecoder로 재사용하는 문자 버퍼에 바로 디코딩하고, 복사 없이 Reader로 감싸 파서에 전달
+ * - 지정 인코딩(기본 UTF-8)으로 디코딩할 수 없는 파일은 BOM(UTF-16)과 대체 인코딩(MS949, ISO-8859-1) 순서로 감지
+ * - 반환한 버퍼/Reader는 다음 load() 호출 전까지만 유효 (파서는 파싱 중에 내용을 복사하므로 파싱 후에는 안전)
+ * - 추출기 하나에 속하며 스레드 간에 공유하면 안 됨
+ */
+class SourceLoader {
+    // 이보다 큰 파일은 메모리 맵으로 읽음
+    static final int MAP_THRESHOLD = 256 * 1024;
+
+    private static final int INITIAL_CAPACITY = 16 * 1024;
+
+    private final Charset charset;
+
+    // 지정 인코딩으로 디코딩할 수 없을 때 시도할 인코딩 (ISO-8859-1은 항상 성공)
+    private final List<Charset> fallbackCharsets = new ArrayList<>();
+
+    private final Map<Charset, CharsetDecoder> decoders = new HashMap<>();
+
+    private ByteBuffer bytes = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+    private CharBuffer chars = CharBuffer.allocate(INITIAL_CAPACITY);
+
+    private Charset detectedCharset;
+
+    private boolean detectedBom;
+
+    private long lastSize;
+
+    SourceLoader(Charset charset) {
+        this.charset = charset;
+        if (Charset.isSupported("x-windows-949") && !charset.name().equals("x-windows-949")) {
+            fallbackCharsets.add(Charset.forName("x-windows-949"));
+        }
+        if (!charset.equals(StandardCharsets.ISO_8859_1)) {
+            fallbackCharsets.add(StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    /**
+     * 파일을 읽어 디코딩한 내용을 Reader로 반환
+     */
+    Reader open(Path file) throws IOException {
+        return open(file, 0);
+    }
+
+    /**
+     * 최대 크기 이하인 파일을 읽어 디코딩한 내용을 Reader로 반환
+     *
+     * @param maxBytes 최대 크기 (0 이하이면 제한 없음)
+     * @return 최대 크기를 넘으면 읽지 않고 null (크기는 lastSize())
+     */
+    Reader open(Path file, long maxBytes) throws IOException {
+        CharBuffer content = load(file, maxBytes);
+        return content == null ? null
+            : new CharArrayReader(content.array(), content.arrayOffset() + content.position(), content.remaining());
+    }
+
+    /**
+     * 최대 크기 이하인 파일을 읽어 디코딩한 문자 버퍼 반환 (position~limit이 내용, 최대 크기를 넘으면 null)
+     */
+    CharBuffer load(Path file, long maxBytes) throws IOException {
+        ByteBuffer input;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            lastSize = size;
+            if (maxBytes > 0 && size > maxBytes) {
+                return null;
+            }
+            if (size > MAP_THRESHOLD) {
+                // 맵은 채널을 닫은 뒤에도 유효
+                input = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                if (bytes.capacity() < size) {
+                    bytes = ByteBuffer.allocate(Math.max((int) size, bytes.capacity() * 2));
+                }
+                bytes.clear().limit((int) size);
+                while (bytes.hasRemaining() && channel.read(bytes, bytes.position()) >= 0) {
+                    // 한 번에 다 읽지 못한 경우에만 반복
+                }
+                input = bytes.flip();
+            }
+        }
+        return decode(input);
+    }
+
+    /**
+     * 마지막으로 연 파일의 크기(바이트)
+     */
+    long lastSize() {
+        return lastSize;
+    }
+
+    /**
+     * 마지막으로 읽은 파일의 인코딩
+     */
+    Charset detectedCharset() {
+        return detectedCharset;
+    }
+
+    /**
+     * 마지막으로 읽은 파일이 BOM으로 시작했는지 여부 (BOM은 내용에 포함하지 않음)
+     */
+    boolean detectedBom() {
+        return detectedBom;
+    }
+
+    /**
+     * 마지막으로 읽은 파일이 지정 인코딩이 아닌지 여부
+     */
+    boolean detectedOtherCharset() {
+        return !charset.equals(detectedCharset);
+    }
+
+    private CharBuffer decode(ByteBuffer input) throws IOException {
+        int start = input.position();
+        Charset bomCharset = bomCharset(input);
+        detectedBom = bomCharset != null;
+        if (bomCharset != null) {
+            if (decode(bomCharset, input)) return chars;
+            detectedBom = false;
+            input.position(start);
+        }
+        if (decode(charset, input)) return chars;
+        for (Charset fallback : fallbackCharsets) {
+            input.position(start);
+            if (decode(fallback, input)) return chars;
+        }
+        throw new IOException(charset + " 등 지원하는 인코딩으로 디코딩할 수 없습니다");
+    }
+
+    /**
+     * BOM이 있으면 BOM을 건너뛰고 해당 인코딩 반환
+     */
+    private static Charset bomCharset(ByteBuffer input) {
+        int start = input.position();
+        if (input.remaining() >= 3 && (input.get(start) & 0xFF) == 0xEF
+            && (input.get(start + 1) & 0xFF) == 0xBB && (input.get(start + 2) & 0xFF) == 0xBF) {
+            input.position(start + 3);
+            return StandardCharsets.UTF_8;
+        }
+        if (input.remaining() >= 2) {
+            int first = input.get(start) & 0xFF;
+            int second = input.get(start + 1) & 0xFF;
+            if (first == 0xFE && second == 0xFF) {
+                input.position(start + 2);
+                return StandardCharsets.UTF_16BE;
+            }
+            if (first == 0xFF && second == 0xFE) {
+                input.position(start + 2);
+                return StandardCharsets.UTF_16LE;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 지정한 인코딩으로 재사용 문자 버퍼에 디코딩 (잘못된 바이트가 있으면 false)
+     */
+    private boolean decode(Charset candidate, ByteBuffer input) {
+        CharsetDecoder decoder = decoders.computeIfAbsent(candidate, c -> c.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT));
+        int required = (int) Math.ceil(input.remaining() * (double) decoder.maxCharsPerByte()) + 1;
+        if (chars.capacity() < required) {
+            chars = CharBuffer.allocate(Math.max(required, chars.capacity() * 2));
+        }
+        chars.clear();
+        decoder.reset();
+        CoderResult result = decoder.decode(input, chars, true);
+        if (result.isError() || decoder.flush(chars).isError()) {
+            return false;
+        }
+        chars.flip();
+        detectedCharset = candidate;
+        return true;
+    }
+}
@@ -0,0 +1,1307 @@
+package io.swaggeragent.extractor;
+
+import com.github.javaparser.ast.comments.JavadocComment;
+import io.swaggeragent.extractor.model.HttpMethod;
+
+import java.nio.CharBuffer;
+import java.util.*;
+
+/**
+ * JavaParser AST 없이 소스를 토큰 단위로 훑어 선언부만 읽는 경량 스캐너 (--engine=scanner)
+ *
+ * 추출에 필요한 것은 타입/멤버 선언부(어노테이션, 반환 타입, 파라미터, 필드)뿐이므로
+ * - 메서드/초기화 블록 본문은 토큰을 만들지 않고 중괄호 짝만 맞춰 건너뜀 (문자열/문자/주석 안의 중괄호는 무시)
+ * - 타입 문자열은 JavaParser와 같은 형태로 만듦 (반환/파라미터 타입은 asString(), 필드 타입은 toString())
+ * - 어노테이션 값은 리터럴/이름/클래스 리터럴/배열/중첩 어노테이션/+ 연결/단항 -/괄호만 해석
+ * - 필드 Javadoc은 JavaParser의 주석 배정 규칙(바로 앞 주석, 빈 줄 없음, 같은 줄 뒤 줄 주석 우선)을 따름
+ *
+ * 해석할 수 없거나 AST와 결과가 달라질 수 있는 구성(enum/record 안의 중첩 타입, 타입 인자의 어노테이션,
+ * 상수를 참조하는 매핑 경로, 이스케이프가 있는 OpenAPI 문자열 값, 유니코드 이스케이프 등)을 만나면
+ * Unsupported를 던지고, 호출 측은 그 파일을 JavaParser로 다시 처리
+ * - 추출기 하나에 속하며 스레드 간에 공유하면 안 됨
+ */
+class SourceScanner {
+    private static final int EOF = 0;
+    private static final int IDENT = 1;
+    private static final int NUMBER = 2;
+    private static final int STRING = 3;
+    private static final int CHAR = 4;
+    private static final int TEXT_BLOCK = 5;
+    private static final int PUNCT = 6;
+
+    private static final Set<String> MODIFIERS = Set.of(
+        "public", "protected", "private", "static", "final", "abstract", "native",
+        "synchronized", "transient", "volatile", "strictfp", "default"
+    );
+
+    private char[] buf;
+    private int pos;
+    private int end;
+    private int line;
+
+    // 현재 토큰
+    private int kind;
+    private int tokStart;
+    private int tokEnd;
+    private int tokLine;
+
+    // 현재 토큰 앞의 주석 (마지막 주석의 내용 범위/끝 줄, 첫 줄 주석의 줄)
+    private int commentCount;
+    private int javadocCount;
+    private boolean lastCommentJavadoc;
+    private int lastCommentStart;
+    private int lastCommentEnd;
+    private int lastCommentEndLine;
+    private int firstLineCommentLine;
+    // 지금까지 지나온 주석 수 (선언 안에 주석이 있었는지 확인용)
+    private int commentsSeen;
+    // 마지막 annotationAfterAt()의 닫는 괄호가 있는 줄
+    private int annotationEndLine;
+
+    // 마지막 parseType() 결과 (배열 차원 제외)
+    private final StringBuilder typeName = new StringBuilder();
+    private final StringBuilder typePrinted = new StringBuilder();
+    private int typeDims;
+    private boolean typeVarArgs;
+    // 마지막 parseType()의 바깥 타입 단순명 (java.util.List<X> -> List)
+    private String typeSimpleName;
+
+    // 마지막 parseModifiers()가 '@interface'에서 멈췄는지 여부
+    private boolean annotationType;
+
+    private FileDeadline deadline = FileDeadline.NONE;
+    private List<ScannedType> types;
+
+    // 마지막 scan()이 읽은 파일의 패키지와 import
+    private String packageName;
+    private List<String> imports;
+
+    /**
+     * 소스 내용을 훑어 클래스/인터페이스 선언을 전위 순서(바깥 타입 다음에 중첩 타입)로 반환
+     *
+     * @param content 소스 내용 (position~limit)
+     * @throws Unsupported 스캐너로 처리할 수 없는 구성을 만난 경우
+     */
+    List<ScannedType> scan(CharBuffer content, FileDeadline deadline) {
+        this.buf = content.array();
+        this.pos = content.arrayOffset() + content.position();
+        this.end = content.arrayOffset() + content.limit();
+        this.line = 1;
+        this.deadline = deadline;
+        this.types = new ArrayList<>();
+        this.packageName = "";
+        this.imports = new ArrayList<>();
+        try {
+            next();
+            while (kind != EOF) {
+                if (isPunct(';')) {
+                    next();
+                } else if (isIdent("package")) {
+                    next();
+                    packageName = qualifiedName();
+                    skipStatement();
+                } else if (isIdent("import")) {
+                    next();
+                    if (!isIdent("static")) {
+                        imports.add(qualifiedName());
+                    }
+                    skipStatement();
+                } else {
+                    List<ScannedAnnotation> annotations = parseModifiers();
+                    typeDeclaration(annotations);
+                }
+            }
+            return types;
+        } finally {
+            buf = null;
+        }
+    }
+
+    /**
+     * 마지막 scan()이 읽은 파일의 패키지와 static이 아닌 import
+     */
+    TypeHierarchy.FileImports imports() {
+        return new TypeHierarchy.FileImports(packageName, imports);
+    }
+
+    // ---- 선언 ----
+
+    /**
+     * 타입 선언 (현재 토큰이 class/interface/enum/record 또는 '@' 다음의 interface)
+     */
+    private void typeDeclaration(List<ScannedAnnotation> annotations) {
+        if (!annotationType && (isIdent("class") || isIdent("interface"))) {
+            boolean isInterface = isIdent("interface");
+            next();
+            String name = identifier();
+            ScannedType type = new ScannedType(name, annotations);
+            types.add(type);
+            if (isPunct('<')) {
+                skipTypeParameters();
+            }
+            // 상위 타입은 ClassOrInterfaceType.getNameAsString()과 같이 단순명만 기록 (인터페이스의 extends는 인터페이스 목록)
+            while (!isPunct('{')) {
+                boolean implemented = isIdent("implements");
+                if (!implemented && !isIdent("extends")) {
+                    throw new Unsupported("타입 선언부");
+                }
+                next();
+                while (true) {
+                    if (isPunct('@')) throw new Unsupported("상위 타입의 어노테이션");
+                    parseType();
+                    if (isInterface || implemented) {
+                        type.interfaces.add(typeSimpleName);
+                    } else {
+                        type.superclass = typeSimpleName;
+                    }
+                    if (!isPunct(',')) break;
+                    next();
+                }
+            }
+            classBody(type);
+        } else if (annotationType || isIdent("enum")) {
+            // enum, @interface: 멤버를 추출하지 않으므로 본문을 건너뛰되 중첩 타입이 있으면 AST로 처리
+            while (!isPunct('{')) {
+                if (kind == EOF) throw new Unsupported("타입 선언부");
+                next();
+            }
+            skipOpaqueBody();
+        } else {
+            throw new Unsupported("지원하지 않는 타입 선언: " + tokenText());
+        }
+    }
+
+    /**
+     * 클래스/인터페이스 본문의 메서드와 필드 선언 수집 (현재 토큰은 '{')
+     */
+    private void classBody(ScannedType type) {
+        next();
+        while (!isPunct('}')) {
+            if (kind == EOF) throw new Unsupported("닫히지 않은 클래스 본문");
+            deadline.check();
+            if (isPunct(';')) {
+                next();
+                continue;
+            }
+
+            int startLine = tokLine;
+            int commentsBefore = commentsSeen;
+            String javadoc = lastCommentJavadoc && commentCount == 1 && startLine <= lastCommentEndLine + 1
+                ? new String(buf, lastCommentStart, lastCommentEnd - lastCommentStart) : null;
+            boolean javadocAmbiguous = commentCount > 1 && javadocCount > 0;
+
+            List<ScannedAnnotation> annotations = parseModifiers();
+            if (annotationType || isIdent("class") || isIdent("interface") || isIdent("enum")) {
+                typeDeclaration(annotations);
+                continue;
+            }
+            if (isIdent("record")) {
+                throw new Unsupported("record");
+            }
+            if (isPunct('{')) {
+                // 초기화 블록
+                skipBlock();
+                continue;
+            }
+            if (isPunct('<')) {
+                skipTypeParameters();
+            }
+
+            parseType();
+            if (isPunct('(')) {
+                // 생성자 (파싱한 타입이 이름)
+                skipParenthesized();
+                while (!isPunct('{')) {
+                    if (kind == EOF) throw new Unsupported("생성자 선언");
+                    next();
+                }
+                skipBlock();
+                continue;
+            }
+            if (typeVarArgs) throw new Unsupported("멤버 선언");
+
+            String returnType = typeName.toString() + "[]".repeat(typeDims);
+            String elementType = typePrinted.toString();
+            String name = identifier();
+            if (isPunct('(')) {
+                type.members.add(method(name, returnType, annotations, startLine));
+            } else {
+                type.members.add(field(name, elementType, annotations, startLine, commentsBefore, javadoc, javadocAmbiguous));
+            }
+        }
+        next();
+    }
+
+    private ScannedMethod method(String name, String returnType, List<ScannedAnnotation> annotations, int startLine) {
+        List<ScannedParameter> parameters = new ArrayList<>();
+        next();
+        if (isPunct(')')) {
+            next();
+        } else {
+            while (true) {
+                List<ScannedAnnotation> parameterAnnotations = parseModifiers();
+                parseType();
+                String type = typeName.toString() + "[]".repeat(typeDims);
+                if (isIdent("this")) throw new Unsupported("수신자 파라미터");
+                String parameterName = identifier();
+                while (isPunct('[')) {
+                    next();
+                    expectPunct(']');
+                    type += "[]";
+                }
+                parameters.add(new ScannedParameter(parameterName, type, parameterAnnotations));
+                if (isPunct(',')) {
+                    next();
+                } else {
+                    expectPunct(')');
+                    break;
+                }
+            }
+        }
+        if (isPunct('[')) throw new Unsupported("반환 타입 뒤의 배열 차원");
+
+        List<String> thrown = new ArrayList<>();
+        if (isIdent("throws")) {
+            next();
+            while (true) {
+                parseType();
+                thrown.add(typeName.toString() + "[]".repeat(typeDims));
+                if (!isPunct(',')) break;
+                next();
+            }
+        }
+        if (isPunct('{')) {
+            skipBlock();
+        } else if (isPunct(';')) {
+            next();
+        } else {
+            throw new Unsupported("메서드 선언");
+        }
+        return new ScannedMethod(name, startLine, returnType, annotations, parameters, thrown);
+    }
+
+    /**
+     * 필드 선언 (현재 토큰은 첫 변수 이름 다음)
+     * - 한 줄짜리 필드 뒤 같은 줄의 줄 주석은 JavaParser가 필드에 먼저 배정하므로 앞의 Javadoc은 배정되지 않음
+     * - 선언 안의 주석은 타입 노드에 배정되어 toString()에 포함될 수 있으므로 타입을 확정하지 않음
+     */
+    private ScannedField field(String name, String elementType, List<ScannedAnnotation> annotations, int startLine,
+                               int commentsBefore, String javadoc, boolean javadocAmbiguous) {
+        while (!isPunct(';')) {
+            if (isPunct('[')) {
+                next();
+                expectPunct(']');
+            } else if (isPunct('=')) {
+                skipInitializer();
+            } else if (isPunct(',')) {
+                next();
+                identifier();
+            } else {
+                throw new Unsupported("필드 선언");
+            }
+        }
+        int endLine = tokLine;
+        boolean commented = commentsSeen != commentsBefore;
+        next();
+        if (javadoc != null && startLine == endLine) {
+            if (firstLineCommentLine == endLine) {
+                javadoc = null;
+            } else if (tokLine == endLine) {
+                // 같은 줄에 다른 멤버가 이어지면 줄 주석 배정이 여러 멤버에 걸침
+                javadocAmbiguous = true;
+            }
+        }
+        return new ScannedField(name, commented ? null : elementType, annotations, javadoc, javadocAmbiguous);
+    }
+
+    /**
+     * 어노테이션과 수정자 (어노테이션만 반환, '@interface'면 interface 토큰에서 멈춤)
+     */
+    private List<ScannedAnnotation> parseModifiers() {
+        List<ScannedAnnotation> annotations = null;
+        annotationType = false;
+        boolean first = true;
+        while (true) {
+            if (isPunct('@')) {
+                int startLine = tokLine;
+                boolean commented = !first && commentCount > 0;
+                next();
+                if (isIdent("interface")) {
+                    annotationType = true;
+                    break;
+                }
+                if (annotations == null) annotations = new ArrayList<>(2);
+                ScannedAnnotation annotation = annotationAfterAt();
+                // 뒤따르는 같은 줄 줄 주석은 어노테이션이 여러 줄이거나 이미 주석이 있으면 속성값 노드에 배정됨
+                if (annotation.parenthesized && firstLineCommentLine == annotationEndLine
+                    && (startLine != annotationEndLine || commented)) {
+                    throw new Unsupported("어노테이션 뒤의 줄 주석");
+                }
+                annotations.add(annotation);
+                first = false;
+            } else if (kind == IDENT && MODIFIERS.contains(tokenText())) {
+                next();
+                first = false;
+            } else if (isIdent("sealed") || isIdent("non")) {
+                throw new Unsupported("sealed");
+            } else {
+                break;
+            }
+        }
+        return annotations != null ? annotations : Collections.emptyList();
+    }
+
+    /**
+     * 타입 (현재 토큰부터): typeName(asString), typePrinted(toString), typeDims, typeVarArgs에 기록
+     */
+    private void parseType() {
+        typeName.setLength(0);
+        typePrinted.setLength(0);
+        typeDims = 0;
+        typeVarArgs = false;
+        type(true);
+    }
+
+    private void type(boolean outer) {
+        if (isPunct('?')) {
+            typeName.append('?');
+            typePrinted.append('?');
+            next();
+            if (isIdent("extends") || isIdent("super")) {
+                String bound = " " + tokenText() + " ";
+                typeName.append(bound);
+                typePrinted.append(bound);
+                next();
+                type(false);
+            }
+            return;
+        }
+        String name = identifier();
+        typeName.append(name);
+        typePrinted.append(name);
+        while (true) {
+            if (isPunct('<')) {
+                typeArguments();
+            } else if (isPunct('.') && !isVarArgsDots()) {
+                next();
+                name = identifier();
+                typeName.append('.').append(name);
+                typePrinted.append('.').append(name);
+            } else {
+                break;
+            }
+        }
+        if (outer) {
+            typeSimpleName = name;
+        }
+        while (isPunct('[')) {
+            next();
+            expectPunct(']');
+            if (outer) {
+                typeDims++;
+            } else {
+                typeName.append("[]");
+                typePrinted.append("[]");
+            }
+        }
+        if (outer && isPunct('.') && isVarArgsDots()) {
+            next();
+            next();
+            next();
+            typeVarArgs = true;
+        }
+    }
+
+    private void typeArguments() {
+        typeName.append('<');
+        typePrinted.append('<');
+        next();
+        if (!isPunct('>')) {
+            while (true) {
+                if (isPunct('@')) throw new Unsupported("타입 인자의 어노테이션");
+                type(false);
+                if (!isPunct(',')) break;
+                typeName.append(',');
+                typePrinted.append(", ");
+                next();
+            }
+        }
+        expectPunct('>');
+        typeName.append('>');
+        typePrinted.append('>');
+    }
+
+    private boolean isVarArgsDots() {
+        return tokStart + 2 < end && buf[tokStart + 1] == '.' && buf[tokStart + 2] == '.';
+    }
+
+    // ---- 어노테이션 값 ----
+
+    /**
+     * '@' 다음의 어노테이션 (현재 토큰은 이름)
+     */
+    private ScannedAnnotation annotationAfterAt() {
+        StringBuilder name = new StringBuilder(identifier());
+        while (isPunct('.')) {
+            next();
+            name.append('.').append(identifier());
+        }
+        if (!isPunct('(')) {
+            return new ScannedAnnotation(name.toString(), false, null, null, null);
+        }
+        nextInAnnotation();
+        if (isPunct(')')) {
+            annotationEndLine = tokLine;
+            next();
+            return new ScannedAnnotation(name.toString(), true, null, new ArrayList<>(), new ArrayList<>());
+        }
+        if (kind == IDENT && peekPunct() == '=') {
+            List<String> names = new ArrayList<>();
+            List<Value> values = new ArrayList<>();
+            while (true) {
+                names.add(identifier());
+                if (!isPunct('=') || commentCount > 0) throw new Unsupported("어노테이션 속성");
+                nextInAnnotation();
+                values.add(value());
+                if (!isPunct(',')) break;
+                nextInAnnotation();
+            }
+            annotationEndLine = tokLine;
+            expectPunct(')');
+            return new ScannedAnnotation(name.toString(), true, null, names, values);
+        }
+        Value single = value();
+        if (!isPunct(')')) throw new Unsupported("어노테이션 값");
+        annotationEndLine = tokLine;
+        next();
+        return new ScannedAnnotation(name.toString(), true, single, null, null);
+    }
+
+    /**
+     * 속성값 식: 단항 항을 + 로 연결한 식 (다른 연산자는 지원하지 않음)
+     */
+    private Value value() {
+        Value left = unary();
+        while (isPunct('+')) {
+            nextInAnnotation();
+            left = new Value(Value.PLUS, null, List.of(left, unary()), null);
+        }
+        return left;
+    }
+
+    private Value unary() {
+        if (isPunct('-')) {
+            nextInAnnotation();
+            return new Value(Value.MINUS, null, List.of(unary()), null);
+        }
+        return primary();
+    }
+
+    private Value primary() {
+        Value value;
+        switch (kind) {
+            case STRING:
+                value = new Value(Value.STRING, new String(buf, tokStart + 1, tokEnd - tokStart - 2), null, null);
+                nextInAnnotation();
+                return value;
+            case CHAR:
+                value = new Value(Value.CHAR, new String(buf, tokStart + 1, tokEnd - tokStart - 2), null, null);
+                nextInAnnotation();
+                return value;
+            case NUMBER:
+                value = number(tokenText());
+                nextInAnnotation();
+                return value;
+            case IDENT:
+                return nameOrClassLiteral();
+            case PUNCT:
+                break;
+            default:
+                throw new Unsupported("어노테이션 값");
+        }
+        if (isPunct('(')) {
+            nextInAnnotation();
+            Value inner = value();
+            if (!isPunct(')')) throw new Unsupported("어노테이션 값");
+            nextInAnnotation();
+            return new Value(Value.ENCLOSED, null, List.of(inner), null);
+        }
+        if (isPunct('{')) {
+            List<Value> items = new ArrayList<>();
+            nextInAnnotation();
+            while (!isPunct('}')) {
+                items.add(value());
+                if (isPunct(',')) {
+                    nextInAnnotation();
+                } else if (!isPunct('}')) {
+                    throw new Unsupported("어노테이션 배열 값");
+                }
+            }
+            nextInAnnotation();
+            return new Value(Value.ARRAY, null, items, null);
+        }
+        if (isPunct('@')) {
+            nextInAnnotation();
+            ScannedAnnotation annotation = annotationAfterAt();
+            if (commentCount > 0) throw new Unsupported("어노테이션 값 안의 주석");
+            return new Value(Value.ANNOTATION, null, null, annotation);
+        }
+        throw new Unsupported("어노테이션 값: " + tokenText());
+    }
+
+    private Value nameOrClassLiteral() {
+        String text = tokenText();
+        if (text.equals("true") || text.equals("false")) {
+            nextInAnnotation();
+            return new Value(Value.BOOLEAN, text, null, null);
+        }
+        if (text.equals("null")) {
+            nextInAnnotation();
+            return new Value(Value.NULL, text, null, null);
+        }
+        StringBuilder name = new StringBuilder(text);
+        nextInAnnotation();
+        while (isPunct('.')) {
+            nextInAnnotation();
+            if (isIdent("class")) {
+                nextInAnnotation();
+                return new Value(Value.CLASS, name.toString(), null, null);
+            }
+            name.append('.').append(identifier());
+            if (commentCount > 0) throw new Unsupported("어노테이션 값 안의 주석");
+        }
+        if (isPunct('[')) {
+            while (isPunct('[')) {
+                nextInAnnotation();
+                if (!isPunct(']')) throw new Unsupported("어노테이션 값");
+                nextInAnnotation();
+                name.append("[]");
+            }
+            if (!isPunct('.')) throw new Unsupported("어노테이션 값");
+            nextInAnnotation();
+            if (!isIdent("class")) throw new Unsupported("어노테이션 값");
+            nextInAnnotation();
+            return new Value(Value.CLASS, name.toString(), null, null);
+        }
+        if (isPunct('(')) throw new Unsupported("어노테이션 값의 메서드 호출");
+        return new Value(Value.NAME, name.toString(), null, null);
+    }
+
+    private static Value number(String text) {
+        char last = text.charAt(text.length() - 1);
+        boolean hex = text.startsWith("0x") || text.startsWith("0X");
+        if (last == 'l' || last == 'L') {
+            return new Value(Value.LONG, text, null, null);
+        }
+        if (text.indexOf('.') >= 0 || (hex ? text.indexOf('p') >= 0 || text.indexOf('P') >= 0
+            : text.indexOf('e') >= 0 || text.indexOf('E') >= 0 || last == 'f' || last == 'F' || last == 'd' || last == 'D')) {
+            return new Value(Value.DOUBLE, text, null, null);
+        }
+        return new Value(Value.INTEGER, text, null, null);
+    }
+
+    /**
+     * 어노테이션 인자 안에서 다음 토큰으로 이동 (주석은 AST 출력에 포함되므로 지원하지 않음)
+     */
+    private void nextInAnnotation() {
+        next();
+        if (commentCount > 0) throw new Unsupported("어노테이션 값 안의 주석");
+    }
+
+    // ---- 건너뛰기 ----
+
+    /**
+     * 중괄호 블록을 토큰을 만들지 않고 건너뜀 (현재 토큰은 '{')
+     */
+    private void skipBlock() {
+        int depth = 1;
+        while (depth > 0) {
+            if (pos >= end) throw new Unsupported("닫히지 않은 블록");
+            char c = buf[pos];
+            switch (c) {
+                case '{':
+                    depth++;
+                    pos++;
+                    break;
+                case '}':
+                    depth--;
+                    pos++;
+                    break;
+                case '"':
+                    if (pos + 2 < end && buf[pos + 1] == '"' && buf[pos + 2] == '"') {
+                        skipTextBlock();
+                    } else {
+                        skipQuoted('"');
+                    }
+                    break;
+                case '\'':
+                    skipQuoted('\'');
+                    break;
+                case '/':
+                    if (pos + 1 < end && buf[pos + 1] == '/') {
+                        skipLineComment();
+                    } else if (pos + 1 < end && buf[pos + 1] == '*') {
+                        skipBlockComment();
+                    } else {
+                        pos++;
+                    }
+                    break;
+                case '\n':
+                    line++;
+                    pos++;
+                    break;
+                case '\r':
+                    if (pos + 1 >= end || buf[pos + 1] != '\n') line++;
+                    pos++;
+                    break;
+                case '\\':
+                    throw new Unsupported("유니코드 이스케이프");
+                default:
+                    pos++;
+            }
+        }
+        next();
+    }
+
+    /**
+     * enum/@interface 본문을 토큰 단위로 건너뜀 (중첩 타입 선언이 있으면 지원하지 않음)
+     */
+    private void skipOpaqueBody() {
+        int depth = 0;
+        boolean afterDot = false;
+        do {
+            if (kind == EOF) throw new Unsupported("닫히지 않은 본문");
+            if (isPunct('{')) {
+                depth++;
+            } else if (isPunct('}')) {
+                depth--;
+            } else if (!afterDot && (isIdent("class") || isIdent("interface") || isIdent("enum") || isIdent("record"))) {
+                throw new Unsupported("enum/어노테이션 타입 안의 중첩 타입");
+            }
+            afterDot = isPunct('.');
+            next();
+        } while (depth > 0);
+    }
+
+    /**
+     * 필드 초기값을 다음 ',' 또는 ';' 직전까지 건너뜀 (괄호/중괄호 안의 구분자는 무시)
+     */
+    private void skipInitializer() {
+        next();
+        int depth = 0;
+        while (depth > 0 || !(isPunct(',') || isPunct(';'))) {
+            if (kind == EOF) throw new Unsupported("필드 초기값");
+            if (isPunct('{')) {
+                skipBlock();
+                continue;
+            }
+            if (isPunct('(') || isPunct('[')) {
+                depth++;
+            } else if (isPunct(')') || isPunct(']')) {
+                depth--;
+            }
+            next();
+        }
+    }
+
+    private void skipParenthesized() {
+        int depth = 0;
+        do {
+            if (kind == EOF) throw new Unsupported("닫히지 않은 괄호");
+            if (isPunct('(')) {
+                depth++;
+            } else if (isPunct(')')) {
+                depth--;
+            }
+            next();
+        } while (depth > 0);
+    }
+
+    private void skipTypeParameters() {
+        int depth = 0;
+        do {
+            if (kind == EOF) throw new Unsupported("타입 파라미터");
+            if (isPunct('<')) {
+                depth++;
+            } else if (isPunct('>')) {
+                depth--;
+            }
+            next();
+        } while (depth > 0);
+    }
+
+    /**
+     * 점으로 이어진 이름 (a.b.C, 와일드카드 import는 a.b.*)
+     */
+    private String qualifiedName() {
+        StringBuilder name = new StringBuilder(identifier());
+        while (isPunct('.')) {
+            next();
+            if (isPunct('*')) {
+                next();
+                return name.append(".*").toString();
+            }
+            name.append('.').append(identifier());
+        }
+        return name.toString();
+    }
+
+    private void skipStatement() {
+        while (!isPunct(';')) {
+            if (kind == EOF) throw new Unsupported("문장");
+            next();
+        }
+        next();
+    }
+
+    // ---- 토큰 ----
+
+    private void next() {
+        commentCount = 0;
+        javadocCount = 0;
+        lastCommentJavadoc = false;
+        firstLineCommentLine = -1;
+        while (pos < end) {
+            char c = buf[pos];
+            if (c == '\n') {
+                line++;
+                pos++;
+            } else if (c == '\r') {
+                if (pos + 1 >= end || buf[pos + 1] != '\n') line++;
+                pos++;
+            } else if (c == ' ' || c == '\t' || c == '\f') {
+                pos++;
+            } else if (c == '/' && pos + 1 < end && buf[pos + 1] == '/') {
+                if (firstLineCommentLine < 0) firstLineCommentLine = line;
+                commentCount++;
+                commentsSeen++;
+                lastCommentJavadoc = false;
+                skipLineComment();
+            } else if (c == '/' && pos + 1 < end && buf[pos + 1] == '*') {
+                int start = pos;
+                skipBlockComment();
+                commentCount++;
+                commentsSeen++;
+                // "/**/"는 빈 블록 주석
+                lastCommentJavadoc = pos - start > 4 && buf[start + 2] == '*';
+                if (lastCommentJavadoc) {
+                    javadocCount++;
+                    lastCommentStart = start + 3;
+                    lastCommentEnd = pos - 2;
+                    lastCommentEndLine = line;
+                }
+            } else {
+                break;
+            }
+        }
+
+        tokStart = pos;
+        tokLine = line;
+        if (pos >= end) {
+            kind = EOF;
+            tokEnd = pos;
+            return;
+        }
+        char c = buf[pos];
+        if (Character.isJavaIdentifierStart(c)) {
+            pos++;
+            while (pos < end && Character.isJavaIdentifierPart(buf[pos])) pos++;
+            kind = IDENT;
+        } else if (isDigit(c) || (c == '.' && pos + 1 < end && isDigit(buf[pos + 1]))) {
+            skipNumber();
+            kind = NUMBER;
+        } else if (c == '"') {
+            if (pos + 2 < end && buf[pos + 1] == '"' && buf[pos + 2] == '"') {
+                skipTextBlock();
+                kind = TEXT_BLOCK;
+            } else {
+                skipQuoted('"');
+                kind = STRING;
+            }
+        } else if (c == '\'') {
+            skipQuoted('\'');
+            kind = CHAR;
+        } else if (c == '\\') {
+            throw new Unsupported("유니코드 이스케이프");
+        } else {
+            pos++;
+            kind = PUNCT;
+        }
+        tokEnd = pos;
+    }
+
+    private void skipNumber() {
+        boolean hex = pos + 1 < end && buf[pos] == '0' && (buf[pos + 1] == 'x' || buf[pos + 1] == 'X');
+        pos++;
+        while (pos < end) {
+            char c = buf[pos];
+            char previous = buf[pos - 1];
+            if (Character.isLetterOrDigit(c) || c == '_' || c == '.') {
+                pos++;
+            } else if ((c == '+' || c == '-') && (hex ? previous == 'p' || previous == 'P' : previous == 'e' || previous == 'E')) {
+                pos++;
+            } else {
+                break;
+            }
+        }
+    }
+
+    private void skipQuoted(char quote) {
+        pos++;
+        while (true) {
+            if (pos >= end || buf[pos] == '\n' || buf[pos] == '\r') throw new Unsupported("닫히지 않은 리터럴");
+            char c = buf[pos++];
+            if (c == '\\') {
+                pos++;
+            } else if (c == quote) {
+                return;
+            }
+        }
+    }
+
+    private void skipTextBlock() {
+        pos += 3;
+        while (true) {
+            if (pos >= end) throw new Unsupported("닫히지 않은 텍스트 블록");
+            char c = buf[pos];
+            if (c == '\\') {
+                // 이스케이프된 문자 건너뛰기 (줄 끝의 \는 줄 바꿈을 이어 붙이지만 소스 줄 수는 그대로 셈)
+                pos++;
+                if (pos < end && (buf[pos] == '\n' || buf[pos] == '\r')) {
+                    line++;
+                    if (buf[pos] == '\r' && pos + 1 < end && buf[pos + 1] == '\n') pos++;
+                }
+                pos++;
+            } else if (c == '"' && pos + 2 < end && buf[pos + 1] == '"' && buf[pos + 2] == '"') {
+                pos += 3;
+                return;
+            } else {
+                if (c == '\n' || (c == '\r' && (pos + 1 >= end || buf[pos + 1] != '\n'))) line++;
+                pos++;
+            }
+        }
+    }
+
+    private void skipLineComment() {
+        while (pos < end && buf[pos] != '\n' && buf[pos] != '\r') pos++;
+    }
+
+    private void skipBlockComment() {
+        pos += 2;
+        while (true) {
+            if (pos + 1 >= end) throw new Unsupported("닫히지 않은 주석");
+            char c = buf[pos];
+            if (c == '*' && buf[pos + 1] == '/') {
+                pos += 2;
+                return;
+            }
+            if (c == '\n' || (c == '\r' && buf[pos + 1] != '\n')) line++;
+            pos++;
+        }
+    }
+
+    /**
+     * 다음 토큰이 구두점이면 그 문자 (공백만 건너뛰고 확인, 주석이 있으면 0)
+     */
+    private char peekPunct() {
+        int p = pos;
+        while (p < end && (buf[p] == ' ' || buf[p] == '\t' || buf[p] == '\f' || buf[p] == '\n' || buf[p] == '\r')) p++;
+        return p < end ? buf[p] : 0;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private boolean isPunct(char c) {
+        return kind == PUNCT && buf[tokStart] == c;
+    }
+
+    private boolean isIdent(String text) {
+        int length = tokEnd - tokStart;
+        if (kind != IDENT || length != text.length()) return false;
+        for (int i = 0; i < length; i++) {
+            if (buf[tokStart + i] != text.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private void expectPunct(char c) {
+        if (!isPunct(c)) throw new Unsupported("'" + c + "' 필요: " + tokenText());
+        next();
+    }
+
+    private String identifier() {
+        if (kind != IDENT) throw new Unsupported("이름 필요: " + tokenText());
+        String text = tokenText();
+        next();
+        return text;
+    }
+
+    private String tokenText() {
+        return kind == EOF ? "<EOF>" : new String(buf, tokStart, tokEnd - tokStart);
+    }
+
+    // ---- 결과 ----
+
+    /**
+     * 클래스/인터페이스 선언
+     */
+    static final class ScannedType {
+        final String name;
+        final List<ScannedAnnotation> annotations;
+        // 상위 클래스와 인터페이스의 단순명 (없으면 null/빈 목록)
+        String superclass;
+        final List<String> interfaces = new ArrayList<>(1);
+        // 메서드(ScannedMethod)와 필드(ScannedField)를 선언 순서대로
+        final List<Object> members = new ArrayList<>();
+
+        ScannedType(String name, List<ScannedAnnotation> annotations) {
+            this.name = name;
+            this.annotations = annotations;
+        }
+    }
+
+    static final class ScannedMethod {
+        final String name;
+        final int line;
+        final String returnType;
+        final List<ScannedAnnotation> annotations;
+        final List<ScannedParameter> parameters;
+        final List<String> thrown;
+
+        ScannedMethod(String name, int line, String returnType, List<ScannedAnnotation> annotations,
+                      List<ScannedParameter> parameters, List<String> thrown) {
+            this.name = name;
+            this.line = line;
+            this.returnType = returnType;
+            this.annotations = annotations;
+            this.parameters = parameters;
+            this.thrown = thrown;
+        }
+    }
+
+    static final class ScannedParameter {
+        final String name;
+        final String type;
+        final List<ScannedAnnotation> annotations;
+
+        ScannedParameter(String name, String type, List<ScannedAnnotation> annotations) {
+            this.name = name;
+            this.type = type;
+            this.annotations = annotations;
+        }
+    }
+
+    static final class ScannedField {
+        final String name;
+        // 배열 차원을 뺀 타입 (FieldDeclaration.getElementType().toString(), 선언 안에 주석이 있으면 null)
+        private final String elementType;
+        final List<ScannedAnnotation> annotations;
+        // 필드에 배정되는 Javadoc 내용 (없으면 null)
+        private final String javadoc;
+        // 주석이 여러 개 겹쳐 배정 결과를 확신할 수 없는 경우
+        private final boolean javadocAmbiguous;
+
+        ScannedField(String name, String elementType, List<ScannedAnnotation> annotations,
+                     String javadoc, boolean javadocAmbiguous) {
+            this.name = name;
+            this.elementType = elementType;
+            this.annotations = annotations;
+            this.javadoc = javadoc;
+            this.javadocAmbiguous = javadocAmbiguous;
+        }
+
+        String elementType() {
+            if (elementType == null) throw new Unsupported("필드 선언 안의 주석");
+            return elementType;
+        }
+
+        /**
+         * Javadoc 설명 (FieldDeclaration.getJavadoc()의 설명과 같음, 없으면 "")
+         */
+        String javadocDescription() {
+            if (javadocAmbiguous) throw new Unsupported("필드 앞의 여러 주석");
+            return javadoc == null ? "" : new JavadocComment(javadoc).parse().getDescription().toText().trim();
+        }
+    }
+
+    /**
+     * 어노테이션 (표식/단일 값/이름=값 형태)
+     */
+    static final class ScannedAnnotation {
+        final String name;
+        final boolean parenthesized;
+        private final Value single;
+        private final List<String> names;
+        private final List<Value> values;
+
+        ScannedAnnotation(String name, boolean parenthesized, Value single, List<String> names, List<Value> values) {
+            this.name = name;
+            this.parenthesized = parenthesized;
+            this.single = single;
+            this.names = names;
+            this.values = values;
+        }
+
+        /**
+         * 매핑 경로 목록 (SourceFileVisitor의 extractAnnotationValues와 같음, 상수 참조는 지원하지 않음)
+         */
+        List<String> mappingValues() {
+            if (single != null) {
+                return resolveAnnotationValues(single);
+            }
+            if (names != null) {
+                for (int i = 0; i < names.size(); i++) {
+                    if (names.get(i).equals("value") || names.get(i).equals("path")) {
+                        return resolveAnnotationValues(values.get(i));
+                    }
+                }
+            }
+            return Collections.singletonList("");
+        }
+
+        private static List<String> resolveAnnotationValues(Value value) {
+            if (value.kind != Value.ARRAY) {
+                return Collections.singletonList(resolveAnnotationValue(value));
+            }
+            if (value.items.isEmpty()) {
+                return Collections.singletonList("");
+            }
+            List<String> paths = new ArrayList<>(value.items.size());
+            for (Value item : value.items) {
+                paths.add(resolveAnnotationValue(item));
+            }
+            return paths;
+        }
+
+        private static String resolveAnnotationValue(Value value) {
+            if (value.kind == Value.STRING) {
+                return value.unescaped();
+            }
+            String resolved = value.resolve();
+            return resolved != null ? resolved : value.print();
+        }
+
+        /**
+         * RequestMapping의 method 속성에서 HTTP 메서드 목록 (SourceFileVisitor의 extractRequestMethods와 같음)
+         */
+        List<HttpMethod> requestMethods() {
+            if (names != null) {
+                for (int i = 0; i < names.size(); i++) {
+                    if (!names.get(i).equals("method")) continue;
+                    Value value = values.get(i);
+                    List<Value> items = value.kind == Value.ARRAY ? value.items : List.of(value);
+                    List<HttpMethod> httpMethods = new ArrayList<>(items.size());
+                    for (Value item : items) {
+                        HttpMethod httpMethod = HttpMethod.fromRequestMethod(item.print());
+                        if (httpMethod != null && !httpMethods.contains(httpMethod)) {
+                            httpMethods.add(httpMethod);
+                        }
+                    }
+                    if (!httpMethods.isEmpty()) {
+                        return httpMethods;
+                    }
+                }
+            }
+            return Collections.singletonList(HttpMethod.REQUEST);
+        }
+
+        /**
+         * 이름=값 형태의 속성값을 소스 표현에서 따옴표를 뺀 문자열로 (없으면 "")
+         */
+        String attribute(String attributeName) {
+            if (names != null) {
+                for (int i = 0; i < names.size(); i++) {
+                    if (names.get(i).equals(attributeName)) {
+                        return values.get(i).print().replace("\"", "");
+                    }
+                }
+            }
+            return "";
+        }
+
+        /**
+         * 속성 Map (OpenApiAnnotations.toAttributes와 같음)
+         */
+        Map<String, Object> attributes() {
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            if (single != null) {
+                attributes.put("value", single.json());
+            } else if (names != null) {
+                for (int i = 0; i < names.size(); i++) {
+                    attributes.put(names.get(i), values.get(i).json());
+                }
+            }
+            return attributes;
+        }
+
+        String print() {
+            if (!parenthesized) {
+                return "@" + name;
+            }
+            if (single != null) {
+                return "@" + name + "(" + single.print() + ")";
+            }
+            StringJoiner pairs = new StringJoiner(", ", "@" + name + "(", ")");
+            for (int i = 0; i < names.size(); i++) {
+                pairs.add(names.get(i) + " = " + values.get(i).print());
+            }
+            return pairs.toString();
+        }
+    }
+
+    /**
+     * 어노테이션 속성값 식
+     */
+    static final class Value {
+        static final int STRING = 0;
+        static final int CHAR = 1;
+        static final int INTEGER = 2;
+        static final int LONG = 3;
+        static final int DOUBLE = 4;
+        static final int BOOLEAN = 5;
+        static final int NULL = 6;
+        static final int NAME = 7;
+        static final int CLASS = 8;
+        static final int ARRAY = 9;
+        static final int ANNOTATION = 10;
+        static final int PLUS = 11;
+        static final int MINUS = 12;
+        static final int ENCLOSED = 13;
+
+        final int kind;
+        // 리터럴은 소스 그대로(따옴표 제외), 이름은 점으로 연결, 클래스 리터럴은 타입
+        final String text;
+        final List<Value> items;
+        final ScannedAnnotation annotation;
+
+        Value(int kind, String text, List<Value> items, ScannedAnnotation annotation) {
+            this.kind = kind;
+            this.text = text;
+            this.items = items;
+            this.annotation = annotation;
+        }
+
+        /**
+         * ConstantResolver.resolve와 같은 계산 (상수 이름이 필요하면 지원하지 않음)
+         */
+        String resolve() {
+            switch (kind) {
+                case STRING:
+                    return unescaped();
+                case CHAR:
+                case INTEGER:
+                case LONG:
+                    return text;
+                case ENCLOSED:
+                    return items.get(0).resolve();
+                case PLUS: {
+                    String left = items.get(0).resolve();
+                    String right = left != null ? items.get(1).resolve() : null;
+                    return right != null ? left + right : null;
+                }
+                case ARRAY:
+                    return items.isEmpty() ? null : items.get(0).resolve();
+                case NAME:
+                    throw new Unsupported("상수 참조 경로");
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * 문자열 리터럴의 실제 값 (이스케이프가 있으면 AST 엔진으로 처리)
+         */
+        String unescaped() {
+            if (text.indexOf('\\') >= 0) throw new Unsupported("이스케이프가 있는 문자열 경로");
+            return text;
+        }
+
+        /**
+         * JavaParser의 Expression.toString()과 같은 소스 표현
+         */
+        String print() {
+            switch (kind) {
+                case STRING:
+                    return "\"" + text + "\"";
+                case CHAR:
+                    return "'" + text + "'";
+                case CLASS:
+                    return text + ".class";
+                case ARRAY: {
+                    if (items.isEmpty()) return "{}";
+                    StringJoiner joiner = new StringJoiner(", ", "{ ", " }");
+                    for (Value item : items) joiner.add(item.print());
+                    return joiner.toString();
+                }
+                case ANNOTATION:
+                    return annotation.print();
+                case PLUS:
+                    return items.get(0).print() + " + " + items.get(1).print();
+                case MINUS:
+                    return "-" + items.get(0).print();
+                case ENCLOSED:
+                    return "(" + items.get(0).print() + ")";
+                default:
+                    return text;
+            }
+        }
+
+        /**
+         * OpenApiAnnotations.toValue와 같은 JSON 값
+         */
+        Object json() {
+            switch (kind) {
+                case STRING:
+                    if (text.indexOf('\\') >= 0) throw new Unsupported("이스케이프가 있는 문자열 값");
+                    return text;
+                case BOOLEAN:
+                    return Boolean.valueOf(text);
+                case INTEGER:
+                    return intValue(text);
+                case ARRAY: {
+                    List<Object> values = new ArrayList<>();
+                    for (Value item : items) values.add(item.json());
+                    return values;
+                }
+                case ANNOTATION:
+                    return annotation.attributes();
+                default:
+                    return print();
+            }
+        }
+
+        /**
+         * IntegerLiteralExpr.asNumber()와 같은 값 (2진/8진/16진, '_' 구분자)
+         */
+        private static Integer intValue(String literal) {
+            String digits = literal.replace("_", "");
+            try {
+                if (digits.startsWith("0x") || digits.startsWith("0X")) {
+                    return Integer.parseUnsignedInt(digits.substring(2), 16);
+                }
+                if (digits.startsWith("0b") || digits.startsWith("0B")) {
+                    return Integer.parseUnsignedInt(digits.substring(2), 2);
+                }
+                if (digits.length() > 1 && digits.startsWith("0")) {
+                    return Integer.parseUnsignedInt(digits.substring(1), 8);
+                }
+                return Integer.parseInt(digits);
+            } catch (NumberFormatException e) {
+                throw new Unsupported("정수 리터럴: " + literal);
+            }
+        }
+    }
+
+    /**
+     * 스캐너로 처리할 수 없는 구성 (호출 측은 JavaParser로 다시 처리)
+     */
+    static final class Unsupported extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Unsupported(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.swaggeragent.extractor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 한 번의 추출 실행 동안 공유되는 문자열/배열 풀
+ *
+ * 타입명(String, Long, ResponseEntity<...>), 파라미터명, 경로, 어노테이션 이름 배열처럼
+ * 엔드포인트마다 반복되는 값을 하나의 인스턴스로 합쳐 모델이 유지하는 힙을 줄임
+ * - JVM 전역 String.intern()과 달리 실행이 끝나면 풀과 함께 수거됨
+ * - 반환된 배열은 여러 모델이 공유하므로 수정하면 안 됨
+ */
+public class StringPool {
+    public static final String[] EMPTY_ARRAY = new String[0];
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+    private final Map<List<String>, String[]> arrays = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 내용의 문자열이 이미 있으면 그 인스턴스 반환
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = strings.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    /**
+     * 같은 내용의 배열이 이미 있으면 그 인스턴스 반환 (빈 배열은 공용 상수)
+     */
+    public String[] intern(String[] values) {
+        if (values == null) {
+            return null;
+        }
+        if (values.length == 0) {
+            return EMPTY_ARRAY;
+        }
+        for (int i = 0; i < values.length; i++) {
+            values[i] = intern(values[i]);
+        }
+        String[] existing = arrays.putIfAbsent(Arrays.asList(values), values);
+        return existing != null ? existing : values;
+    }
+
+    public int size() {
+        return strings.size() + arrays.size();
+    }
+}
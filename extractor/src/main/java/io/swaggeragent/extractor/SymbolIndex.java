@@ -0,0 +1,378 @@
+package io.swaggeragent.extractor;
+
+import io.swaggeragent.extractor.model.SymbolInfo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+
+/**
+ * 실행 간에 공유되는 메모리 맵 기반 클래스 심볼 인덱스
+ *
+ * 프로젝트의 모든 .java 파일에 대해 클래스 단순명, FQN, 파일 경로, 수정 시각, 컨트롤러/DTO 플래그를
+ * 단순명 기준으로 정렬된 바이너리 파일(out/symbols.idx)에 저장
+ * - 열기: 파일을 매핑만 하므로 역직렬화 없이 O(1)
+ * - 조회: 매핑된 버퍼에서 이진 탐색, 찾은 항목만 mtime으로 지연 검증
+ * - 갱신: mtime이 바뀐 항목은 제자리에서 갱신, 삭제된 파일은 삭제 플래그 설정
+ * - 인덱스에 없는 클래스를 조회하면 실행당 최대 한 번만 프로젝트를 다시 스캔하여 재구성
+ *   (재구성 후에도 없는 이름은 기억하여 다시 찾지 않음, findIndexed()는 재구성하지 않음)
+ *
+ * 파일 형식 (빅엔디안)
+ *   헤더: MAGIC(4) VERSION(4) 항목수(4) 루트경로길이(4) 루트경로(UTF-8)
+ *   항목: 이름오프셋(4) 이름길이(4) FQN오프셋(4) FQN길이(4) 경로오프셋(4) 경로길이(4) mtime(8) 플래그(4)
+ *   문자열 영역: 항목이 참조하는 UTF-8 바이트
+ */
+public class SymbolIndex {
+    private static final int MAGIC = 0x53574749; // "SWGI"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int ENTRY_SIZE = 36;
+    private static final int MTIME_OFFSET = 24;
+    private static final int FLAGS_OFFSET = 32;
+
+    public static final int FLAG_CONTROLLER = 1;
+    public static final int FLAG_DTO = 2;
+    public static final int FLAG_DELETED = 4;
+
+    // 심볼 스캔에서 제외할 디렉토리
+    private static final Set<String> SKIPPED_DIRECTORIES = Set.of("build", "target", "node_modules");
+
+    private final Path projectRoot;
+
+    // null이면 디스크에 저장하지 않고 메모리에서만 사용
+    private final Path indexFile;
+
+    private ByteBuffer buffer;
+
+    private int entryCount;
+
+    private int entriesOffset;
+
+    // 이번 실행에서 이미 재구성했는지 여부
+    private boolean rebuilt;
+
+    // 재구성한 인덱스에도 없는 단순명 (재구성하면 비움)
+    private final Set<String> missing = new HashSet<>();
+
+    private SymbolIndex(Path projectRoot, Path indexFile) {
+        this.projectRoot = projectRoot.toAbsolutePath().normalize();
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * 인덱스 파일을 매핑하여 열기
+     * - 파일이 없거나 다른 프로젝트의 인덱스면 첫 조회 시 재구성
+     *
+     * @param projectRoot 심볼을 검색할 프로젝트 루트
+     * @param indexFile 인덱스 파일 경로 (null이면 메모리 전용)
+     */
+    public static SymbolIndex open(Path projectRoot, Path indexFile) {
+        SymbolIndex index = new SymbolIndex(projectRoot, indexFile);
+        if (indexFile != null && Files.isRegularFile(indexFile)) {
+            try {
+                index.map();
+            } catch (IOException | RuntimeException e) {
+                index.buffer = null; // 손상된 인덱스는 재구성
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 클래스 단순명으로 파일 경로 조회
+     */
+    public String findFile(String simpleName) {
+        return find(simpleName).map(SymbolInfo::getFilePath).orElse(null);
+    }
+
+    /**
+     * 클래스 단순명으로 심볼 조회
+     * - 같은 이름이 여러 개면 유효한 첫 번째 항목 반환
+     */
+    public Optional<SymbolInfo> find(String simpleName) {
+        return find(simpleName, true);
+    }
+
+    /**
+     * 클래스 단순명으로 심볼 조회 (없어도 재구성하지 않음)
+     * - 라이브러리 어노테이션/상위 타입처럼 대부분 프로젝트에 없는 이름을 확인할 때 사용
+     */
+    public Optional<SymbolInfo> findIndexed(String simpleName) {
+        return find(simpleName, false);
+    }
+
+    private Optional<SymbolInfo> find(String simpleName, boolean rebuildOnMiss) {
+        if (buffer == null) {
+            rebuild();
+        }
+        if (missing.contains(simpleName)) {
+            return Optional.empty();
+        }
+        Optional<SymbolInfo> symbol = lookup(simpleName);
+        if (symbol.isEmpty() && rebuildOnMiss && !rebuilt) {
+            // 인덱스 생성 이후 추가된 파일일 수 있으므로 한 번만 재구성
+            rebuild();
+            symbol = lookup(simpleName);
+        }
+        if (symbol.isEmpty() && rebuilt) {
+            missing.add(simpleName);
+        }
+        return symbol;
+    }
+
+    public int size() {
+        if (buffer == null) {
+            rebuild();
+        }
+        return entryCount;
+    }
+
+    /**
+     * 프로젝트를 스캔하여 인덱스를 다시 만들고 (디스크 모드면) 파일로 저장 후 매핑
+     */
+    public void rebuild() {
+        rebuilt = true;
+        missing.clear();
+        buffer = write(projectRoot, listSourceFiles(projectRoot));
+        readHeader();
+        if (indexFile != null) {
+            try {
+                persist();
+                map();
+            } catch (IOException e) {
+                System.err.println("심볼 인덱스 저장 중 오류 (메모리 인덱스로 계속): " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 프로젝트의 .java 파일 목록 (숨김/빌드 산출물 디렉토리 제외)
+     */
+    static List<Path> listSourceFiles(Path projectRoot) {
+        List<Path> files = new ArrayList<>();
+        try {
+            Files.walkFileTree(projectRoot, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    String name = dir.getFileName() != null ? dir.getFileName().toString() : "";
+                    if (!dir.equals(projectRoot) && (name.startsWith(".") || SKIPPED_DIRECTORIES.contains(name))) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (file.getFileName().toString().endsWith(".java")) {
+                        files.add(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("심볼 인덱스 스캔 중 오류: " + e.getMessage());
+        }
+        return files;
+    }
+
+    private Optional<SymbolInfo> lookup(String simpleName) {
+        byte[] key = simpleName.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = entryCount - 1;
+        int first = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareName(mid, key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                if (cmp == 0) first = mid;
+                high = mid - 1;
+            }
+        }
+        for (int i = first; i >= 0 && i < entryCount && compareName(i, key) == 0; i++) {
+            SymbolInfo symbol = validate(i, simpleName);
+            if (symbol != null) {
+                return Optional.of(symbol);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 항목의 파일 mtime을 확인하여 유효하면 심볼 반환
+     * - mtime이 바뀌었으면 제자리 갱신, 파일이 없으면 삭제 플래그 설정
+     */
+    private SymbolInfo validate(int i, String simpleName) {
+        int entry = entriesOffset + i * ENTRY_SIZE;
+        int flags = buffer.getInt(entry + FLAGS_OFFSET);
+        if ((flags & FLAG_DELETED) != 0) {
+            return null;
+        }
+        String filePath = readString(buffer.getInt(entry + 16), buffer.getInt(entry + 20));
+        long mtime;
+        try {
+            mtime = Files.getLastModifiedTime(Paths.get(filePath)).toMillis();
+        } catch (IOException e) {
+            buffer.putInt(entry + FLAGS_OFFSET, flags | FLAG_DELETED);
+            return null;
+        }
+        if (mtime != buffer.getLong(entry + MTIME_OFFSET)) {
+            flags = flagsOf(Paths.get(filePath), simpleName);
+            buffer.putLong(entry + MTIME_OFFSET, mtime);
+            buffer.putInt(entry + FLAGS_OFFSET, flags);
+        }
+        return new SymbolInfo(simpleName,
+            readString(buffer.getInt(entry + 8), buffer.getInt(entry + 12)),
+            filePath, mtime, (flags & FLAG_CONTROLLER) != 0, (flags & FLAG_DTO) != 0);
+    }
+
+    private int compareName(int i, byte[] key) {
+        int entry = entriesOffset + i * ENTRY_SIZE;
+        int offset = buffer.getInt(entry);
+        int length = buffer.getInt(entry + 4);
+        int n = Math.min(length, key.length);
+        for (int k = 0; k < n; k++) {
+            int cmp = Integer.compare(buffer.get(offset + k) & 0xff, key[k] & 0xff);
+            if (cmp != 0) return cmp;
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private String readString(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void readHeader() {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("심볼 인덱스 형식이 올바르지 않습니다");
+        }
+        entryCount = buffer.getInt(8);
+        int rootLength = buffer.getInt(12);
+        entriesOffset = HEADER_SIZE + rootLength;
+    }
+
+    private void map() throws IOException {
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            mapped.order(ByteOrder.BIG_ENDIAN);
+            buffer = mapped;
+        }
+        readHeader();
+        int rootLength = buffer.getInt(12);
+        if (!readString(HEADER_SIZE, rootLength).equals(projectRoot.toString())) {
+            buffer = null; // 다른 프로젝트의 인덱스
+        }
+    }
+
+    private void persist() throws IOException {
+        Files.createDirectories(indexFile.toAbsolutePath().getParent());
+        // 여러 프로세스/워커가 동시에 재구성해도 서로의 임시 파일을 덮어쓰지 않도록 고유한 이름 사용
+        Path temp = Files.createTempFile(indexFile.toAbsolutePath().getParent(), indexFile.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer out = buffer.duplicate();
+                out.clear();
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+            }
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 파일 목록으로 정렬된 인덱스 버퍼 생성
+     */
+    static ByteBuffer write(Path projectRoot, List<Path> files) {
+        List<byte[][]> entries = new ArrayList<>(files.size());
+        List<long[]> meta = new ArrayList<>(files.size());
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            String simpleName = fileName.substring(0, fileName.length() - ".java".length());
+            long mtime;
+            try {
+                mtime = Files.getLastModifiedTime(file).toMillis();
+            } catch (IOException e) {
+                continue;
+            }
+            entries.add(new byte[][] {
+                simpleName.getBytes(StandardCharsets.UTF_8),
+                qualifiedNameOf(projectRoot, file, simpleName).getBytes(StandardCharsets.UTF_8),
+                file.toString().getBytes(StandardCharsets.UTF_8)
+            });
+            meta.add(new long[] { mtime, flagsOf(file, simpleName) });
+        }
+
+        Integer[] order = new Integer[entries.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(entries.get(a)[0], entries.get(b)[0]));
+
+        byte[] root = projectRoot.toString().getBytes(StandardCharsets.UTF_8);
+        int stringsOffset = HEADER_SIZE + root.length + entries.size() * ENTRY_SIZE;
+        int stringsSize = 0;
+        for (byte[][] entry : entries) {
+            stringsSize += entry[0].length + entry[1].length + entry[2].length;
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(stringsOffset + stringsSize).order(ByteOrder.BIG_ENDIAN);
+        out.putInt(MAGIC).putInt(VERSION).putInt(entries.size()).putInt(root.length).put(root);
+        int cursor = stringsOffset;
+        for (int i : order) {
+            byte[][] entry = entries.get(i);
+            for (byte[] value : entry) {
+                out.putInt(cursor).putInt(value.length);
+                out.put(cursor, value);
+                cursor += value.length;
+            }
+            out.putLong(meta.get(i)[0]).putInt((int) meta.get(i)[1]);
+        }
+        return out;
+    }
+
+    /**
+     * 소스 루트(.../java/) 기준 상대 경로로 FQN 추정
+     */
+    private static String qualifiedNameOf(Path projectRoot, Path file, String simpleName) {
+        String relative = "/" + projectRoot.relativize(file.toAbsolutePath()).toString().replace('\\', '/');
+        int sourceRoot = relative.lastIndexOf("/java/");
+        if (sourceRoot < 0) {
+            return simpleName;
+        }
+        String path = relative.substring(sourceRoot + "/java/".length(), relative.length() - ".java".length());
+        return path.replace('/', '.');
+    }
+
+    /**
+     * 파일명/경로 패턴으로 컨트롤러/DTO 플래그 결정 (파싱 없이)
+     */
+    private static int flagsOf(Path file, String simpleName) {
+        boolean dto = simpleName.endsWith("Dto") ||
+                      simpleName.endsWith("DTO") ||
+                      simpleName.endsWith("Req") ||
+                      simpleName.endsWith("Res") ||
+                      simpleName.endsWith("Request") ||
+                      simpleName.endsWith("Response");
+        boolean controller = simpleName.endsWith("Controller") ||
+                             (!dto && file.toString().contains("controller"));
+        int flags = 0;
+        if (controller) flags |= FLAG_CONTROLLER;
+        if (dto) flags |= FLAG_DTO;
+        return flags;
+    }
+}
@@ -0,0 +1,341 @@
+package io.swaggeragent.extractor;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.PackageDeclaration;
+import com.github.javaparser.ast.body.AnnotationDeclaration;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import io.swaggeragent.extractor.model.SymbolInfo;
+
+import java.util.*;
+
+/**
+ * 컨트롤러의 상위 클래스/인터페이스와 컨트롤러 메타 어노테이션을 찾는 실행 단위 클래스 계층 인덱스
+ *
+ * 공통 인터페이스/추상 기본 컨트롤러에 선언된 매핑 메서드와 @RestController를 붙인 합성 어노테이션을 반영하기 위해
+ * - 타입마다 상위 클래스, 인터페이스, 파일, 선언된 매핑 메서드, 클래스의 @RequestMapping을 한 번만 모아 기억
+ * - 다른 파일의 타입은 심볼 인덱스로 파일을 찾고 ConstantResolver의 파싱 캐시를 공유하여 실행당 한 번만 파싱
+ *   (상위 타입을 상속하는 컨트롤러가 많아도 다시 파싱하지 않음)
+ * - 상위 타입 순서는 Spring의 어노테이션 탐색 순서: 인터페이스(와 그 상위 인터페이스) -> 상위 클래스 -> ...
+ * - 다른 파일의 타입은 같은 패키지이거나 프로젝트 타입을 import한 이름만 찾고, 심볼 인덱스에 없는 이름은 재구성하지 않음
+ *   (@Slf4j, @Validated, Serializable처럼 대부분의 어노테이션/상위 타입은 라이브러리 타입이므로 실행마다 인덱스를 다시 만들지 않도록)
+ * - 찾을 수 없는 타입(JDK/라이브러리)과 순환 상속은 건너뜀
+ * - 같은 파일의 타입은 컨트롤러를 순회할 때 넘겨받은 컴파일 단위에서 먼저 찾음 (기억하지 않음)
+ */
+public class TypeHierarchy {
+    // 상위 타입을 따라갈 최대 깊이
+    private static final int MAX_DEPTH = 8;
+
+    private final SymbolIndex symbolIndex;
+
+    private final ConstantResolver constantResolver;
+
+    // 단순명 -> 심볼 인덱스 항목 (재구성하지 않고 조회, 없으면 빈 값)
+    private final Map<String, Optional<SymbolInfo>> indexedSymbols = new HashMap<>();
+
+    // 단순명 -> 심볼 인덱스로 찾은 파일의 타입 선언 (찾지 못하면 빈 값)
+    private final Map<String, Optional<TypeDeclaration<?>>> indexedTypes = new HashMap<>();
+
+    // 심볼 인덱스로 찾은 타입 선언 -> 계층 항목
+    private final Map<TypeDeclaration<?>, HierarchyType> entries = new IdentityHashMap<>();
+
+    // 어노테이션 단순명 -> @Controller/@RestController 메타 어노테이션 여부 (계산 중에는 false로 두어 순환 차단)
+    private final Map<String, Boolean> controllerAnnotations = new HashMap<>();
+
+    TypeHierarchy(SymbolIndex symbolIndex, ConstantResolver constantResolver) {
+        this.symbolIndex = symbolIndex;
+        this.constantResolver = constantResolver;
+    }
+
+    /**
+     * 파일의 패키지와 static이 아닌 import 이름 (a.b.C, 와일드카드는 a.b.*)
+     * - 단순명이 프로젝트 타입을 가리키는지 확인하는 데 사용
+     */
+    static final class FileImports {
+        static final FileImports NONE = new FileImports("", List.of());
+
+        final String packageName;
+        final List<String> names;
+
+        FileImports(String packageName, List<String> names) {
+            this.packageName = packageName;
+            this.names = names;
+        }
+
+        static FileImports of(CompilationUnit cu) {
+            if (cu == null) {
+                return NONE;
+            }
+            String packageName = cu.getPackageDeclaration().map(PackageDeclaration::getNameAsString).orElse("");
+            List<String> names = new ArrayList<>(cu.getImports().size());
+            for (ImportDeclaration imported : cu.getImports()) {
+                if (!imported.isStatic()) {
+                    names.add(imported.isAsterisk() ? imported.getNameAsString() + ".*" : imported.getNameAsString());
+                }
+            }
+            return new FileImports(packageName, names);
+        }
+
+        /**
+         * 이 파일에서 단순명이 FQN 타입을 가리킬 수 있는지 확인 (단일 import, 와일드카드 import, 같은 패키지)
+         * - 심볼 인덱스가 패키지를 알 수 없는 항목(FQN이 단순명)은 다른 패키지에서 명시적으로 import하지 않았으면 허용
+         */
+        boolean refersTo(String simpleName, String qualifiedName) {
+            if (qualifiedName.equals(simpleName)) {
+                for (int i = 0; i < names.size(); i++) {
+                    if (names.get(i).endsWith("." + simpleName)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            int dot = qualifiedName.lastIndexOf('.');
+            String owner = qualifiedName.substring(0, dot);
+            for (int i = 0; i < names.size(); i++) {
+                String name = names.get(i);
+                if (name.equals(qualifiedName)
+                    || (name.length() == owner.length() + 2 && name.endsWith(".*") && name.startsWith(owner))) {
+                    return true;
+                }
+            }
+            return owner.equals(packageName);
+        }
+    }
+
+    /**
+     * 클래스/인터페이스 하나의 계층 정보
+     */
+    static final class HierarchyType {
+        final String name;
+        final String filePath;
+        final String superclass;
+        final List<String> interfaces;
+        final List<MethodDeclaration> mappingMethods;
+        // 클래스에 선언된 @RequestMapping (없으면 null)
+        final AnnotationExpr requestMapping;
+        // 상위 타입을 찾을 컴파일 단위와 그 파일의 import
+        private final CompilationUnit context;
+        private final FileImports imports;
+        // 상위 타입 목록 (처음 조회할 때 계산, 계산 중이면 빈 목록)
+        private List<HierarchyType> ancestors;
+
+        private HierarchyType(ClassOrInterfaceDeclaration declaration, String filePath) {
+            this.name = declaration.getNameAsString();
+            this.filePath = filePath;
+            this.context = declaration.findCompilationUnit().orElse(null);
+            this.imports = FileImports.of(context);
+            NodeList<ClassOrInterfaceType> extended = declaration.getExtendedTypes();
+            if (declaration.isInterface()) {
+                this.superclass = null;
+                this.interfaces = names(extended);
+            } else {
+                this.superclass = extended.isEmpty() ? null : extended.get(0).getNameAsString();
+                this.interfaces = names(declaration.getImplementedTypes());
+            }
+            List<MethodDeclaration> methods = new ArrayList<>();
+            AnnotationExpr mapping = null;
+            for (BodyDeclaration<?> member : declaration.getMembers()) {
+                if (member.isMethodDeclaration() && hasMappingAnnotation(member.asMethodDeclaration().getAnnotations())) {
+                    methods.add(member.asMethodDeclaration());
+                }
+            }
+            for (AnnotationExpr annotation : declaration.getAnnotations()) {
+                if (annotation.getNameAsString().equals("RequestMapping")) {
+                    mapping = annotation;
+                    break;
+                }
+            }
+            this.mappingMethods = methods;
+            this.requestMapping = mapping;
+        }
+    }
+
+    /**
+     * AST로 읽은 클래스의 상위 타입 (Spring 어노테이션 탐색 순서, 자신 제외)
+     *
+     * @param filePath 클래스가 있는 파일 (같은 파일의 상위 타입 항목에 기록)
+     */
+    List<HierarchyType> ancestors(ClassOrInterfaceDeclaration declaration, String filePath) {
+        CompilationUnit context = declaration.findCompilationUnit().orElse(null);
+        NodeList<ClassOrInterfaceType> extended = declaration.getExtendedTypes();
+        return declaration.isInterface()
+            ? collectAncestors(context, FileImports.of(context), null, names(extended), filePath, 0)
+            : collectAncestors(context, FileImports.of(context), extended.isEmpty() ? null : extended.get(0).getNameAsString(),
+                names(declaration.getImplementedTypes()), filePath, 0);
+    }
+
+    /**
+     * 스캐너로 읽은 클래스의 상위 타입 (같은 파일의 타입은 호출하는 쪽에서 제외해야 함)
+     */
+    List<HierarchyType> ancestors(String superclass, List<String> interfaces, FileImports imports) {
+        return collectAncestors(null, imports, superclass, interfaces, null, 0);
+    }
+
+    /**
+     * 어노테이션이 @Controller/@RestController를 (메타 어노테이션으로) 포함하는 합성 어노테이션인지 확인
+     *
+     * @param imports 어노테이션을 사용한 파일의 import (프로젝트 타입을 가리키는 이름만 찾음)
+     */
+    boolean isControllerAnnotation(String name, FileImports imports) {
+        AnnotationDeclaration declaration = annotationDeclaration(name, imports);
+        if (declaration == null) {
+            return false;
+        }
+        Boolean known = controllerAnnotations.get(name);
+        if (known != null) {
+            return known;
+        }
+        controllerAnnotations.put(name, false);
+        boolean controller = false;
+        FileImports metaImports = FileImports.of(declaration.findCompilationUnit().orElse(null));
+        for (AnnotationExpr meta : declaration.getAnnotations()) {
+            String metaName = meta.getNameAsString();
+            if (metaName.equals("RestController") || metaName.equals("Controller") || isControllerAnnotation(metaName, metaImports)) {
+                controller = true;
+                break;
+            }
+        }
+        controllerAnnotations.put(name, controller);
+        return controller;
+    }
+
+    /**
+     * 합성 어노테이션에 붙은 @RequestMapping (없으면 null)
+     */
+    AnnotationExpr composedRequestMapping(String annotationName, FileImports imports) {
+        AnnotationDeclaration declaration = annotationDeclaration(annotationName, imports);
+        if (declaration == null) {
+            return null;
+        }
+        for (AnnotationExpr meta : declaration.getAnnotations()) {
+            if (meta.getNameAsString().equals("RequestMapping")) {
+                return meta;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 실행이 끝난 뒤 기억한 항목 비우기 (파싱 캐시는 ConstantResolver가 관리)
+     */
+    void clear() {
+        indexedSymbols.clear();
+        indexedTypes.clear();
+        entries.clear();
+        controllerAnnotations.clear();
+    }
+
+    /**
+     * 인터페이스(와 그 상위 타입)를 먼저, 상위 클래스(와 그 상위 타입)를 나중에 중복 없이 수집
+     */
+    private List<HierarchyType> collectAncestors(CompilationUnit context, FileImports imports, String superclass,
+                                                 List<String> interfaces, String filePath, int depth) {
+        List<HierarchyType> result = new ArrayList<>();
+        if (depth >= MAX_DEPTH) {
+            return result;
+        }
+        Set<HierarchyType> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String name : interfaces) {
+            addWithAncestors(resolve(context, imports, name, filePath), result, seen, depth);
+        }
+        if (superclass != null) {
+            addWithAncestors(resolve(context, imports, superclass, filePath), result, seen, depth);
+        }
+        return result;
+    }
+
+    private void addWithAncestors(HierarchyType type, List<HierarchyType> result, Set<HierarchyType> seen, int depth) {
+        if (type == null || !seen.add(type)) {
+            return;
+        }
+        result.add(type);
+        if (type.ancestors == null) {
+            // 순환 상속이면 계산 중인 항목의 상위 타입은 빈 목록으로 보임
+            type.ancestors = List.of();
+            type.ancestors = collectAncestors(type.context, type.imports, type.superclass, type.interfaces, type.filePath,
+                depth + 1);
+        }
+        for (HierarchyType ancestor : type.ancestors) {
+            if (seen.add(ancestor)) {
+                result.add(ancestor);
+            }
+        }
+    }
+
+    /**
+     * 이름으로 상위 타입 찾기: 같은 파일의 타입을 먼저 보고, 없으면 심볼 인덱스로 찾은 파일의 타입
+     */
+    private HierarchyType resolve(CompilationUnit context, FileImports imports, String name, String filePath) {
+        if (context != null) {
+            for (TypeDeclaration<?> type : context.findAll(TypeDeclaration.class)) {
+                if (type.getNameAsString().equals(name)) {
+                    if (!type.isClassOrInterfaceDeclaration()) {
+                        return null;
+                    }
+                    HierarchyType entry = entries.get(type);
+                    return entry != null ? entry : new HierarchyType(type.asClassOrInterfaceDeclaration(), filePath);
+                }
+            }
+        }
+        return indexedType(name, imports);
+    }
+
+    private HierarchyType indexedType(String name, FileImports imports) {
+        TypeDeclaration<?> type = indexedDeclaration(name, imports);
+        if (type == null || !type.isClassOrInterfaceDeclaration()) {
+            return null;
+        }
+        return entries.computeIfAbsent(type,
+            t -> new HierarchyType(t.asClassOrInterfaceDeclaration(), indexedSymbols.get(name).map(SymbolInfo::getFilePath).orElse(null)));
+    }
+
+    private AnnotationDeclaration annotationDeclaration(String name, FileImports imports) {
+        TypeDeclaration<?> type = indexedDeclaration(name, imports);
+        return type != null && type.isAnnotationDeclaration() ? type.asAnnotationDeclaration() : null;
+    }
+
+    /**
+     * 파일의 import로 보아 프로젝트 타입을 가리키는 이름이면 심볼 인덱스로 찾은 파일의 타입 선언 (아니면 null)
+     */
+    private TypeDeclaration<?> indexedDeclaration(String name, FileImports imports) {
+        SymbolInfo symbol = indexedSymbols.computeIfAbsent(name, symbolIndex::findIndexed).orElse(null);
+        if (symbol == null || !imports.refersTo(name, symbol.getQualifiedName())) {
+            return null;
+        }
+        return indexedTypes.computeIfAbsent(name, simpleName -> {
+            CompilationUnit cu = constantResolver.compilationUnit(symbol.getFilePath()).orElse(null);
+            if (cu == null) {
+                return Optional.empty();
+            }
+            for (TypeDeclaration<?> type : cu.findAll(TypeDeclaration.class)) {
+                if (type.getNameAsString().equals(simpleName)) {
+                    return Optional.of(type);
+                }
+            }
+            return Optional.empty();
+        }).orElse(null);
+    }
+
+    private static boolean hasMappingAnnotation(NodeList<AnnotationExpr> annotations) {
+        for (int i = 0; i < annotations.size(); i++) {
+            if (SourceFileVisitor.isMappingAnnotation(annotations.get(i).getNameAsString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> names(NodeList<ClassOrInterfaceType> types) {
+        List<String> names = new ArrayList<>(types.size());
+        for (ClassOrInterfaceType type : types) {
+            names.add(type.getNameAsString());
+        }
+        return names;
+    }
+}
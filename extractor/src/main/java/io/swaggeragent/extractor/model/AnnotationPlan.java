@@ -0,0 +1,21 @@
+package io.swaggeragent.extractor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * apply 서브커맨드가 소스에 반영할 어노테이션 계획
+ * - endpoints.json과 같은 구조(controllers/dtoClasses)로 작성
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnnotationPlan {
+    private List<ClassAnnotationPlan> controllers;
+
+    private List<ClassAnnotationPlan> dtoClasses;
+}
@@ -0,0 +1,27 @@
+package io.swaggeragent.extractor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.List;
+
+/**
+ * 어노테이션 일괄 적용 결과
+ */
+@Getter
+@AllArgsConstructor
+public class ApplyResult {
+
+    private final int totalFiles;
+
+    private final List<String> changedFiles;
+
+    private final int unchangedFiles;
+
+    private final List<String> errors;
+
+    private final long elapsedMillis;
+
+    public double getFilesPerSecond() {
+        return elapsedMillis > 0 ? totalFiles * 1000.0 / elapsedMillis : totalFiles;
+    }
+}
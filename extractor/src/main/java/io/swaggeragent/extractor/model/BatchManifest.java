@@ -0,0 +1,18 @@
+package io.swaggeragent.extractor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * batch 서브커맨드가 한 JVM에서 처리할 프로젝트 목록
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchManifest {
+    private List<BatchProject> projects;
+}
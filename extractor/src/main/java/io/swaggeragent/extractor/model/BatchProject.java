@@ -0,0 +1,28 @@
+package io.swaggeragent.extractor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * batch 매니페스트의 프로젝트 항목
+ * - 상대 경로는 매니페스트 파일이 있는 디렉토리 기준
+ * - sourcePath가 없으면 projectRoot/src/main/java, output이 없으면 projectRoot/cursor-openapi-agent/out/endpoints.json
+ * - openapi가 있으면 endpoints.json 대신 OpenAPI 3 문서 골격으로 출력 (yaml, json 또는 빈 값이면 확장자로 결정)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchProject {
+    private String projectRoot;
+
+    private String sourcePath;
+
+    private String output;
+
+    private boolean onlyUndocumented;
+
+    private String openapi;
+}
@@ -0,0 +1,33 @@
+package io.swaggeragent.extractor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * batch 프로젝트 하나의 추출 결과/소요 시간
+ * - error가 있으면 추출에 실패한 프로젝트
+ */
+@Getter
+@AllArgsConstructor
+public class BatchProjectResult {
+
+    private final String projectRoot;
+
+    private final String outputFile;
+
+    private final int controllers;
+
+    private final int totalMethods;
+
+    private final int totalDtoClasses;
+
+    private final int skippedFiles;
+
+    private final long elapsedMillis;
+
+    private final String error;
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,28 @@
+package io.swaggeragent.extractor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * 클래스 단위 어노테이션 계획
+ * - filePath가 없으면 심볼 인덱스로 className의 파일을 찾음
+ * - annotations는 "@Tag(name = \"사용자\")" 처럼 소스 표현 그대로 작성
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClassAnnotationPlan {
+    private String className;
+
+    private String filePath;
+
+    private List<String> annotations;
+
+    private List<MethodAnnotationPlan> methods;
+
+    private List<MemberAnnotationPlan> fields;
+}
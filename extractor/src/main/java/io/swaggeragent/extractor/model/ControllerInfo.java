@@ -9,10 +9,10 @@ import java.util.Map;
 
 /**
  * 컨트롤러 클래스 정보를 저장하는 모델 클래스
- * - 컨트롤러의 기본 정보와 메서드 목록 포함
+ * - 컨트롤러의 기본 정보와 메서드 목록, 소스 파일 경로 포함
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ControllerInfo {
@@ -23,4 +23,6 @@ public class ControllerInfo {
     private List<MethodInfo> methods;
     
     private Map<String, Object> existingAnnotations;
+
+    private String filePath;
 }
\ No newline at end of file
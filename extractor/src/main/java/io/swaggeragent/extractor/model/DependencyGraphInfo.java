@@ -0,0 +1,21 @@
+package io.swaggeragent.extractor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.Map;
+
+/**
+ * 디스크에 저장되는 의존 그래프 (out/dependencies.json)
+ * - files: 파일 경로 -> 파일별 의존 정보
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DependencyGraphInfo {
+    private String projectRoot;
+
+    private Map<String, FileDependencies> files;
+}
@@ -23,4 +23,7 @@ public class DtoInfo {
     private Map<String, Object> existingAnnotations;
     
     private String filePath;
+
+    // 기존 @Schema 어노테이션으로 문서화가 완료되었는지 여부
+    private boolean documented;
 }
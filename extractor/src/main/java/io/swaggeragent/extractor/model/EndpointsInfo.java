@@ -1,20 +1,35 @@
 package io.swaggeragent.extractor.model;
 
+import io.swaggeragent.extractor.RouteIndex;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 /**
  * 추출된 엔드포인트 데이터를 저장하는 모델 클래스
  * - 컨트롤러 정보와 DTO 클래스 정보 포함
+ * - 중복/모호한 라우트 목록 포함
+ * - 크기/시간 제한이나 오류로 건너뛴 파일 목록 포함
+ * - 시간 예산(--budget) 안에 처리하지 못한 파일 목록 포함 (complete로 나중에 채움)
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class EndpointsInfo {
+    private static final Comparator<String> FILE_PATH_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
     private List<ControllerInfo> controllers;
     
     private List<DtoInfo> dtoClasses;
@@ -25,6 +40,12 @@ public class EndpointsInfo {
     
     private int totalDtoClasses;
 
+    private List<RouteConflict> routeConflicts;
+
+    private List<SkippedFile> skippedFiles;
+
+    private List<String> pendingFiles;
+
     public static EndpointsInfo ofControllers(List<ControllerInfo> controllers) {
         return EndpointsInfo.builder()
             .controllers(controllers)
@@ -34,6 +55,9 @@ public class EndpointsInfo {
                 .mapToInt(c -> c.getMethods() != null ? c.getMethods().size() : 0)
                 .sum())
             .totalDtoClasses(0)
+            .routeConflicts(RouteIndex.of(controllers).getConflicts())
+            .skippedFiles(List.of())
+            .pendingFiles(List.of())
             .build();
     }
 
@@ -47,7 +71,120 @@ public class EndpointsInfo {
                 .mapToInt(c -> c.getMethods() != null ? c.getMethods().size() : 0)
                 .sum())
             .totalDtoClasses(safeDtoClasses.size())
+            .routeConflicts(RouteIndex.of(controllers).getConflicts())
+            .skippedFiles(List.of())
+            .pendingFiles(List.of())
             .build();
     }
 
-}
\ No newline at end of file
+    /**
+     * 파일/실행/샤드 단위로 나누어 추출한 결과를 하나로 병합
+     * - 결과는 canonical()로 정리하므로 한 번에 추출한 결과와 같음
+     */
+    public static EndpointsInfo merge(List<EndpointsInfo> parts) {
+        List<ControllerInfo> mergedControllers = new ArrayList<>();
+        List<DtoInfo> mergedDtos = new ArrayList<>();
+        List<SkippedFile> mergedSkippedFiles = new ArrayList<>();
+        Set<String> mergedPendingFiles = new TreeSet<>();
+        for (EndpointsInfo part : parts) {
+            if (part.getPendingFiles() != null) {
+                mergedPendingFiles.addAll(part.getPendingFiles());
+            }
+            if (part.getSkippedFiles() != null) {
+                mergedSkippedFiles.addAll(part.getSkippedFiles());
+            }
+            if (part.getControllers() != null) {
+                mergedControllers.addAll(part.getControllers());
+            }
+            if (part.getDtoClasses() != null) {
+                mergedDtos.addAll(part.getDtoClasses());
+            }
+        }
+        EndpointsInfo merged = canonical(mergedControllers, mergedDtos, mergedSkippedFiles);
+        merged.setPendingFiles(new ArrayList<>(mergedPendingFiles));
+        return merged;
+    }
+
+    /**
+     * 파일 처리 순서나 분할 방식과 관계없이 같은 결과가 나오도록 정리하여 생성
+     * - 컨트롤러: 파일 경로 순서 (같은 파일 안에서는 선언 순서 유지)
+     * - DTO: 클래스명마다 하나만 남기고(자리표시자보다 실제 추출된 DTO, 그다음 파일 경로가 앞선 DTO) 클래스명 순서
+     * - 건너뛴 파일: 파일 경로 순서
+     */
+    public static EndpointsInfo canonical(List<ControllerInfo> controllers, Collection<DtoInfo> dtoClasses,
+                                          List<SkippedFile> skippedFiles) {
+        List<ControllerInfo> sortedControllers = new ArrayList<>(controllers);
+        sortedControllers.sort(Comparator.comparing(ControllerInfo::getFilePath, FILE_PATH_ORDER));
+
+        Map<String, DtoInfo> uniqueDtos = new TreeMap<>();
+        for (DtoInfo dto : dtoClasses) {
+            uniqueDtos.merge(dto.getClassName(), dto, (existing, candidate) -> preferred(existing, candidate));
+        }
+
+        List<SkippedFile> sortedSkippedFiles = new ArrayList<>(skippedFiles);
+        sortedSkippedFiles.sort(Comparator.comparing(SkippedFile::getFilePath, FILE_PATH_ORDER));
+
+        EndpointsInfo result = ofControllersAndDtos(sortedControllers, new ArrayList<>(uniqueDtos.values()));
+        result.setSkippedFiles(sortedSkippedFiles);
+        return result;
+    }
+
+    /**
+     * 같은 이름의 DTO 중 남길 DTO (입력 순서와 관계없이 같은 결과)
+     */
+    private static DtoInfo preferred(DtoInfo existing, DtoInfo candidate) {
+        if (isPlaceholder(existing) != isPlaceholder(candidate)) {
+            return isPlaceholder(existing) ? candidate : existing;
+        }
+        return FILE_PATH_ORDER.compare(candidate.getFilePath(), existing.getFilePath()) < 0 ? candidate : existing;
+    }
+
+    private static boolean isPlaceholder(DtoInfo dto) {
+        return (dto.getFields() == null || dto.getFields().isEmpty())
+            && (dto.getExistingAnnotations() == null || dto.getExistingAnnotations().isEmpty());
+    }
+
+    /**
+     * 기존 OpenAPI 어노테이션으로 문서화가 완료된 엔드포인트와 DTO를 제외한 결과 반환
+     * - 남은 메서드가 없는 컨트롤러는 제외하고 통계를 다시 계산
+     * - 라우트 충돌은 전체 엔드포인트로 찾고, 남은 핸들러가 하나라도 관련된 충돌만 유지
+     *   (문서화된 핸들러와 충돌하는 미문서화 핸들러도 보고되도록)
+     */
+    public EndpointsInfo onlyUndocumented() {
+        List<ControllerInfo> undocumentedControllers = controllers.stream()
+            .map(c -> ControllerInfo.builder()
+                .className(c.getClassName())
+                .requestMapping(c.getRequestMapping())
+                .existingAnnotations(c.getExistingAnnotations())
+                .filePath(c.getFilePath())
+                .methods(c.getMethods() == null ? List.of() : c.getMethods().stream()
+                    .filter(m -> !m.isDocumented())
+                    .collect(Collectors.toList()))
+                .build())
+            .filter(c -> !c.getMethods().isEmpty())
+            .collect(Collectors.toList());
+        List<DtoInfo> undocumentedDtos = dtoClasses == null ? List.of() : dtoClasses.stream()
+            .filter(d -> !d.isDocumented())
+            .collect(Collectors.toList());
+
+        Set<String> remainingHandlers = new HashSet<>();
+        for (ControllerInfo controller : undocumentedControllers) {
+            for (MethodInfo method : controller.getMethods()) {
+                remainingHandlers.add(controller.getClassName() + "#" + method.getMethodName());
+            }
+        }
+        List<RouteConflict> conflicts = new ArrayList<>();
+        for (RouteConflict conflict : RouteIndex.of(controllers).getConflicts()) {
+            if (conflict.getHandlers().stream().anyMatch(remainingHandlers::contains)) {
+                conflicts.add(conflict);
+            }
+        }
+
+        EndpointsInfo result = ofControllersAndDtos(undocumentedControllers, undocumentedDtos);
+        result.setRouteConflicts(conflicts);
+        result.setExtractedAt(extractedAt);
+        result.setSkippedFiles(skippedFiles != null ? skippedFiles : List.of());
+        result.setPendingFiles(pendingFiles != null ? pendingFiles : List.of());
+        return result;
+    }
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import java.util.Map;
 
 /**
  * DTO 필드 정보를 저장하는 모델 클래스
@@ -23,4 +24,6 @@ public class FieldInfo {
     private String description;
     
     private boolean required;
+
+    private Map<String, Object> existingAnnotations;
 }
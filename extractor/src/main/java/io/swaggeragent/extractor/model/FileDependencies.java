@@ -0,0 +1,24 @@
+package io.swaggeragent.extractor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * 소스 파일 하나의 의존 정보를 저장하는 모델 클래스
+ * - declaredTypes: 파일에 선언된 클래스 단순명 (중첩 타입 포함)
+ * - referencedTypes: 필드/메서드 시그니처/상속에서 참조하는 클래스 단순명 (제네릭 인자 포함, 메서드 본문 제외)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileDependencies {
+    private long lastModified;
+
+    private List<String> declaredTypes;
+
+    private List<String> referencedTypes;
+}
@@ -0,0 +1,27 @@
+package io.swaggeragent.extractor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 파일 하나의 추출 결과를 저장하는 모델 클래스 (EndpointExtractor가 파일 단위로 발행)
+ * - controllers/dtoClasses: 이 파일에서 새로 찾은 항목 (같은 실행에서 앞선 파일이 이미 찾은 DTO는 제외)
+ * - skippedFile: 건너뛴 파일이면 이유, 정상 처리했으면 null
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileExtractionResult {
+    private String filePath;
+
+    private List<ControllerInfo> controllers;
+
+    private List<DtoInfo> dtoClasses;
+
+    private SkippedFile skippedFile;
+}
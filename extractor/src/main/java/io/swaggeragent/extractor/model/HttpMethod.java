@@ -0,0 +1,47 @@
+package io.swaggeragent.extractor.model;
+
+/**
+ * 매핑 어노테이션으로 결정되는 HTTP 메서드
+ * - REQUEST: 메서드가 지정되지 않은 @RequestMapping
+ * - HEAD/OPTIONS/TRACE: @RequestMapping(method = RequestMethod.HEAD) 등으로만 지정
+ */
+public enum HttpMethod {
+    GET, POST, PUT, DELETE, PATCH, HEAD, OPTIONS, TRACE, REQUEST;
+
+    /**
+     * 매핑 어노테이션 이름으로 HTTP 메서드 결정 (예: GetMapping -> GET)
+     * - 매핑 어노테이션이 아니면 null
+     */
+    public static HttpMethod fromMappingAnnotation(String annotationName) {
+        switch (annotationName) {
+            case "GetMapping":
+                return GET;
+            case "PostMapping":
+                return POST;
+            case "PutMapping":
+                return PUT;
+            case "DeleteMapping":
+                return DELETE;
+            case "PatchMapping":
+                return PATCH;
+            case "RequestMapping":
+                return REQUEST;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * RequestMapping의 method 값으로 HTTP 메서드 결정 (예: RequestMethod.GET, GET -> GET)
+     * - RequestMethod 상수가 아니면 null
+     */
+    public static HttpMethod fromRequestMethod(String name) {
+        String constant = name.substring(name.lastIndexOf('.') + 1).trim();
+        for (HttpMethod method : values()) {
+            if (method != REQUEST && method.name().equals(constant)) {
+                return method;
+            }
+        }
+        return null;
+    }
+}
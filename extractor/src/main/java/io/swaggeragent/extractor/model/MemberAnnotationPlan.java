@@ -0,0 +1,20 @@
+package io.swaggeragent.extractor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * 필드/파라미터 단위 어노테이션 계획
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberAnnotationPlan {
+    private String name;
+
+    private List<String> annotations;
+}
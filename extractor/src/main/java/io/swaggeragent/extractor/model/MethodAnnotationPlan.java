@@ -0,0 +1,25 @@
+package io.swaggeragent.extractor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * 메서드 단위 어노테이션 계획
+ * - 오버로드된 메서드는 추출 결과의 lineNumber로 구분
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MethodAnnotationPlan {
+    private String methodName;
+
+    private int lineNumber;
+
+    private List<String> annotations;
+
+    private List<MemberAnnotationPlan> parameters;
+}
@@ -12,13 +12,13 @@ import java.util.Map;
  * - HTTP 메서드, 경로, 파라미터, 반환 타입 등 포함
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class MethodInfo {
     private String methodName;
     
-    private String httpMethod;
+    private HttpMethod httpMethod;
     
     private String path;
     
@@ -31,6 +31,12 @@ public class MethodInfo {
     private Map<String, Object> existingAnnotations;
     
     private int lineNumber;
+
+    // 기존 OpenAPI 어노테이션으로 문서화가 완료되었는지 여부
+    private boolean documented;
+
+    // 상위 인터페이스/클래스에서 상속한 매핑 메서드면 선언한 타입의 단순명 (lineNumber는 그 타입의 파일 기준, 컨트롤러에 선언되었으면 null)
+    private String declaredIn;
 }
 
 
@@ -0,0 +1,25 @@
+package io.swaggeragent.extractor.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * 파라미터 위치
+ * - JSON에는 소문자 값(path, query, body, header)으로 직렬화
+ */
+public enum ParameterIn {
+    PATH("path"),
+    QUERY("query"),
+    BODY("body"),
+    HEADER("header");
+
+    private final String value;
+
+    ParameterIn(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+}
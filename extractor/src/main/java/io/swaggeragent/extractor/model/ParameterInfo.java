@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import java.util.Map;
 
 /**
  * 메서드 파라미터 정보를 저장하는 모델 클래스
@@ -18,13 +19,15 @@ public class ParameterInfo {
     
     private String type;
     
-    private String in; // path, query, body, header
+    private ParameterIn in;
     
     private boolean required;
     
     private String[] validationAnnotations;
     
     private String description;
+
+    private Map<String, Object> existingAnnotations;
 }
 
 
@@ -0,0 +1,26 @@
+package io.swaggeragent.extractor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * 충돌하거나 중복된 라우트 정보를 저장하는 모델 클래스
+ * - DUPLICATE: 경로 변수 이름만 다른 동일한 매핑 (Spring 기동 시 Ambiguous mapping 오류)
+ * - AMBIGUOUS: 형태는 다르지만 같은 요청에 매칭될 수 있고 구체성이 같은 매핑
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteConflict {
+    private String type;
+
+    private String httpMethod;
+
+    private List<String> patterns;
+
+    private List<String> handlers;
+}
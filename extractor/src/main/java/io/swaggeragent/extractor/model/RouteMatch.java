@@ -0,0 +1,29 @@
+package io.swaggeragent.extractor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.Map;
+
+/**
+ * 라우트 조회 결과를 저장하는 모델 클래스
+ * - 요청을 처리하는 핸들러와 매칭된 경로 변수 포함
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteMatch {
+    private String httpMethod;
+
+    private String pattern;
+
+    private String controller;
+
+    private String methodName;
+
+    private int lineNumber;
+
+    private Map<String, String> pathVariables;
+}
@@ -0,0 +1,28 @@
+package io.swaggeragent.extractor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 추출하지 못하고 건너뛴 파일 정보를 저장하는 모델 클래스
+ * - TOO_LARGE: 파일 크기가 최대 크기를 넘어 읽지 않음
+ * - TIMEOUT: 파싱/순회가 파일당 제한 시간을 넘어 중단함
+ * - ERROR: 파싱할 수 없거나 처리 중 오류 발생
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkippedFile {
+    public static final String TOO_LARGE = "TOO_LARGE";
+    public static final String TIMEOUT = "TIMEOUT";
+    public static final String ERROR = "ERROR";
+
+    private String filePath;
+
+    private String reason;
+
+    private String message;
+}
@@ -0,0 +1,25 @@
+package io.swaggeragent.extractor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 심볼 인덱스 조회 결과 클래스
+ * - 클래스 단순명, FQN, 파일 경로, 수정 시각, 컨트롤러/DTO 여부
+ */
+@Getter
+@AllArgsConstructor
+public class SymbolInfo {
+
+    private final String simpleName;
+
+    private final String qualifiedName;
+
+    private final String filePath;
+
+    private final long lastModified;
+
+    private final boolean controller;
+
+    private final boolean dto;
+}
@@ -0,0 +1,101 @@
+package io.swaggeragent.gradle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.javaparser.JavaParser;
+import io.swaggeragent.extractor.ControllerExtractor;
+import io.swaggeragent.extractor.model.ControllerInfo;
+import io.swaggeragent.extractor.model.DtoInfo;
+import io.swaggeragent.extractor.model.EndpointsInfo;
+import io.swaggeragent.extractor.model.SkippedFile;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * 변경된 소스 파일들을 추출하여 파일별 결과(JSON)로 저장하는 워커 작업
+ * - 파일 하나의 결과만 담기도록 파일마다 추출 목록을 비우고 추출기/파서는 재사용
+ * - 결과의 파일 경로는 프로젝트 기준 상대 경로로 저장 (빌드 캐시가 다른 위치의 체크아웃에서도 같은 결과를 재사용)
+ */
+public abstract class ExtractEndpointsAction implements WorkAction<ExtractEndpointsAction.Parameters> {
+
+    public interface Parameters extends WorkParameters {
+        ListProperty<String> getSourceFiles();
+
+        // sourceFiles와 같은 순서의 결과 파일 경로
+        ListProperty<String> getStateFiles();
+
+        DirectoryProperty getProjectDirectory();
+
+        RegularFileProperty getSymbolIndexFile();
+
+        Property<Long> getMaxFileBytes();
+
+        Property<Long> getFileTimeoutMillis();
+    }
+
+    @Override
+    public void execute() {
+        List<ControllerInfo> controllers = new ArrayList<>();
+        Set<DtoInfo> dtoClasses = new HashSet<>();
+        ControllerExtractor extractor = new ControllerExtractor(new JavaParser(), controllers, dtoClasses);
+        extractor.setProjectRoot(getParameters().getProjectDirectory().get().getAsFile().toPath());
+        extractor.setSymbolIndexFile(getParameters().getSymbolIndexFile().get().getAsFile().toPath());
+        extractor.setMaxFileBytes(getParameters().getMaxFileBytes().get());
+        extractor.setFileTimeoutMillis(getParameters().getFileTimeoutMillis().get());
+
+        Path projectDirectory = getParameters().getProjectDirectory().get().getAsFile().toPath().toAbsolutePath().normalize();
+        ObjectMapper mapper = new ObjectMapper();
+        List<String> sourceFiles = getParameters().getSourceFiles().get();
+        List<String> stateFiles = getParameters().getStateFiles().get();
+        try {
+            for (int i = 0; i < sourceFiles.size(); i++) {
+                EndpointsInfo part = extractor.extractFromFiles(List.of(sourceFiles.get(i)));
+                relativizePaths(part, projectDirectory);
+                Path stateFile = Paths.get(stateFiles.get(i));
+                Files.createDirectories(stateFile.getParent());
+                mapper.writeValue(stateFile.toFile(), part);
+                controllers.clear();
+                dtoClasses.clear();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void relativizePaths(EndpointsInfo part, Path projectDirectory) {
+        for (ControllerInfo controller : part.getControllers()) {
+            controller.setFilePath(relativize(controller.getFilePath(), projectDirectory));
+        }
+        for (DtoInfo dto : part.getDtoClasses()) {
+            dto.setFilePath(relativize(dto.getFilePath(), projectDirectory));
+        }
+        for (SkippedFile skipped : part.getSkippedFiles()) {
+            skipped.setFilePath(relativize(skipped.getFilePath(), projectDirectory));
+        }
+        List<String> pendingFiles = new ArrayList<>(part.getPendingFiles().size());
+        for (String pendingFile : part.getPendingFiles()) {
+            pendingFiles.add(relativize(pendingFile, projectDirectory));
+        }
+        part.setPendingFiles(pendingFiles);
+    }
+
+    /**
+     * 프로젝트 안의 경로는 '/' 구분자의 상대 경로로 바꾸고, 프로젝트 밖의 경로는 그대로 둠
+     */
+    private static String relativize(String filePath, Path projectDirectory) {
+        if (filePath == null) return null;
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
+        if (!path.startsWith(projectDirectory)) return filePath;
+        return projectDirectory.relativize(path).toString().replace('\\', '/');
+    }
+}
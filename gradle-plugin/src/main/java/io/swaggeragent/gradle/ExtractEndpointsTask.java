@@ -0,0 +1,203 @@
+package io.swaggeragent.gradle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.swaggeragent.extractor.ControllerExtractor;
+import io.swaggeragent.extractor.DependencyGraph;
+import io.swaggeragent.extractor.SymbolIndex;
+import io.swaggeragent.extractor.model.EndpointsInfo;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.*;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.*;
+import org.gradle.work.ChangeType;
+import org.gradle.work.FileChange;
+import org.gradle.work.Incremental;
+import org.gradle.work.InputChanges;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
+
+import javax.inject.Inject;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 소스 세트에서 컨트롤러/DTO 메타데이터를 추출하는 증분/캐시 가능 태스크
+ *
+ * 파일별 추출 결과를 stateDirectory에 JSON으로 보관하고,
+ * Gradle이 알려주는 변경/삭제 파일만 Worker API로 다시 추출한 뒤 전체를 병합하여 출력
+ * - 입력이 바뀌지 않으면 Gradle이 태스크를 UP-TO-DATE(또는 FROM-CACHE)로 건너뜀
+ * - 전체 스캔과 같이 경로에 'controller'가 포함된 .java 파일만 추출 대상
+ * - 바뀐 파일이 DTO, 상수 클래스, 상위 타입, 합성 어노테이션이면 결과가 바뀌는 컨트롤러가 따로 있으므로
+ *   의존 그래프로 바뀐 파일을 (전이적으로) 참조하는 컨트롤러를 찾아 함께 다시 추출
+ */
+@CacheableTask
+public abstract class ExtractEndpointsTask extends DefaultTask {
+    // 워커 하나가 처리할 파일 수 (파서/심볼 인덱스를 파일 간에 재사용)
+    private static final int FILES_PER_WORK_ITEM = 64;
+
+    @Incremental
+    @InputFiles
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getSources();
+
+    @Input
+    public abstract Property<Boolean> getOnlyUndocumented();
+
+    // 파일당 최대 크기(바이트)와 파싱/순회 제한 시간(ms), 넘긴 파일은 skippedFiles에 기록
+    @Input
+    public abstract Property<Long> getMaxFileBytes();
+
+    @Input
+    public abstract Property<Long> getFileTimeoutMillis();
+
+    // DTO 파일 검색 기준 경로 (캐시 키에 절대 경로가 들어가지 않도록 입력에서 제외)
+    @Internal
+    public abstract DirectoryProperty getProjectDirectory();
+
+    // 실행 간에 재사용하는 심볼 인덱스 (결과에 영향을 주지 않는 캐시)
+    @Internal
+    public abstract RegularFileProperty getSymbolIndexFile();
+
+    // 컨트롤러가 아닌 파일이 바뀌었을 때 영향받는 컨트롤러를 찾는 의존 그래프 (결과에 영향을 주지 않는 캐시)
+    @Internal
+    public abstract RegularFileProperty getDependencyGraphFile();
+
+    @OutputDirectory
+    public abstract DirectoryProperty getStateDirectory();
+
+    @OutputFile
+    public abstract RegularFileProperty getOutputFile();
+
+    @Inject
+    protected abstract WorkerExecutor getWorkerExecutor();
+
+    @Inject
+    protected abstract FileSystemOperations getFileSystemOperations();
+
+    @TaskAction
+    public void extract(InputChanges inputChanges) throws IOException {
+        File stateDirectory = getStateDirectory().get().getAsFile();
+        if (!inputChanges.isIncremental()) {
+            // 이전 상태를 신뢰할 수 없으면 파일별 결과를 모두 지우고 전체 추출
+            getFileSystemOperations().delete(spec -> spec.delete(stateDirectory));
+        }
+        Files.createDirectories(stateDirectory.toPath());
+
+        List<String> sourceFiles = new ArrayList<>();
+        List<String> stateFiles = new ArrayList<>();
+        List<String> changedFiles = new ArrayList<>();
+        int removed = 0;
+        for (FileChange change : inputChanges.getFileChanges(getSources())) {
+            if (change.getFileType() == FileType.DIRECTORY) continue;
+            changedFiles.add(change.getFile().getAbsolutePath());
+            File stateFile = new File(stateDirectory, change.getNormalizedPath() + ".json");
+            if (change.getChangeType() == ChangeType.REMOVED) {
+                if (Files.deleteIfExists(stateFile.toPath())) removed++;
+                continue;
+            }
+            if (!ControllerExtractor.isControllerSource(Paths.get(change.getNormalizedPath()))) continue;
+            sourceFiles.add(change.getFile().getAbsolutePath());
+            stateFiles.add(stateFile.getAbsolutePath());
+        }
+        if (inputChanges.isIncremental() && !changedFiles.isEmpty()) {
+            addAffectedControllers(changedFiles, stateDirectory, sourceFiles, stateFiles);
+        }
+
+        if (!sourceFiles.isEmpty()) {
+            // 워커들이 같은 인덱스 파일을 매핑하도록 미리 생성 (없을 때만 스캔)
+            SymbolIndex.open(getProjectDirectory().get().getAsFile().toPath(),
+                getSymbolIndexFile().get().getAsFile().toPath()).size();
+
+            WorkQueue queue = getWorkerExecutor().noIsolation();
+            for (int from = 0; from < sourceFiles.size(); from += FILES_PER_WORK_ITEM) {
+                int to = Math.min(from + FILES_PER_WORK_ITEM, sourceFiles.size());
+                List<String> sources = sourceFiles.subList(from, to);
+                List<String> states = stateFiles.subList(from, to);
+                queue.submit(ExtractEndpointsAction.class, parameters -> {
+                    parameters.getSourceFiles().set(sources);
+                    parameters.getStateFiles().set(states);
+                    parameters.getProjectDirectory().set(getProjectDirectory());
+                    parameters.getSymbolIndexFile().set(getSymbolIndexFile());
+                    parameters.getMaxFileBytes().set(getMaxFileBytes());
+                    parameters.getFileTimeoutMillis().set(getFileTimeoutMillis());
+                });
+            }
+            queue.await();
+        }
+
+        EndpointsInfo merged = EndpointsInfo.merge(readStates(stateDirectory.toPath()));
+        if (getOnlyUndocumented().get()) {
+            merged = merged.onlyUndocumented();
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.writeValue(getOutputFile().get().getAsFile(), merged);
+
+        getLogger().lifecycle("extractEndpoints: 재추출 {}개, 삭제 {}개 / 컨트롤러 {}개, API 메소드 {}개, DTO {}개",
+            sourceFiles.size(), removed, merged.getControllers().size(), merged.getTotalMethods(),
+            merged.getTotalDtoClasses());
+        if (!merged.getSkippedFiles().isEmpty()) {
+            getLogger().warn("extractEndpoints: 건너뛴 파일 {}개 (endpoints.json의 skippedFiles 참고)",
+                merged.getSkippedFiles().size());
+        }
+    }
+
+    /**
+     * 바뀐 파일(DTO/상수 클래스/상위 타입/합성 어노테이션 등)을 참조하는 컨트롤러를 다시 추출 대상에 추가
+     * - 의존 그래프는 수정 시각이 바뀐 파일만 다시 분석 (처음에는 전체 분석)
+     * - 전체 추출에서는 모든 컨트롤러를 다시 추출하므로 호출하지 않음
+     */
+    private void addAffectedControllers(List<String> changedFiles, File stateDirectory,
+                                        List<String> sourceFiles, List<String> stateFiles) throws IOException {
+        DependencyGraph graph = DependencyGraph.open(getProjectDirectory().get().getAsFile().toPath(),
+            getDependencyGraphFile().get().getAsFile().toPath());
+        graph.refresh();
+        Set<String> affected = graph.affectedFiles(changedFiles);
+        graph.save();
+
+        // 소스 세트의 컨트롤러 파일 -> Gradle이 쓰는 정규화 경로 (결과 파일 이름)
+        Map<String, String> controllerSources = new HashMap<>();
+        getSources().getAsFileTree().visit(details -> {
+            if (!details.isDirectory() && ControllerExtractor.isControllerSource(Paths.get(details.getPath()))) {
+                controllerSources.put(details.getFile().toPath().toAbsolutePath().normalize().toString(), details.getPath());
+            }
+        });
+        Set<String> queued = new HashSet<>();
+        for (String sourceFile : sourceFiles) {
+            queued.add(Paths.get(sourceFile).toAbsolutePath().normalize().toString());
+        }
+        for (String file : affected) {
+            String normalizedPath = controllerSources.get(file);
+            if (normalizedPath != null && queued.add(file)) {
+                sourceFiles.add(file);
+                stateFiles.add(new File(stateDirectory, normalizedPath + ".json").getAbsolutePath());
+            }
+        }
+    }
+
+    /**
+     * 파일별 추출 결과를 경로 순서로 읽기 (실행마다 같은 순서로 병합)
+     */
+    private List<EndpointsInfo> readStates(Path stateDirectory) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        List<Path> stateFiles;
+        try (Stream<Path> paths = Files.walk(stateDirectory)) {
+            stateFiles = paths.filter(path -> path.toString().endsWith(".json"))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+        List<EndpointsInfo> parts = new ArrayList<>(stateFiles.size());
+        for (Path stateFile : stateFiles) {
+            parts.add(mapper.readValue(stateFile.toFile(), EndpointsInfo.class));
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,42 @@
+package io.swaggeragent.gradle;
+
+import io.swaggeragent.extractor.ControllerExtractor;
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.file.Directory;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.SourceSetContainer;
+
+/**
+ * java 플러그인이 적용된 프로젝트에 extractEndpoints 태스크를 등록하는 Gradle 플러그인
+ *
+ * 사용법:
+ *   plugins { id 'io.swaggeragent.extractor' }
+ *   ./gradlew extractEndpoints   // build/swagger-agent/endpoints.json 생성
+ */
+public class SwaggerAgentPlugin implements Plugin<Project> {
+
+    @Override
+    public void apply(Project project) {
+        project.getPluginManager().withPlugin("java", plugin -> {
+            SourceSetContainer sourceSets = project.getExtensions().getByType(SourceSetContainer.class);
+            SourceSet main = sourceSets.getByName(SourceSet.MAIN_SOURCE_SET_NAME);
+            Provider<Directory> outputDir = project.getLayout().getBuildDirectory().dir("swagger-agent");
+
+            project.getTasks().register("extractEndpoints", ExtractEndpointsTask.class, task -> {
+                task.setGroup("documentation");
+                task.setDescription("컨트롤러/DTO 메타데이터를 endpoints.json으로 추출합니다 (변경된 파일만 재추출)");
+                task.getSources().from(main.getJava());
+                task.getOnlyUndocumented().convention(false);
+                task.getMaxFileBytes().convention(ControllerExtractor.DEFAULT_MAX_FILE_BYTES);
+                task.getFileTimeoutMillis().convention(ControllerExtractor.DEFAULT_FILE_TIMEOUT_MILLIS);
+                task.getProjectDirectory().set(project.getLayout().getProjectDirectory());
+                task.getStateDirectory().convention(outputDir.map(dir -> dir.dir("files")));
+                task.getSymbolIndexFile().convention(outputDir.map(dir -> dir.file("symbols.idx")));
+                task.getDependencyGraphFile().convention(outputDir.map(dir -> dir.file("dependencies.json")));
+                task.getOutputFile().convention(outputDir.map(dir -> dir.file("endpoints.json")));
+            });
+        });
+    }
+}
@@ -7,12 +7,16 @@ PROJECT_ROOT="$(pwd)"
 AGENT_ROOT="$PROJECT_ROOT/cursor-openapi-agent"
 
 EXTRACTOR_JAR="$AGENT_ROOT/extractor/build/libs/swagger-agent-extractor.jar"
+CDS_ARCHIVE="$AGENT_ROOT/extractor/build/libs/swagger-agent-extractor.jsa"
 OUTPUT_FILE="$AGENT_ROOT/out/endpoints.json"
 SOURCE_PATH="$PROJECT_ROOT/src/main/java"
 
 # 파라미터 파싱
 FILES_MODE=false
+CHANGED_MODE=false
+STDIN_MODE=false
 SELECTED_FILES=()
+EXTRA_ARGS=()
 
 # 명령행 인수 파싱
 while [[ $# -gt 0 ]]; do
@@ -26,16 +30,52 @@ while [[ $# -gt 0 ]]; do
                 shift
             done
             ;;
+        --changed)
+            # 변경 파일과 이를 참조하는 컨트롤러/DTO만 추출 (파일 생략 시 마지막 실행 이후 수정된 파일)
+            CHANGED_MODE=true
+            shift
+            while [[ $# -gt 0 && ! "$1" =~ ^-- ]]; do
+                SELECTED_FILES+=("$1")
+                shift
+            done
+            ;;
+        --only-undocumented|--max-file-size=*|--file-timeout=*|--shard=*|--layout=*|--engine=*|--budget=*|--background)
+            EXTRA_ARGS+=("$1")
+            shift
+            ;;
+        --openapi)
+            # endpoints.json 대신 OpenAPI 3 문서 골격(YAML) 출력
+            EXTRA_ARGS+=("$1")
+            OUTPUT_FILE="$AGENT_ROOT/out/openapi.yaml"
+            shift
+            ;;
+        --stdin)
+            # 에디터 연동: 표준 입력의 NDJSON({path, content})을 줄 단위로 추출해 표준 출력으로 응답
+            STDIN_MODE=true
+            shift
+            ;;
         -h|--help)
-            echo "사용법: $0 [--files 파일1 파일2 ...]"
+            echo "사용법: $0 [--files 파일1 파일2 ... | --changed [파일 ...]] [--only-undocumented] [--openapi] [--stdin] [--max-file-size=KB] [--file-timeout=ms] [--layout=normalized] [--engine=scanner] [--budget=ms [--background]]"
             echo ""
             echo "옵션:"
             echo "  --files 파일1 파일2 ...    특정 파일들에서만 메타데이터 추출"
+            echo "  --changed [파일 ...]       변경 파일과 이를 참조하는 컨트롤러/DTO만 추출 (생략 시 수정된 파일 자동 감지)"
+            echo "  --only-undocumented        OpenAPI 주석이 이미 완성된 엔드포인트/DTO 제외"
+            echo "  --openapi                  out/openapi.yaml에 OpenAPI 3 문서 골격 출력"
+            echo "  --stdin                    표준 입력의 저장되지 않은 버퍼(NDJSON)를 줄 단위로 추출"
+            echo "  --max-file-size=KB         이보다 큰 파일은 건너뜀 (기본 2048, 0이면 제한 없음)"
+            echo "  --file-timeout=ms          파일당 파싱/순회 제한 시간 (기본 5000, 0이면 제한 없음)"
+            echo "  --shard=i/n                전체 스캔 대상을 n개로 나눈 것 중 i번째만 추출 (merge로 병합)"
+            echo "  --layout=normalized        타입/어노테이션 배열을 표로 분리하고 ID로 참조하는 endpoints.json 출력"
+            echo "  --engine=scanner           메서드 본문을 건너뛰는 선언부 스캐너로 추출 (처리할 수 없는 파일만 AST로 다시 처리)"
+            echo "  --budget=ms                시간 예산 안에 지정/최근 수정 파일, 컨트롤러, DTO 순으로 추출 (남은 파일은 pendingFiles)"
+            echo "  --background               --budget으로 남은 파일을 백그라운드에서 이어서 추출하여 결과 완성"
             echo "  -h, --help                 이 도움말 표시"
             echo ""
             echo "예시:"
             echo "  $0                         # src/main/java 전체 스캔"
             echo "  $0 --files UserController.java UserDto.java  # 선택된 파일만"
+            echo "  $0 --changed src/main/java/com/example/dto/UserResponse.java  # DTO를 참조하는 컨트롤러까지"
             exit 0
             ;;
         *)
@@ -46,8 +86,24 @@ while [[ $# -gt 0 ]]; do
     esac
 done
 
+# stdin 모드: 표준 출력이 응답 채널이므로 안내 메시지 없이 바로 실행
+if [ "$STDIN_MODE" = true ]; then
+    if [ ! -f "$EXTRACTOR_JAR" ]; then
+        (cd "$AGENT_ROOT/extractor" && ./gradlew jar cdsArchive -q) >&2
+    fi
+    JAVA_OPTS=(-XX:+UseSerialGC -Xshare:auto)
+    if [ -f "$CDS_ARCHIVE" ]; then
+        JAVA_OPTS+=(-XX:SharedArchiveFile="$CDS_ARCHIVE")
+    fi
+    exec java "${JAVA_OPTS[@]}" -cp "$EXTRACTOR_JAR" io.swaggeragent.extractor.Main \
+      --stdin "${EXTRA_ARGS[@]}"
+fi
+
 # 모드에 따른 메시지 출력
-if [ "$FILES_MODE" = true ]; then
+if [ "$CHANGED_MODE" = true ]; then
+    echo "🔍 변경 영향 범위의 메타데이터 추출 중..."
+    echo "변경 파일: ${SELECTED_FILES[*]:-(마지막 실행 이후 수정된 파일)}"
+elif [ "$FILES_MODE" = true ]; then
     echo "🔍 선택된 파일들에서 메타데이터 추출 중..."
     echo "선택된 파일: ${SELECTED_FILES[*]}"
 else
@@ -89,19 +145,35 @@ mkdir -p "$(dirname "$OUTPUT_FILE")"
 if [ ! -f "$EXTRACTOR_JAR" ]; then
     echo "📦 추출기 빌드 중..."
     cd "$AGENT_ROOT/extractor"
-    ./gradlew build -q
+    ./gradlew jar cdsArchive -q
     cd "$PROJECT_ROOT"
 fi
 
+# JVM 옵션: 짧은 실행이 대부분이므로 시작 시간 위주로 설정
+JAVA_OPTS=(-XX:+UseSerialGC -Xshare:auto)
+if [ -f "$CDS_ARCHIVE" ]; then
+    # AppCDS 아카이브가 있으면 클래스 로딩/검증 생략 (JDK/jar 불일치 시 JVM이 무시)
+    JAVA_OPTS+=(-XX:SharedArchiveFile="$CDS_ARCHIVE")
+fi
+if [ "$FILES_MODE" = true ] || [ "$CHANGED_MODE" = true ]; then
+    # 파일 몇 개만 처리하는 경우 C2 컴파일 비용이 이득보다 큼
+    JAVA_OPTS+=(-XX:TieredStopAtLevel=1)
+fi
+
 # Run extraction
-if [ "$FILES_MODE" = true ]; then
+if [ "$CHANGED_MODE" = true ]; then
+    # 변경 영향 모드 (삭제된 파일도 변경 파일로 지정 가능)
+    java "${JAVA_OPTS[@]}" -cp "$EXTRACTOR_JAR" io.swaggeragent.extractor.Main \
+      --changed "${SELECTED_FILES[@]}" \
+      --out="$OUTPUT_FILE" "${EXTRA_ARGS[@]}"
+elif [ "$FILES_MODE" = true ]; then
     # 선택적 파일 모드
-    java -cp "$EXTRACTOR_JAR" io.swaggeragent.extractor.Main \
+    java "${JAVA_OPTS[@]}" -cp "$EXTRACTOR_JAR" io.swaggeragent.extractor.Main \
       --files "${SELECTED_FILES[@]}" \
-      --out="$OUTPUT_FILE"
+      --out="$OUTPUT_FILE" "${EXTRA_ARGS[@]}"
 else
     # 전체 스캔 모드
-    java -cp "$EXTRACTOR_JAR" io.swaggeragent.extractor.Main \
+    java "${JAVA_OPTS[@]}" -cp "$EXTRACTOR_JAR" io.swaggeragent.extractor.Main \
       --src="$SOURCE_PATH" \
-      --out="$OUTPUT_FILE"
+      --out="$OUTPUT_FILE" "${EXTRA_ARGS[@]}"
 fi
\ No newline at end of file